@@ -0,0 +1,95 @@
+package arena.bench;
+
+import arena.MemoryArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArenaAllocBenchmark {
+    private static final int BATCH = 1024;
+    private static final int ALIGNMENT = 64;
+
+    @Param({"8", "64", "512"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean stats;
+
+    private MemoryArena arena;
+    private int[] freedAddrs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arena = new MemoryArena(BATCH * (size + ALIGNMENT));
+        freedAddrs = new int[BATCH];
+        if (stats) {
+            arena.enableStats();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int alloc() {
+        arena.reset();
+        int addr = 0;
+        for (int i = 0; i < BATCH; i++) {
+            addr = arena.alloc(size);
+        }
+        return addr;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int allocAligned() {
+        arena.reset();
+        int addr = 0;
+        for (int i = 0; i < BATCH; i++) {
+            addr = arena.allocAligned(size, ALIGNMENT);
+        }
+        return addr;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int allocFromFreeList() {
+        arena.reset();
+        for (int i = 0; i < BATCH; i++) {
+            freedAddrs[i] = arena.alloc(size);
+        }
+        for (int i = 0; i < BATCH - 1; i++) {
+            arena.free(freedAddrs[i], size);
+        }
+        int addr = 0;
+        for (int i = 0; i < BATCH - 1; i++) {
+            addr = arena.alloc(size);
+        }
+        return addr;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void baselineNewByteArray(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(new byte[size]);
+        }
+    }
+}
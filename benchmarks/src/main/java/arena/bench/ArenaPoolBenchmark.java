@@ -0,0 +1,90 @@
+package arena.bench;
+
+import arena.ArenaPool;
+import arena.MemoryArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArenaPoolBenchmark {
+    private static final int REQUEST_ALLOCS = 64;
+    private static final int REQUEST_BLOCK = 64;
+
+    @Param({"65536", "1048576"})
+    private int arenaSize;
+
+    private ArenaPool zeroingPool;
+    private ArenaPool nonZeroingPool;
+    private ArenaPool globalOnlyPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        zeroingPool = new ArenaPool(arenaSize, ByteOrder.BIG_ENDIAN, 64, 4, true);
+        nonZeroingPool = new ArenaPool(arenaSize, ByteOrder.BIG_ENDIAN, 64, 4, false);
+        globalOnlyPool = new ArenaPool(arenaSize, ByteOrder.BIG_ENDIAN, 64, 0, false);
+    }
+
+    private static long handleRequest(MemoryArena arena) {
+        long sum = 0;
+        for (int i = 0; i < REQUEST_ALLOCS; i++) {
+            int addr = arena.alloc(REQUEST_BLOCK);
+            arena.putLong(addr, i);
+            sum += arena.getLong(addr);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long freshArena() {
+        MemoryArena arena = new MemoryArena(arenaSize);
+        return handleRequest(arena);
+    }
+
+    @Benchmark
+    public long pooledZeroing() {
+        MemoryArena arena = zeroingPool.lease();
+        try {
+            return handleRequest(arena);
+        } finally {
+            zeroingPool.release(arena);
+        }
+    }
+
+    @Benchmark
+    public long pooledNoZeroing() {
+        MemoryArena arena = nonZeroingPool.lease();
+        try {
+            return handleRequest(arena);
+        } finally {
+            nonZeroingPool.release(arena);
+        }
+    }
+
+    @Benchmark
+    public long pooledGlobalStackOnly() {
+        MemoryArena arena = globalOnlyPool.lease();
+        try {
+            return handleRequest(arena);
+        } finally {
+            globalOnlyPool.release(arena);
+        }
+    }
+}
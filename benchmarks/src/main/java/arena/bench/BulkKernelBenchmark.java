@@ -0,0 +1,200 @@
+package arena.bench;
+
+import arena.ArrayStore;
+import arena.Comparison;
+import arena.ElementOp;
+import arena.ElementType;
+import arena.MemoryArena;
+import arena.VectorStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class BulkKernelBenchmark {
+    @Param({"1024", "1048576"})
+    private int count;
+
+    @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    private String order;
+
+    private VectorStore vectorStore;
+    private ArrayStore arrayStore;
+    private int vector;
+    private int filtered;
+    private int array;
+    private int longs;
+    private int doubles;
+    private int needle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ByteOrder byteOrder = order.equals("BIG_ENDIAN") ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        MemoryArena arena = new MemoryArena(count * 32 + 4096, byteOrder);
+        vectorStore = new VectorStore(arena);
+        arrayStore = new ArrayStore(arena);
+        vector = vectorStore.createVector(count);
+        filtered = vectorStore.createVector(count);
+        array = arrayStore.createArray(count, 4);
+        longs = vectorStore.createVector(ElementType.LONG, count);
+        doubles = vectorStore.createVector(ElementType.DOUBLE, count);
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt();
+            vectorStore.append(vector, value);
+            arrayStore.setInt(array, i, value);
+            vectorStore.appendLong(longs, (long) value << 16);
+            vectorStore.appendDouble(doubles, value * 0.5);
+        }
+        needle = vectorStore.get(vector, count - 1);
+    }
+
+    @Benchmark
+    public long sumKernel() {
+        return vectorStore.sum(vector);
+    }
+
+    @Benchmark
+    public long sumLoop() {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += vectorStore.get(vector, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arraySumKernel() {
+        return arrayStore.sum(array);
+    }
+
+    @Benchmark
+    public long arraySumLoop() {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += arrayStore.getInt(array, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int maxKernel() {
+        return vectorStore.max(vector);
+    }
+
+    @Benchmark
+    public int maxLoop() {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, vectorStore.get(vector, i));
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int indexOfKernel() {
+        return vectorStore.indexOf(vector, needle);
+    }
+
+    @Benchmark
+    public int indexOfLoop() {
+        for (int i = 0; i < count; i++) {
+            if (vectorStore.get(vector, i) == needle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int mapKernel() {
+        vectorStore.map(vector, ElementOp.XOR, 0x5A5A5A5A);
+        return vector;
+    }
+
+    @Benchmark
+    public int mapLoop() {
+        for (int i = 0; i < count; i++) {
+            vectorStore.set(vector, i, vectorStore.get(vector, i) ^ 0x5A5A5A5A);
+        }
+        return vector;
+    }
+
+    @Benchmark
+    public int fillKernel() {
+        arrayStore.fill(array, 7);
+        return array;
+    }
+
+    @Benchmark
+    public int fillLoop() {
+        for (int i = 0; i < count; i++) {
+            arrayStore.setInt(array, i, 7);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public int filterKernel() {
+        vectorStore.clear(filtered);
+        return vectorStore.filterInto(vector, Comparison.GT, 0, filtered);
+    }
+
+    @Benchmark
+    public int filterLoop() {
+        vectorStore.clear(filtered);
+        for (int i = 0; i < count; i++) {
+            int value = vectorStore.get(vector, i);
+            if (value > 0) {
+                vectorStore.append(filtered, value);
+            }
+        }
+        return vectorStore.getLength(filtered);
+    }
+
+    @Benchmark
+    public long longSumKernel() {
+        return vectorStore.sum(longs);
+    }
+
+    @Benchmark
+    public long longSumLoop() {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += vectorStore.getLong(longs, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleMaxKernel() {
+        return vectorStore.maxDouble(doubles);
+    }
+
+    @Benchmark
+    public double doubleMaxLoop() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, vectorStore.getDouble(doubles, i));
+        }
+        return max;
+    }
+}
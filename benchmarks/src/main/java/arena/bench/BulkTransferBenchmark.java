@@ -0,0 +1,79 @@
+package arena.bench;
+
+import arena.MemoryArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkTransferBenchmark {
+    @Param({"64", "4096"})
+    private int ints;
+
+    private MemoryArena arena;
+    private int src;
+    private int dst;
+    private int[] values;
+    private int[] copyTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arena = new MemoryArena(ints * 8);
+        src = arena.alloc(ints * 4);
+        dst = arena.alloc(ints * 4);
+        values = new int[ints];
+        Arrays.fill(values, 7);
+        copyTarget = new int[ints];
+    }
+
+    @Benchmark
+    public int elementCopy() {
+        for (int i = 0; i < ints; i++) {
+            arena.putInt(dst + (i * 4), arena.getInt(src + (i * 4)));
+        }
+        return arena.getInt(dst);
+    }
+
+    @Benchmark
+    public int bulkCopy() {
+        arena.copy(src, dst, ints * 4);
+        return arena.getInt(dst);
+    }
+
+    @Benchmark
+    public int elementPutInts() {
+        for (int i = 0; i < ints; i++) {
+            arena.putInt(src + (i * 4), values[i]);
+        }
+        return arena.getInt(src);
+    }
+
+    @Benchmark
+    public int bulkPutInts() {
+        arena.putInts(src, values, 0, ints);
+        return arena.getInt(src);
+    }
+
+    @Benchmark
+    public int baselineArrayCopy() {
+        System.arraycopy(values, 0, copyTarget, 0, ints);
+        return copyTarget[0];
+    }
+}
@@ -0,0 +1,114 @@
+package arena.bench;
+
+import arena.MemoryArena;
+import arena.VectorStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class ChunkedArenaBenchmark {
+    private static final int BLOCKS = 65536;
+    private static final int BLOCK_SIZE = 32;
+    private static final int FIRST_CHUNK = 64 * 1024;
+
+    @Param({"flat", "chunked"})
+    private String layout;
+
+    private MemoryArena arena;
+    private MemoryArena scratch;
+    private VectorStore vectorStore;
+    private int[] blocks;
+    private int[] randomOrder;
+    private int vector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arena = createArena();
+        scratch = createArena();
+        vectorStore = new VectorStore(arena);
+        blocks = new int[BLOCKS];
+        for (int i = 0; i < BLOCKS; i++) {
+            blocks[i] = arena.alloc(BLOCK_SIZE);
+            arena.putLong(blocks[i], i);
+        }
+        Random random = new Random(42);
+        randomOrder = new int[BLOCKS];
+        for (int i = 0; i < BLOCKS; i++) {
+            randomOrder[i] = blocks[random.nextInt(BLOCKS)];
+        }
+        vector = vectorStore.createVector(BLOCKS);
+        for (int i = 0; i < BLOCKS; i++) {
+            vectorStore.append(vector, i);
+        }
+    }
+
+    private MemoryArena createArena() {
+        if (layout.equals("chunked")) {
+            return MemoryArena.growable(FIRST_CHUNK);
+        }
+        return new MemoryArena(32 * 1024 * 1024);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public long sequentialGetLong() {
+        long sum = 0;
+        for (int i = 0; i < BLOCKS; i++) {
+            sum += arena.getLong(blocks[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public long randomGetLong() {
+        long sum = 0;
+        for (int i = 0; i < BLOCKS; i++) {
+            sum += arena.getLong(randomOrder[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public void sequentialPutLong() {
+        for (int i = 0; i < BLOCKS; i++) {
+            arena.putLong(blocks[i] + 8, i);
+        }
+    }
+
+    @Benchmark
+    public long vectorSum() {
+        return vectorStore.sum(vector);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public int allocAndReset() {
+        int mark = 0;
+        for (int i = 0; i < BLOCKS; i++) {
+            mark ^= scratch.alloc(BLOCK_SIZE);
+        }
+        scratch.reset();
+        return mark;
+    }
+}
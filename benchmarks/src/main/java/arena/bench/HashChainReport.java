@@ -0,0 +1,95 @@
+package arena.bench;
+
+import arena.HashStrategy;
+import arena.HashTableStore;
+import arena.MemoryArena;
+
+import java.util.Random;
+
+public class HashChainReport {
+    private static final int KEY_COUNT = 20_000;
+    private static final int LOOKUP_ROUNDS = 20;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        int[][] keySets = {sequentialKeys(), stridedKeys(64), stridedKeys(1024), randomKeys()};
+        String[] keySetNames = {"sequential", "stride 64", "stride 1024", "random"};
+        
+        System.out.println("HashTableStore chain lengths (" + KEY_COUNT + " keys, load factor <= 1.0)");
+        System.out.println();
+        System.out.printf("  %-12s %-8s %8s %10s %10s %8s %12s%n",
+            "keys", "hash", "buckets", "max chain", "avg probe", "empty %", "lookup ns");
+        
+        for (int s = 0; s < keySets.length; s++) {
+            for (HashStrategy strategy : HashStrategy.values()) {
+                report(keySetNames[s], strategy, keySets[s]);
+            }
+            System.out.println();
+        }
+    }
+
+    private static void report(String keySetName, HashStrategy strategy, int[] keys) {
+        MemoryArena arena = new MemoryArena(4 * 1024 * 1024);
+        HashTableStore hashTable = new HashTableStore(arena);
+        int tableAddr = hashTable.createHashTable(16, false, strategy, 0x5F3759DF);
+        for (int key : keys) {
+            hashTable.put(tableAddr, key, key);
+        }
+        
+        int bucketCount = hashTable.getBucketCount(tableAddr);
+        int maxChain = 0;
+        int emptyBuckets = 0;
+        long probeSum = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            int length = hashTable.getChainLength(tableAddr, i);
+            maxChain = Math.max(maxChain, length);
+            if (length == 0) {
+                emptyBuckets++;
+            }
+            probeSum += (long) length * (length + 1) / 2;
+        }
+        
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+            long start = System.nanoTime();
+            long acc = 0;
+            for (int key : keys) {
+                acc += hashTable.get(tableAddr, key);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            sink += acc;
+        }
+        
+        System.out.printf("  %-12s %-8s %8d %10d %10.2f %8.1f %12.1f%n",
+            keySetName, strategy, bucketCount, maxChain,
+            (double) probeSum / keys.length,
+            100.0 * emptyBuckets / bucketCount,
+            (double) best / keys.length);
+    }
+
+    private static int[] sequentialKeys() {
+        int[] keys = new int[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = i;
+        }
+        return keys;
+    }
+
+    private static int[] stridedKeys(int stride) {
+        int[] keys = new int[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = i * stride;
+        }
+        return keys;
+    }
+
+    private static int[] randomKeys() {
+        Random random = new Random(12345);
+        int[] keys = new int[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = random.nextInt();
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,170 @@
+package arena.bench;
+
+import arena.HashTableStore;
+import arena.IntHashTableStore;
+import arena.MemoryArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashTableStoreBenchmark {
+    private static final int KEY_COUNT = 4096;
+
+    @Param({"0.25", "0.5", "1.0"})
+    private double loadFactor;
+
+    private int bucketCount;
+    private int[] keys;
+    private int[] missingKeys;
+    private MemoryArena arena;
+    private HashTableStore hashTable;
+    private int tableAddr;
+    private MemoryArena intArena;
+    private IntHashTableStore intTable;
+    private int intTableAddr;
+    private Map<Integer, Integer> hashMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bucketCount = (int) (KEY_COUNT / loadFactor);
+        Random random = new Random(42);
+        keys = new int[KEY_COUNT];
+        missingKeys = new int[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = random.nextInt() | 1;
+            missingKeys[i] = keys[i] & ~1;
+        }
+        
+        arena = new MemoryArena(bucketCount * 8 + KEY_COUNT * 24 + 4096);
+        hashTable = new HashTableStore(arena);
+        tableAddr = fillTable();
+        
+        intArena = new MemoryArena(KEY_COUNT * 32 + 4096);
+        intTable = new IntHashTableStore(intArena);
+        intTableAddr = intTable.createTable(KEY_COUNT);
+        hashMap = new HashMap<>(bucketCount);
+        for (int key : keys) {
+            intTable.put(intTableAddr, key, key);
+            hashMap.put(key, key);
+        }
+    }
+
+    private int fillTable() {
+        arena.reset();
+        int addr = hashTable.createHashTable(bucketCount);
+        for (int key : keys) {
+            hashTable.put(addr, key, key);
+        }
+        return addr;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public int put() {
+        tableAddr = fillTable();
+        return tableAddr;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public int baselineHashMapPut() {
+        Map<Integer, Integer> map = new HashMap<>(bucketCount);
+        for (int key : keys) {
+            map.put(key, key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public long getHit() {
+        long sum = 0;
+        for (int key : keys) {
+            sum += hashTable.get(tableAddr, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public int getMiss() {
+        int found = 0;
+        for (int key : missingKeys) {
+            if (hashTable.get(tableAddr, key) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public long intTableGetHit() {
+        long sum = 0;
+        for (int key : keys) {
+            sum += intTable.get(intTableAddr, key, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public long baselineHashMapGetHit() {
+        long sum = 0;
+        for (int key : keys) {
+            sum += hashMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public int removeAndReinsert() {
+        for (int key : keys) {
+            hashTable.remove(tableAddr, key);
+            hashTable.put(tableAddr, key, key);
+        }
+        return hashTable.getSize(tableAddr);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public int intTableRemoveAndReinsert() {
+        for (int key : keys) {
+            intTable.remove(intTableAddr, key);
+            intTable.put(intTableAddr, key, key);
+        }
+        return intTable.size(intTableAddr);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public int baselineHashMapRemoveAndReinsert() {
+        for (int key : keys) {
+            hashMap.remove(key);
+            hashMap.put(key, key);
+        }
+        return hashMap.size();
+    }
+}
@@ -0,0 +1,91 @@
+package arena.bench;
+
+import arena.MemoryArena;
+import arena.NodeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NodeStoreBenchmark {
+    private static final int NODE_COUNT = 65536;
+
+    @Param({"sequential", "shuffled"})
+    private String layout;
+
+    private MemoryArena arena;
+    private NodeStore nodeStore;
+    private int headAddr;
+    private List<Integer> linkedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arena = new MemoryArena(NODE_COUNT * 16 + 4096);
+        nodeStore = new NodeStore(arena);
+        
+        int[] nodes = new int[NODE_COUNT];
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes[i] = nodeStore.createNode(i);
+        }
+        if (layout.equals("shuffled")) {
+            Random random = new Random(42);
+            for (int i = NODE_COUNT - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = nodes[i];
+                nodes[i] = nodes[j];
+                nodes[j] = tmp;
+            }
+        }
+        for (int i = 0; i < NODE_COUNT - 1; i++) {
+            nodeStore.setNext(nodes[i], nodes[i + 1]);
+        }
+        headAddr = nodes[0];
+        
+        linkedList = new LinkedList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            linkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NODE_COUNT)
+    public long traverse() {
+        long sum = 0;
+        int current = headAddr;
+        while (current != -1) {
+            sum += nodeStore.getValue(current);
+            current = nodeStore.getNext(current);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NODE_COUNT)
+    public long baselineLinkedListTraverse() {
+        long sum = 0;
+        for (int value : linkedList) {
+            sum += value;
+        }
+        return sum;
+    }
+}
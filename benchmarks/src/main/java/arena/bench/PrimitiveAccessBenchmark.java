@@ -0,0 +1,219 @@
+package arena.bench;
+
+import arena.AccessMode;
+import arena.BackingStore;
+import arena.DirectBufferBackingStore;
+import arena.HeapBackingStore;
+import arena.MemoryArena;
+import arena.SegmentBackingStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveAccessBenchmark {
+    private static final int SLOTS = 4096;
+
+    @Param({"heap", "direct", "segment"})
+    private String backend;
+
+    @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    private String order;
+
+    @Param({"CHECKED", "UNCHECKED"})
+    private AccessMode mode;
+
+    private MemoryArena arena;
+    private int base;
+    private ByteBuffer buffer;
+    private long[] longs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ByteOrder byteOrder = order.equals("BIG_ENDIAN") ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        arena = new MemoryArena(createStore(SLOTS * 8, byteOrder), mode);
+        base = arena.allocAligned(SLOTS * 8, 8);
+        buffer = ByteBuffer.allocate(SLOTS * 8).order(byteOrder);
+        longs = new long[SLOTS];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        arena.close();
+    }
+
+    private BackingStore createStore(int size, ByteOrder byteOrder) {
+        switch (backend) {
+            case "direct":
+                return new DirectBufferBackingStore(size, byteOrder);
+            case "segment":
+                return new SegmentBackingStore(size, byteOrder);
+            default:
+                return new HeapBackingStore(size, byteOrder);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void putByte() {
+        for (int i = 0; i < SLOTS; i++) {
+            arena.putByte(base + i, (byte) i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long getByte() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += arena.getByte(base + i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void putShort() {
+        for (int i = 0; i < SLOTS; i++) {
+            arena.putShort(base + (i * 2), (short) i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long getShort() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += arena.getShort(base + (i * 2));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void putChar() {
+        for (int i = 0; i < SLOTS; i++) {
+            arena.putChar(base + (i * 2), (char) i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long getChar() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += arena.getChar(base + (i * 2));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void putInt() {
+        for (int i = 0; i < SLOTS; i++) {
+            arena.putInt(base + (i * 4), i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long getInt() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += arena.getInt(base + (i * 4));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void putLong() {
+        for (int i = 0; i < SLOTS; i++) {
+            arena.putLong(base + (i * 8), i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long getLong() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += arena.getLong(base + (i * 8));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void putBoolean() {
+        for (int i = 0; i < SLOTS; i++) {
+            arena.putBoolean(base + i, (i & 1) == 0);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long getBoolean() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += arena.getBoolean(base + i) ? 1 : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void baselineByteBufferPutLong() {
+        for (int i = 0; i < SLOTS; i++) {
+            buffer.putLong(i * 8, i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long baselineByteBufferGetLong() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += buffer.getLong(i * 8);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public void baselineArrayPutLong() {
+        for (int i = 0; i < SLOTS; i++) {
+            longs[i] = i;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public long baselineArrayGetLong() {
+        long sum = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            sum += longs[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,129 @@
+package arena.bench;
+
+import arena.MemoryArena;
+import arena.StringCoder;
+import arena.StringStore;
+import arena.StringView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringStoreBenchmark {
+    @Param({"8", "64", "1024"})
+    private int length;
+
+    @Param({"LATIN1", "UTF16", "UTF8"})
+    private StringCoder coder;
+
+    private String value;
+    private String equalValue;
+    private MemoryArena arena;
+    private StringStore stringStore;
+    private int stringAddr;
+    private int equalStringAddr;
+    private Map<String, String> dedupMap;
+    private StringView view;
+    private String prefix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + (i % 26)));
+        }
+        value = sb.toString();
+        equalValue = new String(value.toCharArray());
+        
+        arena = new MemoryArena(length * 8 + 4096);
+        stringStore = new StringStore(arena);
+        stringAddr = stringStore.createString(value, coder);
+        equalStringAddr = stringStore.createString(equalValue, coder);
+        stringStore.intern(value);
+        dedupMap = new HashMap<>();
+        dedupMap.put(value, value);
+        view = stringStore.view(stringAddr);
+        prefix = value.substring(0, length / 2);
+    }
+
+    @Benchmark
+    public String roundTrip() {
+        int addr = stringStore.createString(value, coder);
+        String result = stringStore.getString(addr);
+        stringStore.freeString(addr);
+        return result;
+    }
+
+    @Benchmark
+    public String baselineCharArrayRoundTrip() {
+        return new String(value.toCharArray());
+    }
+
+    @Benchmark
+    public String getString() {
+        return stringStore.getString(stringAddr);
+    }
+
+    @Benchmark
+    public boolean contentEquals() {
+        return stringStore.contentEquals(stringAddr, equalStringAddr);
+    }
+
+    @Benchmark
+    public boolean baselineStringEquals() {
+        return value.equals(equalValue);
+    }
+
+    @Benchmark
+    public int internHit() {
+        return stringStore.intern(equalValue);
+    }
+
+    @Benchmark
+    public String baselineHashMapDedup() {
+        return dedupMap.get(equalValue);
+    }
+
+    @Benchmark
+    public int contentHash() {
+        return stringStore.contentHash(stringAddr);
+    }
+
+    @Benchmark
+    public boolean viewStartsWith() {
+        return view.bind(stringAddr).startsWith(prefix);
+    }
+
+    @Benchmark
+    public boolean baselineGetStringStartsWith() {
+        return stringStore.getString(stringAddr).startsWith(prefix);
+    }
+
+    @Benchmark
+    public int viewHashCode() {
+        return view.bind(stringAddr).hashCode();
+    }
+
+    @Benchmark
+    public int baselineGetStringHashCode() {
+        return stringStore.getString(stringAddr).hashCode();
+    }
+}
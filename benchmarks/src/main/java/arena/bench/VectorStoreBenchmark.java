@@ -0,0 +1,120 @@
+package arena.bench;
+
+import arena.AccessMode;
+import arena.MemoryArena;
+import arena.VectorStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorStoreBenchmark {
+    private static final int INITIAL_CAPACITY = 4;
+
+    @Param({"1024", "65536"})
+    private int count;
+
+    @Param({"CHECKED", "UNCHECKED"})
+    private AccessMode mode;
+
+    private MemoryArena growthArena;
+    private VectorStore growthStore;
+    private VectorStore vectorStore;
+    private int filledVector;
+    private List<Integer> filledList;
+    private int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        growthArena = new MemoryArena(count * 16 + 4096, ByteOrder.BIG_ENDIAN, mode);
+        growthStore = new VectorStore(growthArena);
+        vectorStore = new VectorStore(new MemoryArena(count * 4 + 4096, ByteOrder.BIG_ENDIAN, mode));
+        filledVector = vectorStore.createVector(count);
+        for (int i = 0; i < count; i++) {
+            vectorStore.append(filledVector, i);
+        }
+        values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i;
+        }
+        filledList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            filledList.add(i);
+        }
+    }
+
+    @Benchmark
+    public int appendWithGrowth() {
+        growthArena.reset();
+        int vectorAddr = growthStore.createVector(INITIAL_CAPACITY);
+        for (int i = 0; i < count; i++) {
+            growthStore.append(vectorAddr, i);
+        }
+        return vectorAddr;
+    }
+
+    @Benchmark
+    public int appendAfterReserve() {
+        growthArena.reset();
+        int vectorAddr = growthStore.createVector(INITIAL_CAPACITY);
+        growthStore.reserve(vectorAddr, count);
+        for (int i = 0; i < count; i++) {
+            growthStore.append(vectorAddr, i);
+        }
+        return vectorAddr;
+    }
+
+    @Benchmark
+    public int appendAllBulk() {
+        growthArena.reset();
+        int vectorAddr = growthStore.createVector(INITIAL_CAPACITY);
+        growthStore.appendAll(vectorAddr, values);
+        return vectorAddr;
+    }
+
+    @Benchmark
+    public int baselineArrayListAdd() {
+        List<Integer> list = new ArrayList<>(INITIAL_CAPACITY);
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += vectorStore.get(filledVector, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long baselineArrayListGet() {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += filledList.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,20 @@
+package arena;
+
+public enum AccessMode {
+    CHECKED,
+    UNCHECKED;
+
+    public static final String PROPERTY = "arena.accessMode";
+
+    public static AccessMode defaultMode() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isEmpty()) {
+            return CHECKED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + PROPERTY + " value: " + value);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package arena;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+final class AllocationStats {
+    static final int SIZE_CLASSES = 24;
+
+    private final LongAdder allocations = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder frees = new LongAdder();
+    private final LongAdder freedBytes = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder outOfMemoryErrors = new LongAdder();
+    private final LongAccumulator peakUsage = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] sizeClassCounts = new LongAdder[SIZE_CLASSES];
+    private final LongAdder[] sizeClassBytes = new LongAdder[SIZE_CLASSES];
+
+    AllocationStats() {
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            sizeClassCounts[i] = new LongAdder();
+            sizeClassBytes[i] = new LongAdder();
+        }
+    }
+
+    static int sizeClass(int size) {
+        if (size <= 1) {
+            return 0;
+        }
+        return Math.min(32 - Integer.numberOfLeadingZeros(size - 1), SIZE_CLASSES - 1);
+    }
+
+    static long sizeClassLimit(int sizeClass) {
+        return sizeClass == SIZE_CLASSES - 1 ? Long.MAX_VALUE : 1L << sizeClass;
+    }
+
+    void recordAlloc(int size) {
+        int sizeClass = sizeClass(size);
+        allocations.increment();
+        allocatedBytes.add(size);
+        sizeClassCounts[sizeClass].increment();
+        sizeClassBytes[sizeClass].add(size);
+    }
+
+    void recordPeak(int boundary) {
+        peakUsage.accumulate(boundary);
+    }
+
+    void recordFree(int size) {
+        frees.increment();
+        freedBytes.add(size);
+    }
+
+    void recordReset() {
+        resets.increment();
+    }
+
+    void recordOutOfMemory(int requestedSize, int available, int capacity) {
+        outOfMemoryErrors.increment();
+        ArenaOutOfMemoryEvent event = new ArenaOutOfMemoryEvent();
+        if (event.shouldCommit()) {
+            event.requestedSize = requestedSize;
+            event.available = available;
+            event.capacity = capacity;
+            event.commit();
+        }
+    }
+
+    long allocations() {
+        return allocations.sum();
+    }
+
+    long allocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    long frees() {
+        return frees.sum();
+    }
+
+    long freedBytes() {
+        return freedBytes.sum();
+    }
+
+    long resets() {
+        return resets.sum();
+    }
+
+    long outOfMemoryErrors() {
+        return outOfMemoryErrors.sum();
+    }
+
+    long peakUsage() {
+        return peakUsage.get();
+    }
+
+    long[] sizeClassCounts() {
+        return sum(sizeClassCounts);
+    }
+
+    long[] sizeClassBytes() {
+        return sum(sizeClassBytes);
+    }
+
+    void clear(int currentBoundary) {
+        allocations.reset();
+        allocatedBytes.reset();
+        frees.reset();
+        freedBytes.reset();
+        resets.reset();
+        outOfMemoryErrors.reset();
+        peakUsage.reset();
+        peakUsage.accumulate(currentBoundary);
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            sizeClassCounts[i].reset();
+            sizeClassBytes[i].reset();
+        }
+    }
+
+    private static long[] sum(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,173 @@
+package arena;
+
+import jdk.jfr.FlightRecorder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+public class ArenaMetrics implements ArenaMetricsMXBean, AutoCloseable {
+    private final MemoryArena arena;
+    private final String name;
+    private final ObjectName objectName;
+    private final Runnable jfrHook;
+
+    private ArenaMetrics(MemoryArena arena, String name) throws JMException {
+        this.arena = arena;
+        this.name = name;
+        this.objectName = new ObjectName("arena:type=MemoryArena,name=" + ObjectName.quote(name));
+        this.jfrHook = this::emitStatsEvent;
+    }
+
+    public static ArenaMetrics register(MemoryArena arena, String name) {
+        if (arena == null || name == null) {
+            throw new IllegalArgumentException("Arena and name cannot be null");
+        }
+        arena.enableStats();
+        try {
+            ArenaMetrics metrics = new ArenaMetrics(arena, name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.objectName);
+            FlightRecorder.addPeriodicEvent(ArenaStatsEvent.class, metrics.jfrHook);
+            return metrics;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register arena metrics for " + name, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        FlightRecorder.removePeriodicEvent(jfrHook);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister arena metrics for " + name, e);
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    private void emitStatsEvent() {
+        ArenaStats stats = arena.getStats();
+        ArenaStatsEvent event = new ArenaStatsEvent();
+        event.arenaName = name;
+        event.capacity = stats.getCapacity();
+        event.used = stats.getUsed();
+        event.peakUsage = stats.getPeakUsage();
+        event.allocations = stats.getAllocationCount();
+        event.allocatedBytes = stats.getAllocatedBytes();
+        event.resets = stats.getResetCount();
+        event.outOfMemoryErrors = stats.getOutOfMemoryCount();
+        event.commit();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isStatsEnabled() {
+        return arena.isStatsEnabled();
+    }
+
+    @Override
+    public void setStatsEnabled(boolean enabled) {
+        if (enabled) {
+            arena.enableStats();
+        } else {
+            arena.disableStats();
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return arena.capacity();
+    }
+
+    @Override
+    public int getUsed() {
+        return arena.used();
+    }
+
+    @Override
+    public int getRemaining() {
+        return arena.remaining();
+    }
+
+    @Override
+    public int getFreeBytes() {
+        return arena.freeBytes();
+    }
+
+    @Override
+    public int getAlignmentWaste() {
+        return arena.getAlignmentWaste();
+    }
+
+    @Override
+    public long getAllocationCount() {
+        return arena.getStats().getAllocationCount();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return arena.getStats().getAllocatedBytes();
+    }
+
+    @Override
+    public long getFreeCount() {
+        return arena.getStats().getFreeCount();
+    }
+
+    @Override
+    public long getPeakUsage() {
+        return arena.getStats().getPeakUsage();
+    }
+
+    @Override
+    public long getResetCount() {
+        return arena.getStats().getResetCount();
+    }
+
+    @Override
+    public long getOutOfMemoryCount() {
+        return arena.getStats().getOutOfMemoryCount();
+    }
+
+    @Override
+    public long[] getSizeClassLimits() {
+        ArenaStats stats = arena.getStats();
+        long[] limits = new long[stats.getSizeClassCount()];
+        for (int i = 0; i < limits.length; i++) {
+            limits[i] = stats.getSizeClassLimit(i);
+        }
+        return limits;
+    }
+
+    @Override
+    public long[] getSizeClassBytes() {
+        ArenaStats stats = arena.getStats();
+        long[] bytes = new long[stats.getSizeClassCount()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = stats.getSizeClassBytes(i);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Map<String, Integer> getRegionUsage() {
+        return arena.getStats().getRegionUsage();
+    }
+
+    @Override
+    public void resetStats() {
+        arena.resetStats();
+    }
+}
@@ -0,0 +1,41 @@
+package arena;
+
+import java.util.Map;
+
+public interface ArenaMetricsMXBean {
+    String getName();
+
+    boolean isStatsEnabled();
+
+    void setStatsEnabled(boolean enabled);
+
+    int getCapacity();
+
+    int getUsed();
+
+    int getRemaining();
+
+    int getFreeBytes();
+
+    int getAlignmentWaste();
+
+    long getAllocationCount();
+
+    long getAllocatedBytes();
+
+    long getFreeCount();
+
+    long getPeakUsage();
+
+    long getResetCount();
+
+    long getOutOfMemoryCount();
+
+    long[] getSizeClassLimits();
+
+    long[] getSizeClassBytes();
+
+    Map<String, Integer> getRegionUsage();
+
+    void resetStats();
+}
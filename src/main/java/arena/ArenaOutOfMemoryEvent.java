@@ -0,0 +1,25 @@
+package arena;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("arena.OutOfMemory")
+@Label("Arena Out Of Memory")
+@Category("Memory Arena")
+@Description("An allocation request that did not fit in the arena")
+final class ArenaOutOfMemoryEvent extends jdk.jfr.Event {
+    @Label("Requested Size")
+    @DataAmount
+    int requestedSize;
+
+    @Label("Available")
+    @DataAmount
+    int available;
+
+    @Label("Capacity")
+    @DataAmount
+    int capacity;
+}
@@ -0,0 +1,257 @@
+package arena;
+
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ArenaPool {
+    private static final int DEFAULT_MAX_POOLED = 64;
+    private static final int DEFAULT_THREAD_CACHE_SIZE = 4;
+
+    private final int arenaSize;
+    private final ByteOrder order;
+    private final AccessMode accessMode;
+    private final int maxPooled;
+    private final int threadCacheSize;
+    private final boolean zeroOnRelease;
+    private final AtomicReference<Node> head = new AtomicReference<>();
+    private final AtomicInteger globalCount = new AtomicInteger();
+    private final AtomicInteger cachedCount = new AtomicInteger();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final ThreadLocal<ThreadCache> threadCaches;
+    private final ConcurrentLinkedQueue<ThreadCache> cacheRegistry = new ConcurrentLinkedQueue<>();
+    private final Set<MemoryArena> leased = ConcurrentHashMap.newKeySet();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder threadCacheHits = new LongAdder();
+    private final LongAdder globalHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAccumulator peakOutstanding = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakPooled = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakArenaUsage = new LongAccumulator(Math::max, 0);
+
+    public ArenaPool(int arenaSize) {
+        this(arenaSize, ByteOrder.BIG_ENDIAN, DEFAULT_MAX_POOLED, DEFAULT_THREAD_CACHE_SIZE, true);
+    }
+
+    public ArenaPool(int arenaSize, ByteOrder order, int maxPooled, int threadCacheSize, boolean zeroOnRelease) {
+        this(arenaSize, order, maxPooled, threadCacheSize, zeroOnRelease, AccessMode.defaultMode());
+    }
+
+    public ArenaPool(int arenaSize, ByteOrder order, int maxPooled, int threadCacheSize, boolean zeroOnRelease,
+                     AccessMode accessMode) {
+        if (arenaSize < 0) {
+            throw new IllegalArgumentException("Arena size cannot be negative");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        if (accessMode == null) {
+            throw new IllegalArgumentException("Access mode cannot be null");
+        }
+        if (maxPooled < 0 || threadCacheSize < 0) {
+            throw new IllegalArgumentException("Pool limits cannot be negative");
+        }
+        this.arenaSize = arenaSize;
+        this.order = order;
+        this.accessMode = accessMode;
+        this.maxPooled = maxPooled;
+        this.threadCacheSize = threadCacheSize;
+        this.zeroOnRelease = zeroOnRelease;
+        this.threadCaches = ThreadLocal.withInitial(this::registerCache);
+    }
+
+    public int arenaSize() {
+        return arenaSize;
+    }
+
+    public boolean isZeroOnRelease() {
+        return zeroOnRelease;
+    }
+
+    public MemoryArena lease() {
+        leases.increment();
+        peakOutstanding.accumulate(outstanding.incrementAndGet());
+        
+        if (threadCacheSize > 0) {
+            MemoryArena cached = threadCaches.get().poll();
+            if (cached != null) {
+                cachedCount.decrementAndGet();
+                threadCacheHits.increment();
+                return track(cached);
+            }
+        }
+        
+        MemoryArena pooled = pop();
+        if (pooled != null) {
+            globalHits.increment();
+            return track(pooled);
+        }
+        
+        misses.increment();
+        return track(new MemoryArena(arenaSize, order, accessMode));
+    }
+
+    public void release(MemoryArena arena) {
+        if (arena == null) {
+            throw new IllegalArgumentException("Arena cannot be null");
+        }
+        if (arena.capacity() != arenaSize || arena.order() != order || arena.accessMode() != accessMode
+                || arena.isConcurrent() || arena.isGrowable() || arena.isPersistent()) {
+            throw new IllegalArgumentException("Arena does not match this pool");
+        }
+        if (!leased.remove(arena)) {
+            throw new IllegalStateException("Arena was not leased from this pool or has already been released");
+        }
+        peakArenaUsage.accumulate(arena.highWaterMark());
+        arena.reset();
+        if (zeroOnRelease) {
+            arena.scrub();
+        }
+        outstanding.decrementAndGet();
+        releases.increment();
+        
+        if (threadCacheSize > 0 && threadCaches.get().offer(arena, threadCacheSize)) {
+            recordPooled(cachedCount.incrementAndGet() + globalCount.get());
+            return;
+        }
+        
+        if (!push(arena)) {
+            discarded.increment();
+        }
+    }
+
+    public void prewarm(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!push(new MemoryArena(arenaSize, order, accessMode))) {
+                return;
+            }
+        }
+    }
+
+    public int pooledCount() {
+        return globalCount.get() + cachedCount.get();
+    }
+
+    public int outstandingCount() {
+        return outstanding.get();
+    }
+
+    public void clear() {
+        Iterator<ThreadCache> caches = cacheRegistry.iterator();
+        while (caches.hasNext()) {
+            ThreadCache cache = caches.next();
+            cachedCount.addAndGet(-cache.drain());
+            if (!cache.owner.isAlive()) {
+                caches.remove();
+            }
+        }
+        while (pop() != null) {
+            continue;
+        }
+    }
+
+    public ArenaPoolStats getStats() {
+        return new ArenaPoolStats(
+            arenaSize,
+            leases.sum(),
+            threadCacheHits.sum(),
+            globalHits.sum(),
+            misses.sum(),
+            releases.sum(),
+            discarded.sum(),
+            outstanding.get(),
+            peakOutstanding.get(),
+            pooledCount(),
+            peakPooled.get(),
+            peakArenaUsage.get()
+        );
+    }
+
+    private boolean push(MemoryArena arena) {
+        if (globalCount.incrementAndGet() > maxPooled) {
+            globalCount.decrementAndGet();
+            return false;
+        }
+        Node node = new Node(arena);
+        Node top;
+        do {
+            top = head.get();
+            node.next = top;
+        } while (!head.compareAndSet(top, node));
+        recordPooled(globalCount.get() + cachedCount.get());
+        return true;
+    }
+
+    private MemoryArena pop() {
+        Node top;
+        do {
+            top = head.get();
+            if (top == null) {
+                return null;
+            }
+        } while (!head.compareAndSet(top, top.next));
+        globalCount.decrementAndGet();
+        return top.arena;
+    }
+
+    private void recordPooled(int pooled) {
+        peakPooled.accumulate(pooled);
+    }
+
+    private MemoryArena track(MemoryArena arena) {
+        leased.add(arena);
+        return arena;
+    }
+
+    private ThreadCache registerCache() {
+        ThreadCache cache = new ThreadCache(Thread.currentThread(), threadCacheSize);
+        cacheRegistry.add(cache);
+        return cache;
+    }
+
+    private static final class ThreadCache {
+        private final Thread owner;
+        private final ArrayDeque<MemoryArena> arenas;
+
+        ThreadCache(Thread owner, int capacity) {
+            this.owner = owner;
+            this.arenas = new ArrayDeque<>(capacity);
+        }
+
+        synchronized MemoryArena poll() {
+            return arenas.pollFirst();
+        }
+
+        synchronized boolean offer(MemoryArena arena, int limit) {
+            if (arenas.size() >= limit) {
+                return false;
+            }
+            arenas.offerFirst(arena);
+            return true;
+        }
+
+        synchronized int drain() {
+            int drained = arenas.size();
+            arenas.clear();
+            return drained;
+        }
+    }
+
+    private static final class Node {
+        private final MemoryArena arena;
+        private Node next;
+
+        Node(MemoryArena arena) {
+            this.arena = arena;
+        }
+    }
+}
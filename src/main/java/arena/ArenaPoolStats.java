@@ -0,0 +1,94 @@
+package arena;
+
+public class ArenaPoolStats {
+    private final int arenaSize;
+    private final long leases;
+    private final long threadCacheHits;
+    private final long globalHits;
+    private final long misses;
+    private final long releases;
+    private final long discarded;
+    private final int outstanding;
+    private final long peakOutstanding;
+    private final int pooled;
+    private final long peakPooled;
+    private final long peakArenaUsage;
+
+    ArenaPoolStats(int arenaSize, long leases, long threadCacheHits, long globalHits, long misses, long releases,
+                   long discarded, int outstanding, long peakOutstanding, int pooled, long peakPooled,
+                   long peakArenaUsage) {
+        this.arenaSize = arenaSize;
+        this.leases = leases;
+        this.threadCacheHits = threadCacheHits;
+        this.globalHits = globalHits;
+        this.misses = misses;
+        this.releases = releases;
+        this.discarded = discarded;
+        this.outstanding = outstanding;
+        this.peakOutstanding = peakOutstanding;
+        this.pooled = pooled;
+        this.peakPooled = peakPooled;
+        this.peakArenaUsage = peakArenaUsage;
+    }
+
+    public int getArenaSize() {
+        return arenaSize;
+    }
+
+    public long getLeaseCount() {
+        return leases;
+    }
+
+    public long getThreadCacheHits() {
+        return threadCacheHits;
+    }
+
+    public long getGlobalHits() {
+        return globalHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        return leases == 0 ? 0 : (double) (threadCacheHits + globalHits) / leases;
+    }
+
+    public long getReleaseCount() {
+        return releases;
+    }
+
+    public long getDiscardedCount() {
+        return discarded;
+    }
+
+    public int getOutstanding() {
+        return outstanding;
+    }
+
+    public long getPeakOutstanding() {
+        return peakOutstanding;
+    }
+
+    public int getPooled() {
+        return pooled;
+    }
+
+    public long getPeakPooled() {
+        return peakPooled;
+    }
+
+    public long getPeakArenaUsage() {
+        return peakArenaUsage;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "Arena pool stats: %d-byte arenas, %d leases, hit rate %.1f%% (%d thread-cache, %d global, %d new)%n"
+                + "  outstanding %d (peak %d), pooled %d (peak %d), discarded %d, peak arena usage %d bytes%n",
+            arenaSize, leases, getHitRate() * 100, threadCacheHits, globalHits, misses,
+            outstanding, peakOutstanding, pooled, peakPooled, discarded, peakArenaUsage);
+    }
+}
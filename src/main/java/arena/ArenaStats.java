@@ -0,0 +1,142 @@
+package arena;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ArenaStats {
+    private final boolean enabled;
+    private final int capacity;
+    private final int used;
+    private final int freeBytes;
+    private final int alignmentWaste;
+    private final long allocations;
+    private final long allocatedBytes;
+    private final long frees;
+    private final long freedBytes;
+    private final long peakUsage;
+    private final long resets;
+    private final long outOfMemoryErrors;
+    private final long[] sizeClassCounts;
+    private final long[] sizeClassBytes;
+    private final Map<String, Integer> regionUsage;
+
+    ArenaStats(MemoryArena arena, AllocationStats stats, Map<String, Integer> regionUsage) {
+        this.enabled = stats != null;
+        this.capacity = arena.capacity();
+        this.used = arena.used();
+        this.freeBytes = arena.freeBytes();
+        this.alignmentWaste = arena.getAlignmentWaste();
+        this.allocations = enabled ? stats.allocations() : 0;
+        this.allocatedBytes = enabled ? stats.allocatedBytes() : 0;
+        this.frees = enabled ? stats.frees() : 0;
+        this.freedBytes = enabled ? stats.freedBytes() : 0;
+        this.peakUsage = enabled ? stats.peakUsage() : 0;
+        this.resets = enabled ? stats.resets() : 0;
+        this.outOfMemoryErrors = enabled ? stats.outOfMemoryErrors() : 0;
+        this.sizeClassCounts = enabled ? stats.sizeClassCounts() : new long[AllocationStats.SIZE_CLASSES];
+        this.sizeClassBytes = enabled ? stats.sizeClassBytes() : new long[AllocationStats.SIZE_CLASSES];
+        this.regionUsage = Collections.unmodifiableMap(new LinkedHashMap<>(regionUsage));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getUsed() {
+        return used;
+    }
+
+    public int getRemaining() {
+        return capacity - used;
+    }
+
+    public int getFreeBytes() {
+        return freeBytes;
+    }
+
+    public int getAlignmentWaste() {
+        return alignmentWaste;
+    }
+
+    public long getAllocationCount() {
+        return allocations;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getFreeCount() {
+        return frees;
+    }
+
+    public long getFreedBytes() {
+        return freedBytes;
+    }
+
+    public long getPeakUsage() {
+        return peakUsage;
+    }
+
+    public long getResetCount() {
+        return resets;
+    }
+
+    public long getOutOfMemoryCount() {
+        return outOfMemoryErrors;
+    }
+
+    public int getSizeClassCount() {
+        return sizeClassCounts.length;
+    }
+
+    public long getSizeClassLimit(int sizeClass) {
+        return AllocationStats.sizeClassLimit(sizeClass);
+    }
+
+    public long getSizeClassAllocations(int sizeClass) {
+        return sizeClassCounts[sizeClass];
+    }
+
+    public long getSizeClassBytes(int sizeClass) {
+        return sizeClassBytes[sizeClass];
+    }
+
+    public Map<String, Integer> getRegionUsage() {
+        return regionUsage;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Arena stats: %d/%d bytes used, peak %d, %d free-listed, %d alignment waste%n",
+            used, capacity, peakUsage, freeBytes, alignmentWaste));
+        if (!enabled) {
+            sb.append(String.format("  (allocation counters disabled)%n"));
+            appendRegions(sb);
+            return sb.toString();
+        }
+        sb.append(String.format("  allocations: %d (%d bytes), frees: %d (%d bytes), resets: %d, out of memory: %d%n",
+            allocations, allocatedBytes, frees, freedBytes, resets, outOfMemoryErrors));
+        for (int i = 0; i < sizeClassCounts.length; i++) {
+            if (sizeClassCounts[i] == 0) {
+                continue;
+            }
+            String limit = i == sizeClassCounts.length - 1 ? "larger" : "<= " + getSizeClassLimit(i);
+            sb.append(String.format("  %-10s %10d allocs %12d bytes%n", limit, sizeClassCounts[i], sizeClassBytes[i]));
+        }
+        appendRegions(sb);
+        return sb.toString();
+    }
+
+    private void appendRegions(StringBuilder sb) {
+        for (Map.Entry<String, Integer> entry : regionUsage.entrySet()) {
+            sb.append(String.format("  region %-12s %10d bytes in use%n", entry.getKey(), entry.getValue()));
+        }
+    }
+}
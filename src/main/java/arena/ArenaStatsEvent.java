@@ -0,0 +1,43 @@
+package arena;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+
+@Name("arena.Stats")
+@Label("Arena Statistics")
+@Category("Memory Arena")
+@Description("Periodic snapshot of a registered arena's allocation statistics")
+@Period("1 s")
+final class ArenaStatsEvent extends jdk.jfr.Event {
+    @Label("Arena")
+    String arenaName;
+
+    @Label("Capacity")
+    @DataAmount
+    int capacity;
+
+    @Label("Used")
+    @DataAmount
+    int used;
+
+    @Label("Peak Usage")
+    @DataAmount
+    long peakUsage;
+
+    @Label("Allocations")
+    long allocations;
+
+    @Label("Allocated Bytes")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Resets")
+    long resets;
+
+    @Label("Out Of Memory Errors")
+    long outOfMemoryErrors;
+}
@@ -0,0 +1,522 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+public class ArrayStore {
+    private final MemoryArena arena;
+    private final boolean checked;
+    private static final int LENGTH_OFFSET = 0;
+    private static final int ELEMENT_SIZE_OFFSET = 4;
+    private static final int ELEMENT_TYPE_OFFSET = 8;
+    private static final int FIELD_COUNT_OFFSET = 12;
+    private static final int DATA_OFFSET = 16;
+    private static final int FIELD_ENTRY_SIZE = 8;
+    private static final int FIELD_TYPE_OFFSET = 0;
+    private static final int FIELD_COLUMN_OFFSET = 4;
+    private static final int COLUMN_ALIGNMENT = 8;
+    private static final int RAW_TYPE = -1;
+    private static final int STRUCT_TYPE = -2;
+
+    public ArrayStore(MemoryArena arena) {
+        this.arena = arena;
+        this.checked = arena.isChecked();
+    }
+
+    public int createArray(int length, int elementSize) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Array length cannot be negative");
+        }
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Element size must be positive");
+        }
+        
+        return allocArray(length, elementSize, RAW_TYPE);
+    }
+
+    public int createArray(ElementType type, int length) {
+        if (type == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Array length cannot be negative");
+        }
+        
+        return allocArray(length, type.size(), type.ordinal());
+    }
+
+    public int createStructArray(int length, ElementType... fieldTypes) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Array length cannot be negative");
+        }
+        if (fieldTypes == null || fieldTypes.length == 0) {
+            throw new IllegalArgumentException("Struct array needs at least one field");
+        }
+        
+        int recordSize = 0;
+        int columnOffset = alignColumn(DATA_OFFSET + fieldTypes.length * FIELD_ENTRY_SIZE);
+        int[] columnOffsets = new int[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            if (fieldTypes[i] == null) {
+                throw new IllegalArgumentException("Field type cannot be null");
+            }
+            columnOffsets[i] = columnOffset;
+            columnOffset = alignColumn(byteSize(columnOffset + (long) length * fieldTypes[i].size()));
+            recordSize += fieldTypes[i].size();
+        }
+        
+        int arrayAddr = arena.allocAligned(columnOffset, COLUMN_ALIGNMENT);
+        arena.putInt(arrayAddr + LENGTH_OFFSET, length);
+        arena.putInt(arrayAddr + ELEMENT_SIZE_OFFSET, recordSize);
+        arena.putInt(arrayAddr + ELEMENT_TYPE_OFFSET, STRUCT_TYPE);
+        arena.putInt(arrayAddr + FIELD_COUNT_OFFSET, fieldTypes.length);
+        for (int i = 0; i < fieldTypes.length; i++) {
+            int entry = arrayAddr + DATA_OFFSET + i * FIELD_ENTRY_SIZE;
+            arena.putInt(entry + FIELD_TYPE_OFFSET, fieldTypes[i].ordinal());
+            arena.putInt(entry + FIELD_COLUMN_OFFSET, columnOffsets[i]);
+        }
+        
+        return arrayAddr;
+    }
+
+    public int getLength(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        return arena.getInt(arrayAddr + LENGTH_OFFSET);
+    }
+
+    public int getElementSize(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        return arena.getInt(arrayAddr + ELEMENT_SIZE_OFFSET);
+    }
+
+    public ElementType getElementType(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        int typeId = arena.getInt(arrayAddr + ELEMENT_TYPE_OFFSET);
+        return typeId < 0 ? null : ElementType.fromId(typeId);
+    }
+
+    public boolean isStructArray(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        return arena.getInt(arrayAddr + ELEMENT_TYPE_OFFSET) == STRUCT_TYPE;
+    }
+
+    public int getFieldCount(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        return arena.getInt(arrayAddr + FIELD_COUNT_OFFSET);
+    }
+
+    public ElementType getFieldType(int arrayAddr, int field) {
+        checkArrayPtr(arrayAddr);
+        return ElementType.fromId(arena.getInt(fieldEntry(arrayAddr, field) + FIELD_TYPE_OFFSET));
+    }
+
+    public int getColumnAddr(int arrayAddr, int field) {
+        checkArrayPtr(arrayAddr);
+        return arrayAddr + arena.getInt(fieldEntry(arrayAddr, field) + FIELD_COLUMN_OFFSET);
+    }
+
+    public void freeArray(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        arena.free(arrayAddr, totalSize(arrayAddr));
+    }
+
+    public byte getByte(int arrayAddr, int index) {
+        return arena.getByte(elementAddr(arrayAddr, index, ElementType.BYTE, 1));
+    }
+
+    public void setByte(int arrayAddr, int index, byte value) {
+        arena.putByte(elementAddr(arrayAddr, index, ElementType.BYTE, 1), value);
+    }
+
+    public short getShort(int arrayAddr, int index) {
+        return arena.getShort(elementAddr(arrayAddr, index, ElementType.SHORT, 2));
+    }
+
+    public void setShort(int arrayAddr, int index, short value) {
+        arena.putShort(elementAddr(arrayAddr, index, ElementType.SHORT, 2), value);
+    }
+
+    public char getChar(int arrayAddr, int index) {
+        return arena.getChar(elementAddr(arrayAddr, index, null, 2));
+    }
+
+    public void setChar(int arrayAddr, int index, char value) {
+        arena.putChar(elementAddr(arrayAddr, index, null, 2), value);
+    }
+
+    public int getInt(int arrayAddr, int index) {
+        return arena.getInt(elementAddr(arrayAddr, index, ElementType.INT, 4));
+    }
+
+    public void setInt(int arrayAddr, int index, int value) {
+        arena.putInt(elementAddr(arrayAddr, index, ElementType.INT, 4), value);
+    }
+
+    public long getLong(int arrayAddr, int index) {
+        return arena.getLong(elementAddr(arrayAddr, index, ElementType.LONG, 8));
+    }
+
+    public void setLong(int arrayAddr, int index, long value) {
+        arena.putLong(elementAddr(arrayAddr, index, ElementType.LONG, 8), value);
+    }
+
+    public float getFloat(int arrayAddr, int index) {
+        return arena.getFloat(elementAddr(arrayAddr, index, ElementType.FLOAT, 4));
+    }
+
+    public void setFloat(int arrayAddr, int index, float value) {
+        arena.putFloat(elementAddr(arrayAddr, index, ElementType.FLOAT, 4), value);
+    }
+
+    public double getDouble(int arrayAddr, int index) {
+        return arena.getDouble(elementAddr(arrayAddr, index, ElementType.DOUBLE, 8));
+    }
+
+    public void setDouble(int arrayAddr, int index, double value) {
+        arena.putDouble(elementAddr(arrayAddr, index, ElementType.DOUBLE, 8), value);
+    }
+
+    public boolean getBoolean(int arrayAddr, int index) {
+        return arena.getBoolean(elementAddr(arrayAddr, index, null, 1));
+    }
+
+    public void setBoolean(int arrayAddr, int index, boolean value) {
+        arena.putBoolean(elementAddr(arrayAddr, index, null, 1), value);
+    }
+
+    public byte getByteField(int arrayAddr, int field, int index) {
+        return arena.getByte(fieldAddr(arrayAddr, field, index, ElementType.BYTE));
+    }
+
+    public void setByteField(int arrayAddr, int field, int index, byte value) {
+        arena.putByte(fieldAddr(arrayAddr, field, index, ElementType.BYTE), value);
+    }
+
+    public short getShortField(int arrayAddr, int field, int index) {
+        return arena.getShort(fieldAddr(arrayAddr, field, index, ElementType.SHORT));
+    }
+
+    public void setShortField(int arrayAddr, int field, int index, short value) {
+        arena.putShort(fieldAddr(arrayAddr, field, index, ElementType.SHORT), value);
+    }
+
+    public int getIntField(int arrayAddr, int field, int index) {
+        return arena.getInt(fieldAddr(arrayAddr, field, index, ElementType.INT));
+    }
+
+    public void setIntField(int arrayAddr, int field, int index, int value) {
+        arena.putInt(fieldAddr(arrayAddr, field, index, ElementType.INT), value);
+    }
+
+    public long getLongField(int arrayAddr, int field, int index) {
+        return arena.getLong(fieldAddr(arrayAddr, field, index, ElementType.LONG));
+    }
+
+    public void setLongField(int arrayAddr, int field, int index, long value) {
+        arena.putLong(fieldAddr(arrayAddr, field, index, ElementType.LONG), value);
+    }
+
+    public float getFloatField(int arrayAddr, int field, int index) {
+        return arena.getFloat(fieldAddr(arrayAddr, field, index, ElementType.FLOAT));
+    }
+
+    public void setFloatField(int arrayAddr, int field, int index, float value) {
+        arena.putFloat(fieldAddr(arrayAddr, field, index, ElementType.FLOAT), value);
+    }
+
+    public double getDoubleField(int arrayAddr, int field, int index) {
+        return arena.getDouble(fieldAddr(arrayAddr, field, index, ElementType.DOUBLE));
+    }
+
+    public void setDoubleField(int arrayAddr, int field, int index, double value) {
+        arena.putDouble(fieldAddr(arrayAddr, field, index, ElementType.DOUBLE), value);
+    }
+
+    public long sum(int arrayAddr) {
+        int length = intElements(arrayAddr);
+        return IntKernels.sum(dataRange(arrayAddr, length), 0, length, arena.order());
+    }
+
+    public int min(int arrayAddr) {
+        int length = requireElements(arrayAddr, "min");
+        return IntKernels.min(dataRange(arrayAddr, length), 0, length, arena.order());
+    }
+
+    public int max(int arrayAddr) {
+        int length = requireElements(arrayAddr, "max");
+        return IntKernels.max(dataRange(arrayAddr, length), 0, length, arena.order());
+    }
+
+    public int indexOf(int arrayAddr, int value) {
+        int length = intElements(arrayAddr);
+        return IntKernels.indexOf(dataRange(arrayAddr, length), 0, length, value, arena.order());
+    }
+
+    public void fill(int arrayAddr, int value) {
+        int length = intElements(arrayAddr);
+        IntKernels.fill(dataRange(arrayAddr, length), 0, length, value, arena.order());
+    }
+
+    public void map(int arrayAddr, ElementOp op, int operand) {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        int length = intElements(arrayAddr);
+        IntKernels.map(dataRange(arrayAddr, length), 0, length, op, operand, arena.order());
+    }
+
+    public int filterInto(int srcArrayAddr, Comparison comparison, int operand, int dstArrayAddr) {
+        if (comparison == null) {
+            throw new IllegalArgumentException("Comparison cannot be null");
+        }
+        int length = intElements(srcArrayAddr);
+        int dstLength = intElements(dstArrayAddr);
+        MemorySegment srcData = dataRange(srcArrayAddr, length);
+        int matches = IntKernels.count(srcData, 0, length, comparison, operand, arena.order());
+        if (matches > dstLength) {
+            throw new IndexOutOfBoundsException(
+                matches + " matching elements do not fit in array of length " + dstLength
+            );
+        }
+        return IntKernels.filter(srcData, 0, length, comparison, operand,
+            dataRange(dstArrayAddr, matches), 0, arena.order());
+    }
+
+    public long sumField(int arrayAddr, int field) {
+        checkArrayPtr(arrayAddr);
+        int entry = fieldEntry(arrayAddr, field);
+        ElementType type = ElementType.fromId(arena.getInt(entry + FIELD_TYPE_OFFSET));
+        if (!type.isIntegral()) {
+            throw new IllegalArgumentException("Field " + field + " holds " + type + " values, not integral values");
+        }
+        int length = arena.getInt(arrayAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        MemorySegment column = columnRange(arrayAddr, entry, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                return ByteKernels.sum(column, 0, length, order);
+            case SHORT:
+                return ShortKernels.sum(column, 0, length, order);
+            case INT:
+                return IntKernels.sum(column, 0, length, order);
+            default:
+                return LongKernels.sum(column, 0, length, order);
+        }
+    }
+
+    public double sumDoubleField(int arrayAddr, int field) {
+        checkArrayPtr(arrayAddr);
+        int entry = fieldEntry(arrayAddr, field);
+        ElementType type = ElementType.fromId(arena.getInt(entry + FIELD_TYPE_OFFSET));
+        if (type.isIntegral()) {
+            throw new IllegalArgumentException("Field " + field + " holds " + type + " values, not floating-point values");
+        }
+        int length = arena.getInt(arrayAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        MemorySegment column = columnRange(arrayAddr, entry, type, length);
+        return type == ElementType.FLOAT
+            ? FloatKernels.sum(column, 0, length, arena.order())
+            : DoubleKernels.sum(column, 0, length, arena.order());
+    }
+
+    public void printArray(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        int length = getLength(arrayAddr);
+        int typeId = arena.getInt(arrayAddr + ELEMENT_TYPE_OFFSET);
+        int elementSize = arena.getInt(arrayAddr + ELEMENT_SIZE_OFFSET);
+        int fieldCount = arena.getInt(arrayAddr + FIELD_COUNT_OFFSET);
+        System.out.print("[");
+        for (int i = 0; i < length; i++) {
+            if (typeId == STRUCT_TYPE) {
+                System.out.print("(");
+                for (int f = 0; f < fieldCount; f++) {
+                    int entry = arrayAddr + DATA_OFFSET + f * FIELD_ENTRY_SIZE;
+                    ElementType type = ElementType.fromId(arena.getInt(entry + FIELD_TYPE_OFFSET));
+                    int column = arrayAddr + arena.getInt(entry + FIELD_COLUMN_OFFSET);
+                    System.out.print(elementString(type, column + i * type.size()));
+                    if (f < fieldCount - 1) {
+                        System.out.print(", ");
+                    }
+                }
+                System.out.print(")");
+            } else {
+                int addr = arrayAddr + DATA_OFFSET + i * elementSize;
+                System.out.print(typeId == RAW_TYPE ? rawString(addr, elementSize) : elementString(ElementType.fromId(typeId), addr));
+            }
+            if (i < length - 1) {
+                System.out.print(", ");
+            }
+        }
+        System.out.println("]");
+    }
+
+    private int allocArray(int length, int elementSize, int typeId) {
+        int totalSize = byteSize(DATA_OFFSET + (long) length * elementSize);
+        int arrayAddr = arena.allocAligned(totalSize, COLUMN_ALIGNMENT);
+        
+        arena.putInt(arrayAddr + LENGTH_OFFSET, length);
+        arena.putInt(arrayAddr + ELEMENT_SIZE_OFFSET, elementSize);
+        arena.putInt(arrayAddr + ELEMENT_TYPE_OFFSET, typeId);
+        arena.putInt(arrayAddr + FIELD_COUNT_OFFSET, 0);
+        
+        return arrayAddr;
+    }
+
+    private int totalSize(int arrayAddr) {
+        int length = arena.getInt(arrayAddr + LENGTH_OFFSET);
+        if (arena.getInt(arrayAddr + ELEMENT_TYPE_OFFSET) != STRUCT_TYPE) {
+            return DATA_OFFSET + length * arena.getInt(arrayAddr + ELEMENT_SIZE_OFFSET);
+        }
+        int fieldCount = arena.getInt(arrayAddr + FIELD_COUNT_OFFSET);
+        int lastEntry = arrayAddr + DATA_OFFSET + (fieldCount - 1) * FIELD_ENTRY_SIZE;
+        ElementType lastType = ElementType.fromId(arena.getInt(lastEntry + FIELD_TYPE_OFFSET));
+        return alignColumn(arena.getInt(lastEntry + FIELD_COLUMN_OFFSET) + length * lastType.size());
+    }
+
+    private static int byteSize(long bytes) {
+        if (bytes > Integer.MAX_VALUE - COLUMN_ALIGNMENT) {
+            throw new MemoryException("An array of " + bytes + " bytes does not fit in an arena");
+        }
+        return (int) bytes;
+    }
+
+    private static int alignColumn(int offset) {
+        return (offset + COLUMN_ALIGNMENT - 1) & -COLUMN_ALIGNMENT;
+    }
+
+    private int elementAddr(int arrayAddr, int index, ElementType expected, int width) {
+        checkArrayPtr(arrayAddr);
+        int typeId = arena.getInt(arrayAddr + ELEMENT_TYPE_OFFSET);
+        if (typeId == STRUCT_TYPE) {
+            throw new IllegalArgumentException("Array holds multi-field records; use the field accessors");
+        }
+        if (expected != null && typeId != RAW_TYPE) {
+            if (typeId != expected.ordinal()) {
+                throw new IllegalArgumentException(
+                    "Array holds " + ElementType.fromId(typeId) + " elements, not " + expected
+                );
+            }
+        } else {
+            int elementSize = arena.getInt(arrayAddr + ELEMENT_SIZE_OFFSET);
+            if (elementSize != width) {
+                throw new IllegalArgumentException(
+                    "Array elements are " + elementSize + " bytes wide, not " + width
+                );
+            }
+        }
+        int length = arena.getInt(arrayAddr + LENGTH_OFFSET);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for array of length " + length
+            );
+        }
+        return arrayAddr + DATA_OFFSET + (index * width);
+    }
+
+    private int fieldAddr(int arrayAddr, int field, int index, ElementType expected) {
+        checkArrayPtr(arrayAddr);
+        int entry = fieldEntry(arrayAddr, field);
+        int typeId = arena.getInt(entry + FIELD_TYPE_OFFSET);
+        if (typeId != expected.ordinal()) {
+            throw new IllegalArgumentException(
+                "Field " + field + " holds " + ElementType.fromId(typeId) + " values, not " + expected
+            );
+        }
+        int length = arena.getInt(arrayAddr + LENGTH_OFFSET);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for array of length " + length
+            );
+        }
+        return arrayAddr + arena.getInt(entry + FIELD_COLUMN_OFFSET) + (index * expected.size());
+    }
+
+    private int fieldEntry(int arrayAddr, int field) {
+        int fieldCount = arena.getInt(arrayAddr + FIELD_COUNT_OFFSET);
+        if (field < 0 || field >= fieldCount) {
+            throw new IndexOutOfBoundsException(
+                "Field " + field + " out of bounds for array with " + fieldCount + " fields"
+            );
+        }
+        return arrayAddr + DATA_OFFSET + field * FIELD_ENTRY_SIZE;
+    }
+
+    private int intElements(int arrayAddr) {
+        checkArrayPtr(arrayAddr);
+        int typeId = arena.getInt(arrayAddr + ELEMENT_TYPE_OFFSET);
+        if (typeId == RAW_TYPE ? arena.getInt(arrayAddr + ELEMENT_SIZE_OFFSET) != Integer.BYTES
+                : typeId != ElementType.INT.ordinal()) {
+            throw new IllegalArgumentException("Array does not hold INT elements");
+        }
+        return arena.getInt(arrayAddr + LENGTH_OFFSET);
+    }
+
+    private int requireElements(int arrayAddr, String operation) {
+        int length = intElements(arrayAddr);
+        if (length == 0) {
+            throw new IllegalStateException("Cannot compute " + operation + " of an empty array");
+        }
+        return length;
+    }
+
+    private MemorySegment dataRange(int arrayAddr, int length) {
+        return arena.slice(arrayAddr + DATA_OFFSET, length * Integer.BYTES);
+    }
+
+    private MemorySegment columnRange(int arrayAddr, int entry, ElementType type, int length) {
+        return arena.slice(arrayAddr + arena.getInt(entry + FIELD_COLUMN_OFFSET), length * type.size());
+    }
+
+    private String elementString(ElementType type, int addr) {
+        switch (type) {
+            case BYTE:
+                return Byte.toString(arena.getByte(addr));
+            case SHORT:
+                return Short.toString(arena.getShort(addr));
+            case INT:
+                return Integer.toString(arena.getInt(addr));
+            case LONG:
+                return Long.toString(arena.getLong(addr));
+            case FLOAT:
+                return Float.toString(arena.getFloat(addr));
+            default:
+                return Double.toString(arena.getDouble(addr));
+        }
+    }
+
+    private String rawString(int addr, int elementSize) {
+        switch (elementSize) {
+            case 1:
+                return Byte.toString(arena.getByte(addr));
+            case 2:
+                return Short.toString(arena.getShort(addr));
+            case 4:
+                return Integer.toString(arena.getInt(addr));
+            case 8:
+                return Long.toString(arena.getLong(addr));
+            default:
+                StringBuilder hex = new StringBuilder("0x");
+                for (int i = 0; i < elementSize; i++) {
+                    hex.append(String.format("%02x", arena.getByte(addr + i)));
+                }
+                return hex.toString();
+        }
+    }
+
+    private void checkArrayPtr(int ptr) {
+        if (!checked) {
+            return;
+        }
+        if (ptr < 0) {
+            throw new InvalidPointerException(ptr, 0, arena.allocatedBoundary(), arena.capacity());
+        }
+        if (ptr + DATA_OFFSET > arena.allocatedBoundary()) {
+            throw new InvalidPointerException(ptr, DATA_OFFSET, arena.allocatedBoundary(), arena.capacity());
+        }
+    }
+}
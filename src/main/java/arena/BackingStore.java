@@ -0,0 +1,61 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+public interface BackingStore extends AutoCloseable {
+    long size();
+
+    ByteOrder order();
+
+    MemorySegment asSegment();
+
+    default MemorySegment asSegment(long offset, long length) {
+        return asSegment().asSlice(offset, length);
+    }
+
+    byte getByte(long offset);
+
+    void putByte(long offset, byte x);
+
+    short getShort(long offset);
+
+    void putShort(long offset, short x);
+
+    char getChar(long offset);
+
+    void putChar(long offset, char x);
+
+    int getInt(long offset);
+
+    void putInt(long offset, int x);
+
+    long getLong(long offset);
+
+    void putLong(long offset, long x);
+
+    void copy(long srcOffset, long dstOffset, long length);
+
+    void fill(long offset, long length, byte value);
+
+    long mismatch(long offsetA, long offsetB, long length);
+
+    void getBytes(long offset, byte[] dst, int dstIndex, int count);
+
+    void putBytes(long offset, byte[] src, int srcIndex, int count);
+
+    void getChars(long offset, char[] dst, int dstIndex, int count);
+
+    void putChars(long offset, char[] src, int srcIndex, int count);
+
+    void getInts(long offset, int[] dst, int dstIndex, int count);
+
+    void putInts(long offset, int[] src, int srcIndex, int count);
+
+    void getLongs(long offset, long[] dst, int dstIndex, int count);
+
+    void putLongs(long offset, long[] src, int srcIndex, int count);
+
+    @Override
+    void close();
+}
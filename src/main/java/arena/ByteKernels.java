@@ -0,0 +1,148 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class ByteKernels {
+    private static final ValueLayout.OfByte BYTE_BE = ValueLayout.JAVA_BYTE.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfByte BYTE_LE = ValueLayout.JAVA_BYTE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private ByteKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ByteVectorKernels.sum(segment, offset, count, order)
+            : sumScalar(segment, offset, count, order);
+    }
+
+    static byte min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ByteVectorKernels.min(segment, offset, count, order)
+            : minScalar(segment, offset, count, order);
+    }
+
+    static byte max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ByteVectorKernels.max(segment, offset, count, order)
+            : maxScalar(segment, offset, count, order);
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, byte value, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ByteVectorKernels.indexOf(segment, offset, count, value, order)
+            : indexOfScalar(segment, offset, count, value, order);
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, byte value, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            ByteVectorKernels.fill(segment, offset, count, value, order);
+        } else {
+            fillScalar(segment, offset, count, value, order);
+        }
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, byte operand, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            ByteVectorKernels.map(segment, offset, count, op, operand, order);
+        } else {
+            mapScalar(segment, offset, count, op, operand, order);
+        }
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, byte operand, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ByteVectorKernels.count(segment, offset, count, comparison, operand, order)
+            : countScalar(segment, offset, count, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, byte operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ByteVectorKernels.filter(segment, offset, count, comparison, operand, dst, dstOffset, order)
+            : filterScalar(segment, offset, count, comparison, operand, dst, dstOffset, order);
+    }
+
+    static long sumScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += segment.get(layout, offset + ((long) i * Byte.BYTES));
+        }
+        return sum;
+    }
+
+    static byte minScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        byte min = Byte.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = (byte) Math.min(min, segment.get(layout, offset + ((long) i * Byte.BYTES)));
+        }
+        return min;
+    }
+
+    static byte maxScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        byte max = Byte.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = (byte) Math.max(max, segment.get(layout, offset + ((long) i * Byte.BYTES)));
+        }
+        return max;
+    }
+
+    static int indexOfScalar(MemorySegment segment, long offset, int count, byte value, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            if (segment.get(layout, offset + ((long) i * Byte.BYTES)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void fillScalar(MemorySegment segment, long offset, int count, byte value, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            segment.set(layout, offset + ((long) i * Byte.BYTES), value);
+        }
+    }
+
+    static void mapScalar(MemorySegment segment, long offset, int count, ElementOp op, byte operand, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            long address = offset + ((long) i * Byte.BYTES);
+            segment.set(layout, address, (byte) op.apply(segment.get(layout, address), operand));
+        }
+    }
+
+    static int countScalar(MemorySegment segment, long offset, int count, Comparison comparison, byte operand,
+                           ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (comparison.test(segment.get(layout, offset + ((long) i * Byte.BYTES)), operand)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    static int filterScalar(MemorySegment segment, long offset, int count, Comparison comparison, byte operand,
+                            MemorySegment dst, long dstOffset, ByteOrder order) {
+        ValueLayout.OfByte layout = layout(order);
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            byte value = segment.get(layout, offset + ((long) i * Byte.BYTES));
+            if (comparison.test(value, operand)) {
+                dst.set(layout, dstOffset + ((long) written * Byte.BYTES), value);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static ValueLayout.OfByte layout(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN ? BYTE_BE : BYTE_LE;
+    }
+}
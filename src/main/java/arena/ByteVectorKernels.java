@@ -0,0 +1,121 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class ByteVectorKernels {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long STRIDE = (long) LANES * Byte.BYTES;
+    private static final VectorSpecies<Long> WIDE_SPECIES = VectorSpecies.of(long.class, SPECIES.vectorShape());
+    private static final int PARTS = LANES / WIDE_SPECIES.length();
+
+    private ByteVectorKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        LongVector acc = LongVector.zero(WIDE_SPECIES);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            ByteVector v = ByteVector.fromMemorySegment(SPECIES, segment, address, order);
+            for (int part = 0; part < PARTS; part++) {
+                acc = acc.add(v.convertShape(VectorOperators.B2L, WIDE_SPECIES, part));
+            }
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + ByteKernels.sumScalar(segment, address, count - bound, order);
+    }
+
+    static byte min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        ByteVector acc = ByteVector.broadcast(SPECIES, Byte.MAX_VALUE);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.min(ByteVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return (byte) Math.min(acc.reduceLanes(VectorOperators.MIN), ByteKernels.minScalar(segment, address, count - bound, order));
+    }
+
+    static byte max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        ByteVector acc = ByteVector.broadcast(SPECIES, Byte.MIN_VALUE);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.max(ByteVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return (byte) Math.max(acc.reduceLanes(VectorOperators.MAX), ByteKernels.maxScalar(segment, address, count - bound, order));
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, byte value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            VectorMask<Byte> hits = ByteVector.fromMemorySegment(SPECIES, segment, address, order).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        int tail = ByteKernels.indexOfScalar(segment, address, count - bound, value, order);
+        return tail == -1 ? -1 : bound + tail;
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, byte value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        ByteVector v = ByteVector.broadcast(SPECIES, value);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            v.intoMemorySegment(segment, address, order);
+        }
+        ByteKernels.fillScalar(segment, address, count - bound, value, order);
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, byte operand, ByteOrder order) {
+        VectorOperators.Binary binary = KernelOperators.binary(op);
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            ByteVector.fromMemorySegment(SPECIES, segment, address, order)
+                .lanewise(binary, operand)
+                .intoMemorySegment(segment, address, order);
+        }
+        ByteKernels.mapScalar(segment, address, count - bound, op, operand, order);
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, byte operand, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int matches = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            matches += ByteVector.fromMemorySegment(SPECIES, segment, address, order).compare(test, operand).trueCount();
+        }
+        return matches + ByteKernels.countScalar(segment, address, count - bound, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, byte operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int written = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            ByteVector v = ByteVector.fromMemorySegment(SPECIES, segment, address, order);
+            VectorMask<Byte> hits = v.compare(test, operand);
+            int n = hits.trueCount();
+            long at = dstOffset + ((long) written * Byte.BYTES);
+            if (n == LANES) {
+                v.intoMemorySegment(dst, at, order);
+            } else if (n > 0) {
+                v.compress(hits).intoMemorySegment(dst, at, order, SPECIES.indexInRange(0, n));
+            }
+            written += n;
+        }
+        return written + ByteKernels.filterScalar(segment, address, count - bound, comparison, operand,
+            dst, dstOffset + ((long) written * Byte.BYTES), order);
+    }
+}
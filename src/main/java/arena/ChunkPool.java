@@ -0,0 +1,68 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ChunkPool {
+    private final long maxPooledBytes;
+    private final Map<Long, ConcurrentLinkedDeque<MemorySegment>> free = new ConcurrentHashMap<>();
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ChunkPool(long maxPooledBytes) {
+        if (maxPooledBytes < 0) {
+            throw new IllegalArgumentException("Pool limit cannot be negative");
+        }
+        this.maxPooledBytes = maxPooledBytes;
+    }
+
+    public MemorySegment acquire(long length) {
+        if (length <= 0 || length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid chunk length: " + length);
+        }
+        ConcurrentLinkedDeque<MemorySegment> chunks = free.get(length);
+        MemorySegment chunk = chunks == null ? null : chunks.pollFirst();
+        if (chunk != null) {
+            pooledBytes.addAndGet(-length);
+            hits.incrementAndGet();
+            return chunk;
+        }
+        misses.incrementAndGet();
+        return MemorySegment.ofArray(new byte[(int) length]);
+    }
+
+    public void release(MemorySegment chunk) {
+        long length = chunk.byteSize();
+        if (pooledBytes.addAndGet(length) > maxPooledBytes) {
+            pooledBytes.addAndGet(-length);
+            return;
+        }
+        chunk.fill((byte) 0);
+        free.computeIfAbsent(length, k -> new ConcurrentLinkedDeque<>()).offerFirst(chunk);
+    }
+
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    public long maxPooledBytes() {
+        return maxPooledBytes;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public void clear() {
+        free.clear();
+        pooledBytes.set(0);
+    }
+}
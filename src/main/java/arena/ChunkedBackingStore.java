@@ -0,0 +1,299 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+public class ChunkedBackingStore implements BackingStore {
+    private static final int MAX_CHUNKS = 32;
+    private static final MemorySegment EMPTY = MemorySegment.ofArray(new byte[0]);
+
+    private final int firstChunkShift;
+    private final long size;
+    private final ByteOrder order;
+    private final ChunkPool pool;
+    private final MemorySegment[] chunks = new MemorySegment[MAX_CHUNKS];
+    private final ValueLayout.OfShort shortLayout;
+    private final ValueLayout.OfChar charLayout;
+    private final ValueLayout.OfInt intLayout;
+    private final ValueLayout.OfLong longLayout;
+    private int chunkCount = 0;
+    private long committedBytes = 0;
+
+    public ChunkedBackingStore(int firstChunkSize, long maxSize, ByteOrder order) {
+        this(firstChunkSize, maxSize, order, null);
+    }
+
+    public ChunkedBackingStore(int firstChunkSize, long maxSize, ByteOrder order, ChunkPool pool) {
+        if (firstChunkSize < 8 || !HashStrategy.isPowerOfTwo(firstChunkSize)) {
+            throw new IllegalArgumentException("First chunk size must be a power of two of at least 8 bytes");
+        }
+        if (maxSize < firstChunkSize || maxSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Maximum size must be between " + firstChunkSize + " and " + Integer.MAX_VALUE + " bytes"
+            );
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        this.firstChunkShift = Integer.numberOfTrailingZeros(firstChunkSize);
+        this.size = maxSize;
+        this.order = order;
+        this.pool = pool;
+        this.shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(order);
+        this.charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(order);
+        this.intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(order);
+        this.longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(order);
+    }
+
+    public int chunkIndex(long offset) {
+        return 63 - Long.numberOfLeadingZeros((offset >>> firstChunkShift) + 1);
+    }
+
+    public long chunkStart(int index) {
+        return ((1L << index) - 1) << firstChunkShift;
+    }
+
+    public long chunkLength(int index) {
+        return Math.min(1L << (firstChunkShift + index), size - chunkStart(index));
+    }
+
+    public int chunkCount() {
+        return chunkCount;
+    }
+
+    public long committedBytes() {
+        return committedBytes;
+    }
+
+    long place(long start, long length) {
+        int index = chunkIndex(start);
+        while (start + length > chunkStart(index) + chunkLength(index)) {
+            index++;
+            start = chunkStart(index);
+            if (start >= size) {
+                return size;
+            }
+        }
+        return start;
+    }
+
+    void commit(long start) {
+        int index = chunkIndex(start);
+        if (chunks[index] == null) {
+            long length = chunkLength(index);
+            chunks[index] = pool != null ? pool.acquire(length) : MemorySegment.ofArray(new byte[(int) length]);
+            chunkCount++;
+            committedBytes += length;
+        }
+    }
+
+    boolean sameChunk(long a, long b) {
+        return chunkIndex(a) == chunkIndex(b);
+    }
+
+
+    private MemorySegment chunk(int index) {
+        MemorySegment chunk = chunks[index];
+        if (chunk == null) {
+            throw new IllegalStateException("Chunk " + index + " has not been committed");
+        }
+        return chunk;
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return asSegment(0, size);
+    }
+
+    @Override
+    public MemorySegment asSegment(long offset, long length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + offset + ", " + (offset + length) + ") is outside the " + size + "-byte store"
+            );
+        }
+        if (length == 0) {
+            return EMPTY;
+        }
+        int index = chunkIndex(offset);
+        int last = chunkIndex(offset + length - 1);
+        if (index != last) {
+            throw new IllegalStateException(
+                "Range [" + offset + ", " + (offset + length) + ") spans chunks " + index + " to " + last
+                    + " and has no contiguous segment"
+            );
+        }
+        return chunk(index).asSlice(offset - chunkStart(index), length);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public byte getByte(long offset) {
+        int index = chunkIndex(offset);
+        return chunk(index).get(ValueLayout.JAVA_BYTE, offset - chunkStart(index));
+    }
+
+    @Override
+    public void putByte(long offset, byte x) {
+        int index = chunkIndex(offset);
+        chunk(index).set(ValueLayout.JAVA_BYTE, offset - chunkStart(index), x);
+    }
+
+    @Override
+    public short getShort(long offset) {
+        int index = chunkIndex(offset);
+        return chunk(index).get(shortLayout, offset - chunkStart(index));
+    }
+
+    @Override
+    public void putShort(long offset, short x) {
+        int index = chunkIndex(offset);
+        chunk(index).set(shortLayout, offset - chunkStart(index), x);
+    }
+
+    @Override
+    public char getChar(long offset) {
+        int index = chunkIndex(offset);
+        return chunk(index).get(charLayout, offset - chunkStart(index));
+    }
+
+    @Override
+    public void putChar(long offset, char x) {
+        int index = chunkIndex(offset);
+        chunk(index).set(charLayout, offset - chunkStart(index), x);
+    }
+
+    @Override
+    public int getInt(long offset) {
+        int index = chunkIndex(offset);
+        return chunk(index).get(intLayout, offset - chunkStart(index));
+    }
+
+    @Override
+    public void putInt(long offset, int x) {
+        int index = chunkIndex(offset);
+        chunk(index).set(intLayout, offset - chunkStart(index), x);
+    }
+
+    @Override
+    public long getLong(long offset) {
+        int index = chunkIndex(offset);
+        return chunk(index).get(longLayout, offset - chunkStart(index));
+    }
+
+    @Override
+    public void putLong(long offset, long x) {
+        int index = chunkIndex(offset);
+        chunk(index).set(longLayout, offset - chunkStart(index), x);
+    }
+
+    @Override
+    public void copy(long srcOffset, long dstOffset, long length) {
+        if (length == 0) {
+            return;
+        }
+        MemorySegment.copy(asSegment(srcOffset, length), 0, asSegment(dstOffset, length), 0, length);
+    }
+
+    @Override
+    public void fill(long offset, long length, byte value) {
+        if (length == 0) {
+            return;
+        }
+        asSegment(offset, length).fill(value);
+    }
+
+    @Override
+    public long mismatch(long offsetA, long offsetB, long length) {
+        if (length == 0) {
+            return -1;
+        }
+        return asSegment(offsetA, length).mismatch(asSegment(offsetB, length));
+    }
+
+    @Override
+    public void getBytes(long offset, byte[] dst, int dstIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(asSegment(offset, count), ValueLayout.JAVA_BYTE, 0, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putBytes(long offset, byte[] src, int srcIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(src, srcIndex, asSegment(offset, count), ValueLayout.JAVA_BYTE, 0, count);
+    }
+
+    @Override
+    public void getChars(long offset, char[] dst, int dstIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(asSegment(offset, (long) count * Character.BYTES), charLayout, 0, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putChars(long offset, char[] src, int srcIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(src, srcIndex, asSegment(offset, (long) count * Character.BYTES), charLayout, 0, count);
+    }
+
+    @Override
+    public void getInts(long offset, int[] dst, int dstIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(asSegment(offset, (long) count * Integer.BYTES), intLayout, 0, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putInts(long offset, int[] src, int srcIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(src, srcIndex, asSegment(offset, (long) count * Integer.BYTES), intLayout, 0, count);
+    }
+
+    @Override
+    public void getLongs(long offset, long[] dst, int dstIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(asSegment(offset, (long) count * Long.BYTES), longLayout, 0, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putLongs(long offset, long[] src, int srcIndex, int count) {
+        if (count == 0) {
+            return;
+        }
+        MemorySegment.copy(src, srcIndex, asSegment(offset, (long) count * Long.BYTES), longLayout, 0, count);
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null && pool != null) {
+                pool.release(chunks[i]);
+            }
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        committedBytes = 0;
+    }
+}
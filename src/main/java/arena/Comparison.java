@@ -0,0 +1,78 @@
+package arena;
+
+public enum Comparison {
+    EQ {
+        @Override
+        public boolean test(long a, long b) {
+            return a == b;
+        }
+
+        @Override
+        public boolean test(double a, double b) {
+            return a == b;
+        }
+    },
+    NE {
+        @Override
+        public boolean test(long a, long b) {
+            return a != b;
+        }
+
+        @Override
+        public boolean test(double a, double b) {
+            return a != b;
+        }
+    },
+    LT {
+        @Override
+        public boolean test(long a, long b) {
+            return a < b;
+        }
+
+        @Override
+        public boolean test(double a, double b) {
+            return a < b;
+        }
+    },
+    LE {
+        @Override
+        public boolean test(long a, long b) {
+            return a <= b;
+        }
+
+        @Override
+        public boolean test(double a, double b) {
+            return a <= b;
+        }
+    },
+    GT {
+        @Override
+        public boolean test(long a, long b) {
+            return a > b;
+        }
+
+        @Override
+        public boolean test(double a, double b) {
+            return a > b;
+        }
+    },
+    GE {
+        @Override
+        public boolean test(long a, long b) {
+            return a >= b;
+        }
+
+        @Override
+        public boolean test(double a, double b) {
+            return a >= b;
+        }
+    };
+
+    public boolean test(int a, int b) {
+        return test((long) a, (long) b);
+    }
+
+    public abstract boolean test(long a, long b);
+
+    public abstract boolean test(double a, double b);
+}
@@ -0,0 +1,159 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class DirectBufferBackingStore implements BackingStore {
+    private final ByteBuffer buffer;
+
+    public DirectBufferBackingStore(int size, ByteOrder order) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        this.buffer = ByteBuffer.allocateDirect(size).order(order);
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return MemorySegment.ofBuffer(buffer);
+    }
+
+    @Override
+    public long size() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public ByteOrder order() {
+        return buffer.order();
+    }
+
+    @Override
+    public byte getByte(long offset) {
+        return buffer.get((int) offset);
+    }
+
+    @Override
+    public void putByte(long offset, byte x) {
+        buffer.put((int) offset, x);
+    }
+
+    @Override
+    public short getShort(long offset) {
+        return buffer.getShort((int) offset);
+    }
+
+    @Override
+    public void putShort(long offset, short x) {
+        buffer.putShort((int) offset, x);
+    }
+
+    @Override
+    public char getChar(long offset) {
+        return buffer.getChar((int) offset);
+    }
+
+    @Override
+    public void putChar(long offset, char x) {
+        buffer.putChar((int) offset, x);
+    }
+
+    @Override
+    public int getInt(long offset) {
+        return buffer.getInt((int) offset);
+    }
+
+    @Override
+    public void putInt(long offset, int x) {
+        buffer.putInt((int) offset, x);
+    }
+
+    @Override
+    public long getLong(long offset) {
+        return buffer.getLong((int) offset);
+    }
+
+    @Override
+    public void putLong(long offset, long x) {
+        buffer.putLong((int) offset, x);
+    }
+
+    @Override
+    public void copy(long srcOffset, long dstOffset, long length) {
+        buffer.put((int) dstOffset, buffer, (int) srcOffset, (int) length);
+    }
+
+    @Override
+    public void fill(long offset, long length, byte value) {
+        int index = (int) offset;
+        int end = (int) (offset + length);
+        long pattern = (value & 0xFFL) * 0x0101010101010101L;
+        for (; index + Long.BYTES <= end; index += Long.BYTES) {
+            buffer.putLong(index, pattern);
+        }
+        for (; index < end; index++) {
+            buffer.put(index, value);
+        }
+    }
+
+    @Override
+    public long mismatch(long offsetA, long offsetB, long length) {
+        return view(offsetA, (int) length).mismatch(view(offsetB, (int) length));
+    }
+
+    @Override
+    public void getBytes(long offset, byte[] dst, int dstIndex, int count) {
+        buffer.get((int) offset, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putBytes(long offset, byte[] src, int srcIndex, int count) {
+        buffer.put((int) offset, src, srcIndex, count);
+    }
+
+    @Override
+    public void getChars(long offset, char[] dst, int dstIndex, int count) {
+        view(offset, count * Character.BYTES).asCharBuffer().get(dst, dstIndex, count);
+    }
+
+    @Override
+    public void putChars(long offset, char[] src, int srcIndex, int count) {
+        view(offset, count * Character.BYTES).asCharBuffer().put(src, srcIndex, count);
+    }
+
+    @Override
+    public void getInts(long offset, int[] dst, int dstIndex, int count) {
+        view(offset, count * Integer.BYTES).asIntBuffer().get(dst, dstIndex, count);
+    }
+
+    @Override
+    public void putInts(long offset, int[] src, int srcIndex, int count) {
+        view(offset, count * Integer.BYTES).asIntBuffer().put(src, srcIndex, count);
+    }
+
+    @Override
+    public void getLongs(long offset, long[] dst, int dstIndex, int count) {
+        view(offset, count * Long.BYTES).asLongBuffer().get(dst, dstIndex, count);
+    }
+
+    @Override
+    public void putLongs(long offset, long[] src, int srcIndex, int count) {
+        view(offset, count * Long.BYTES).asLongBuffer().put(src, srcIndex, count);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private ByteBuffer view(long offset, int length) {
+        return buffer.slice((int) offset, length).order(buffer.order());
+    }
+}
@@ -0,0 +1,148 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class DoubleKernels {
+    private static final ValueLayout.OfDouble DOUBLE_BE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_LE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private DoubleKernels() {
+    }
+
+    static double sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? DoubleVectorKernels.sum(segment, offset, count, order)
+            : sumScalar(segment, offset, count, order);
+    }
+
+    static double min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? DoubleVectorKernels.min(segment, offset, count, order)
+            : minScalar(segment, offset, count, order);
+    }
+
+    static double max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? DoubleVectorKernels.max(segment, offset, count, order)
+            : maxScalar(segment, offset, count, order);
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, double value, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? DoubleVectorKernels.indexOf(segment, offset, count, value, order)
+            : indexOfScalar(segment, offset, count, value, order);
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, double value, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            DoubleVectorKernels.fill(segment, offset, count, value, order);
+        } else {
+            fillScalar(segment, offset, count, value, order);
+        }
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, double operand, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            DoubleVectorKernels.map(segment, offset, count, op, operand, order);
+        } else {
+            mapScalar(segment, offset, count, op, operand, order);
+        }
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, double operand, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? DoubleVectorKernels.count(segment, offset, count, comparison, operand, order)
+            : countScalar(segment, offset, count, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, double operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? DoubleVectorKernels.filter(segment, offset, count, comparison, operand, dst, dstOffset, order)
+            : filterScalar(segment, offset, count, comparison, operand, dst, dstOffset, order);
+    }
+
+    static double sumScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += segment.get(layout, offset + ((long) i * Double.BYTES));
+        }
+        return sum;
+    }
+
+    static double minScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, segment.get(layout, offset + ((long) i * Double.BYTES)));
+        }
+        return min;
+    }
+
+    static double maxScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, segment.get(layout, offset + ((long) i * Double.BYTES)));
+        }
+        return max;
+    }
+
+    static int indexOfScalar(MemorySegment segment, long offset, int count, double value, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            if (segment.get(layout, offset + ((long) i * Double.BYTES)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void fillScalar(MemorySegment segment, long offset, int count, double value, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            segment.set(layout, offset + ((long) i * Double.BYTES), value);
+        }
+    }
+
+    static void mapScalar(MemorySegment segment, long offset, int count, ElementOp op, double operand, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            long address = offset + ((long) i * Double.BYTES);
+            segment.set(layout, address, op.apply(segment.get(layout, address), operand));
+        }
+    }
+
+    static int countScalar(MemorySegment segment, long offset, int count, Comparison comparison, double operand,
+                           ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (comparison.test(segment.get(layout, offset + ((long) i * Double.BYTES)), operand)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    static int filterScalar(MemorySegment segment, long offset, int count, Comparison comparison, double operand,
+                            MemorySegment dst, long dstOffset, ByteOrder order) {
+        ValueLayout.OfDouble layout = layout(order);
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            double value = segment.get(layout, offset + ((long) i * Double.BYTES));
+            if (comparison.test(value, operand)) {
+                dst.set(layout, dstOffset + ((long) written * Double.BYTES), value);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static ValueLayout.OfDouble layout(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN ? DOUBLE_BE : DOUBLE_LE;
+    }
+}
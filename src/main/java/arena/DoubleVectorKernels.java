@@ -0,0 +1,115 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class DoubleVectorKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long STRIDE = (long) LANES * Double.BYTES;
+
+    private DoubleVectorKernels() {
+    }
+
+    static double sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.add(DoubleVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + DoubleKernels.sumScalar(segment, address, count - bound, order);
+    }
+
+    static double min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector acc = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.min(DoubleVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), DoubleKernels.minScalar(segment, address, count - bound, order));
+    }
+
+    static double max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector acc = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.max(DoubleVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), DoubleKernels.maxScalar(segment, address, count - bound, order));
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, double value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            VectorMask<Double> hits = DoubleVector.fromMemorySegment(SPECIES, segment, address, order).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        int tail = DoubleKernels.indexOfScalar(segment, address, count - bound, value, order);
+        return tail == -1 ? -1 : bound + tail;
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, double value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector v = DoubleVector.broadcast(SPECIES, value);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            v.intoMemorySegment(segment, address, order);
+        }
+        DoubleKernels.fillScalar(segment, address, count - bound, value, order);
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, double operand, ByteOrder order) {
+        VectorOperators.Binary binary = KernelOperators.binary(op);
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            DoubleVector.fromMemorySegment(SPECIES, segment, address, order)
+                .lanewise(binary, operand)
+                .intoMemorySegment(segment, address, order);
+        }
+        DoubleKernels.mapScalar(segment, address, count - bound, op, operand, order);
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, double operand, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int matches = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            matches += DoubleVector.fromMemorySegment(SPECIES, segment, address, order).compare(test, operand).trueCount();
+        }
+        return matches + DoubleKernels.countScalar(segment, address, count - bound, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, double operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int written = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            DoubleVector v = DoubleVector.fromMemorySegment(SPECIES, segment, address, order);
+            VectorMask<Double> hits = v.compare(test, operand);
+            int n = hits.trueCount();
+            long at = dstOffset + ((long) written * Double.BYTES);
+            if (n == LANES) {
+                v.intoMemorySegment(dst, at, order);
+            } else if (n > 0) {
+                v.compress(hits).intoMemorySegment(dst, at, order, SPECIES.indexInRange(0, n));
+            }
+            written += n;
+        }
+        return written + DoubleKernels.filterScalar(segment, address, count - bound, comparison, operand,
+            dst, dstOffset + ((long) written * Double.BYTES), order);
+    }
+}
@@ -0,0 +1,135 @@
+package arena;
+
+public enum ElementOp {
+    ADD(false) {
+        @Override
+        public int apply(int a, int b) {
+            return a + b;
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return a + b;
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return a + b;
+        }
+    },
+    SUB(false) {
+        @Override
+        public int apply(int a, int b) {
+            return a - b;
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return a - b;
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return a - b;
+        }
+    },
+    MUL(false) {
+        @Override
+        public int apply(int a, int b) {
+            return a * b;
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return a * b;
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return a * b;
+        }
+    },
+    MIN(false) {
+        @Override
+        public int apply(int a, int b) {
+            return Math.min(a, b);
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return Math.min(a, b);
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return Math.min(a, b);
+        }
+    },
+    MAX(false) {
+        @Override
+        public int apply(int a, int b) {
+            return Math.max(a, b);
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return Math.max(a, b);
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return Math.max(a, b);
+        }
+    },
+    AND(true) {
+        @Override
+        public int apply(int a, int b) {
+            return a & b;
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return a & b;
+        }
+    },
+    OR(true) {
+        @Override
+        public int apply(int a, int b) {
+            return a | b;
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return a | b;
+        }
+    },
+    XOR(true) {
+        @Override
+        public int apply(int a, int b) {
+            return a ^ b;
+        }
+
+        @Override
+        public long apply(long a, long b) {
+            return a ^ b;
+        }
+    };
+
+    private final boolean bitwise;
+
+    ElementOp(boolean bitwise) {
+        this.bitwise = bitwise;
+    }
+
+    public boolean isBitwise() {
+        return bitwise;
+    }
+
+    public abstract int apply(int a, int b);
+
+    public abstract long apply(long a, long b);
+
+    public double apply(double a, double b) {
+        throw new UnsupportedOperationException(this + " is not defined for floating-point elements");
+    }
+}
@@ -0,0 +1,48 @@
+package arena;
+
+public enum ElementType {
+    BYTE(1, true),
+    SHORT(2, true),
+    INT(4, true),
+    LONG(8, true),
+    FLOAT(4, false),
+    DOUBLE(8, false);
+
+    private static final ElementType[] VALUES = values();
+
+    private final int size;
+    private final boolean integral;
+
+    ElementType(int size, boolean integral) {
+        this.size = size;
+        this.integral = integral;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    public boolean fits(long value) {
+        switch (this) {
+            case BYTE:
+                return value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE;
+            case SHORT:
+                return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+            case INT:
+                return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+            default:
+                return integral;
+        }
+    }
+
+    public static ElementType fromId(int id) {
+        if (id < 0 || id >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown element type id: " + id);
+        }
+        return VALUES[id];
+    }
+}
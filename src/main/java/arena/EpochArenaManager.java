@@ -0,0 +1,228 @@
+package arena;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EpochArenaManager implements AutoCloseable {
+    private static final int RECLAIMED = -1;
+    private static final int DEFAULT_OLD_GENERATION_CHUNK = 64 * 1024;
+
+    private final ArenaPool pool;
+    private final MemoryArena oldGeneration;
+    private final boolean ownsOldGeneration;
+    private final int retainedEpochs;
+    private final ConcurrentSkipListMap<Long, Epoch> live = new ConcurrentSkipListMap<>();
+    private final VectorStore oldVectors;
+    private final StringStore oldStrings;
+    private final HashTableStore oldTables;
+    private final LongAdder reclaimedEpochs = new LongAdder();
+    private final LongAdder promotedStructures = new LongAdder();
+    private volatile Epoch current;
+    private volatile boolean closed = false;
+
+    public EpochArenaManager(ArenaPool pool) {
+        this(pool, MemoryArena.growable(DEFAULT_OLD_GENERATION_CHUNK), 0, true);
+    }
+
+    public EpochArenaManager(ArenaPool pool, MemoryArena oldGeneration, int retainedEpochs) {
+        this(pool, oldGeneration, retainedEpochs, false);
+    }
+
+    private EpochArenaManager(ArenaPool pool, MemoryArena oldGeneration, int retainedEpochs, boolean ownsOldGeneration) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Arena pool cannot be null");
+        }
+        if (oldGeneration == null) {
+            throw new IllegalArgumentException("Old generation arena cannot be null");
+        }
+        if (retainedEpochs < 0) {
+            throw new IllegalArgumentException("Retained epoch count cannot be negative");
+        }
+        this.pool = pool;
+        this.oldGeneration = oldGeneration;
+        this.ownsOldGeneration = ownsOldGeneration;
+        this.retainedEpochs = retainedEpochs;
+        this.oldVectors = new VectorStore(oldGeneration);
+        this.oldStrings = new StringStore(oldGeneration);
+        this.oldTables = new HashTableStore(oldGeneration);
+        this.current = new Epoch(0, pool.lease());
+        live.put(0L, current);
+    }
+
+    public long currentEpoch() {
+        return current.id;
+    }
+
+    public MemoryArena currentArena() {
+        return current.arena;
+    }
+
+    public MemoryArena oldGeneration() {
+        return oldGeneration;
+    }
+
+    public synchronized long advance() {
+        checkOpen();
+        Epoch next = new Epoch(current.id + 1, pool.lease());
+        live.put(next.id, next);
+        current = next;
+        reclaim();
+        return next.id;
+    }
+
+    public EpochPin pin() {
+        while (true) {
+            checkOpen();
+            Epoch epoch = current;
+            if (tryPin(epoch)) {
+                return new EpochPin(this, epoch);
+            }
+        }
+    }
+
+    public EpochPin pin(long epochId) {
+        checkOpen();
+        Epoch epoch = live.get(epochId);
+        if (epoch == null || !tryPin(epoch)) {
+            throw new IllegalStateException("Epoch " + epochId + " has already been reclaimed");
+        }
+        return new EpochPin(this, epoch);
+    }
+
+    public boolean isLive(long epochId) {
+        return live.containsKey(epochId);
+    }
+
+    public int liveEpochCount() {
+        return live.size();
+    }
+
+    public int pinCount(long epochId) {
+        Epoch epoch = live.get(epochId);
+        return epoch == null ? 0 : Math.max(epoch.pins.get(), 0);
+    }
+
+    public long reclaimedEpochCount() {
+        return reclaimedEpochs.sum();
+    }
+
+    public long promotedCount() {
+        return promotedStructures.sum();
+    }
+
+    public synchronized int reclaim() {
+        long oldestRetained = current.id - retainedEpochs;
+        int reclaimed = 0;
+        for (Map.Entry<Long, Epoch> entry : live.headMap(oldestRetained).entrySet()) {
+            Epoch epoch = entry.getValue();
+            if (epoch.pins.compareAndSet(0, RECLAIMED)) {
+                live.remove(entry.getKey());
+                pool.release(epoch.arena);
+                reclaimedEpochs.increment();
+                reclaimed++;
+            }
+        }
+        return reclaimed;
+    }
+
+    public int promoteVector(long epochId, int vectorAddr) {
+        try (EpochPin pin = pin(epochId)) {
+            VectorStore source = new VectorStore(pin.arena());
+            int promoted;
+            synchronized (oldGeneration) {
+                promoted = source.copyTo(vectorAddr, oldVectors);
+            }
+            promotedStructures.increment();
+            return promoted;
+        }
+    }
+
+    public int promoteString(long epochId, int stringAddr) {
+        try (EpochPin pin = pin(epochId)) {
+            StringStore source = new StringStore(pin.arena());
+            int promoted;
+            synchronized (oldGeneration) {
+                promoted = source.copyTo(stringAddr, oldStrings);
+            }
+            promotedStructures.increment();
+            return promoted;
+        }
+    }
+
+    public int promoteHashTable(long epochId, int tableAddr) {
+        try (EpochPin pin = pin(epochId)) {
+            HashTableStore source = new HashTableStore(pin.arena());
+            int promoted;
+            synchronized (oldGeneration) {
+                promoted = source.copyTo(tableAddr, oldTables);
+            }
+            promotedStructures.increment();
+            return promoted;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        List<Epoch> reclaimed = new ArrayList<>();
+        for (Epoch epoch : live.values()) {
+            if (!epoch.pins.compareAndSet(0, RECLAIMED)) {
+                for (Epoch undo : reclaimed) {
+                    undo.pins.set(0);
+                }
+                closed = false;
+                throw new IllegalStateException("Epoch " + epoch.id + " is still pinned by " + epoch.pins.get() + " readers");
+            }
+            reclaimed.add(epoch);
+        }
+        for (Epoch epoch : reclaimed) {
+            pool.release(epoch.arena);
+        }
+        live.clear();
+        if (ownsOldGeneration) {
+            oldGeneration.close();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Epoch manager is closed");
+        }
+    }
+
+    void unpin(Epoch epoch) {
+        if (epoch.pins.decrementAndGet() == 0 && epoch != current) {
+            reclaim();
+        }
+    }
+
+    private static boolean tryPin(Epoch epoch) {
+        while (true) {
+            int pins = epoch.pins.get();
+            if (pins == RECLAIMED) {
+                return false;
+            }
+            if (epoch.pins.compareAndSet(pins, pins + 1)) {
+                return true;
+            }
+        }
+    }
+
+    static final class Epoch {
+        final long id;
+        final MemoryArena arena;
+        final AtomicInteger pins = new AtomicInteger();
+
+        Epoch(long id, MemoryArena arena) {
+            this.id = id;
+            this.arena = arena;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package arena;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class EpochPin implements AutoCloseable {
+    private final EpochArenaManager manager;
+    private final EpochArenaManager.Epoch epoch;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    EpochPin(EpochArenaManager manager, EpochArenaManager.Epoch epoch) {
+        this.manager = manager;
+        this.epoch = epoch;
+    }
+
+    public long epoch() {
+        return epoch.id;
+    }
+
+    public MemoryArena arena() {
+        if (released.get()) {
+            throw new IllegalStateException("Pin on epoch " + epoch.id + " has been released");
+        }
+        return epoch.arena;
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            manager.unpin(epoch);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class FloatKernels {
+    private static final ValueLayout.OfFloat FLOAT_BE = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_LE = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private FloatKernels() {
+    }
+
+    static double sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? FloatVectorKernels.sum(segment, offset, count, order)
+            : sumScalar(segment, offset, count, order);
+    }
+
+    static float min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? FloatVectorKernels.min(segment, offset, count, order)
+            : minScalar(segment, offset, count, order);
+    }
+
+    static float max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? FloatVectorKernels.max(segment, offset, count, order)
+            : maxScalar(segment, offset, count, order);
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, float value, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? FloatVectorKernels.indexOf(segment, offset, count, value, order)
+            : indexOfScalar(segment, offset, count, value, order);
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, float value, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            FloatVectorKernels.fill(segment, offset, count, value, order);
+        } else {
+            fillScalar(segment, offset, count, value, order);
+        }
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, float operand, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            FloatVectorKernels.map(segment, offset, count, op, operand, order);
+        } else {
+            mapScalar(segment, offset, count, op, operand, order);
+        }
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, float operand, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? FloatVectorKernels.count(segment, offset, count, comparison, operand, order)
+            : countScalar(segment, offset, count, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, float operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? FloatVectorKernels.filter(segment, offset, count, comparison, operand, dst, dstOffset, order)
+            : filterScalar(segment, offset, count, comparison, operand, dst, dstOffset, order);
+    }
+
+    static double sumScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += segment.get(layout, offset + ((long) i * Float.BYTES));
+        }
+        return sum;
+    }
+
+    static float minScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        float min = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, segment.get(layout, offset + ((long) i * Float.BYTES)));
+        }
+        return min;
+    }
+
+    static float maxScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        float max = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, segment.get(layout, offset + ((long) i * Float.BYTES)));
+        }
+        return max;
+    }
+
+    static int indexOfScalar(MemorySegment segment, long offset, int count, float value, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            if (segment.get(layout, offset + ((long) i * Float.BYTES)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void fillScalar(MemorySegment segment, long offset, int count, float value, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            segment.set(layout, offset + ((long) i * Float.BYTES), value);
+        }
+    }
+
+    static void mapScalar(MemorySegment segment, long offset, int count, ElementOp op, float operand, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            long address = offset + ((long) i * Float.BYTES);
+            segment.set(layout, address, (float) op.apply(segment.get(layout, address), operand));
+        }
+    }
+
+    static int countScalar(MemorySegment segment, long offset, int count, Comparison comparison, float operand,
+                           ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (comparison.test(segment.get(layout, offset + ((long) i * Float.BYTES)), operand)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    static int filterScalar(MemorySegment segment, long offset, int count, Comparison comparison, float operand,
+                            MemorySegment dst, long dstOffset, ByteOrder order) {
+        ValueLayout.OfFloat layout = layout(order);
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            float value = segment.get(layout, offset + ((long) i * Float.BYTES));
+            if (comparison.test(value, operand)) {
+                dst.set(layout, dstOffset + ((long) written * Float.BYTES), value);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static ValueLayout.OfFloat layout(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN ? FLOAT_BE : FLOAT_LE;
+    }
+}
@@ -0,0 +1,121 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class FloatVectorKernels {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long STRIDE = (long) LANES * Float.BYTES;
+    private static final VectorSpecies<Double> WIDE_SPECIES = VectorSpecies.of(double.class, SPECIES.vectorShape());
+    private static final int PARTS = LANES / WIDE_SPECIES.length();
+
+    private FloatVectorKernels() {
+    }
+
+    static double sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector acc = DoubleVector.zero(WIDE_SPECIES);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            FloatVector v = FloatVector.fromMemorySegment(SPECIES, segment, address, order);
+            for (int part = 0; part < PARTS; part++) {
+                acc = acc.add(v.convertShape(VectorOperators.F2D, WIDE_SPECIES, part));
+            }
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + FloatKernels.sumScalar(segment, address, count - bound, order);
+    }
+
+    static float min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        FloatVector acc = FloatVector.broadcast(SPECIES, Float.POSITIVE_INFINITY);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.min(FloatVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), FloatKernels.minScalar(segment, address, count - bound, order));
+    }
+
+    static float max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        FloatVector acc = FloatVector.broadcast(SPECIES, Float.NEGATIVE_INFINITY);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.max(FloatVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), FloatKernels.maxScalar(segment, address, count - bound, order));
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, float value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            VectorMask<Float> hits = FloatVector.fromMemorySegment(SPECIES, segment, address, order).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        int tail = FloatKernels.indexOfScalar(segment, address, count - bound, value, order);
+        return tail == -1 ? -1 : bound + tail;
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, float value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        FloatVector v = FloatVector.broadcast(SPECIES, value);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            v.intoMemorySegment(segment, address, order);
+        }
+        FloatKernels.fillScalar(segment, address, count - bound, value, order);
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, float operand, ByteOrder order) {
+        VectorOperators.Binary binary = KernelOperators.binary(op);
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            FloatVector.fromMemorySegment(SPECIES, segment, address, order)
+                .lanewise(binary, operand)
+                .intoMemorySegment(segment, address, order);
+        }
+        FloatKernels.mapScalar(segment, address, count - bound, op, operand, order);
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, float operand, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int matches = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            matches += FloatVector.fromMemorySegment(SPECIES, segment, address, order).compare(test, operand).trueCount();
+        }
+        return matches + FloatKernels.countScalar(segment, address, count - bound, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, float operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int written = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            FloatVector v = FloatVector.fromMemorySegment(SPECIES, segment, address, order);
+            VectorMask<Float> hits = v.compare(test, operand);
+            int n = hits.trueCount();
+            long at = dstOffset + ((long) written * Float.BYTES);
+            if (n == LANES) {
+                v.intoMemorySegment(dst, at, order);
+            } else if (n > 0) {
+                v.compress(hits).intoMemorySegment(dst, at, order, SPECIES.indexInRange(0, n));
+            }
+            written += n;
+        }
+        return written + FloatKernels.filterScalar(segment, address, count - bound, comparison, operand,
+            dst, dstOffset + ((long) written * Float.BYTES), order);
+    }
+}
@@ -0,0 +1,61 @@
+package arena;
+
+public enum HashStrategy {
+    MODULO {
+        @Override
+        public int index(int key, int seed, int bucketCount) {
+            return Math.floorMod(key ^ seed, bucketCount);
+        }
+    },
+    MURMUR3 {
+        @Override
+        public int index(int key, int seed, int bucketCount) {
+            int h = key ^ seed;
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            h ^= h >>> 16;
+            return reduce(h, bucketCount);
+        }
+    },
+    FXHASH {
+        @Override
+        public int index(int key, int seed, int bucketCount) {
+            int h = (Integer.rotateLeft(seed, 5) ^ key) * 0x9E3779B9;
+            if (isPowerOfTwo(bucketCount)) {
+                return bucketCount == 1 ? 0 : h >>> (32 - Integer.numberOfTrailingZeros(bucketCount));
+            }
+            return Math.floorMod(h, bucketCount);
+        }
+    };
+
+    private static final HashStrategy[] VALUES = values();
+
+    public abstract int index(int key, int seed, int bucketCount);
+
+    public static HashStrategy fromId(int id) {
+        if (id < 0 || id >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown hash strategy id: " + id);
+        }
+        return VALUES[id];
+    }
+
+    public static boolean isPowerOfTwo(int n) {
+        return n > 0 && (n & (n - 1)) == 0;
+    }
+
+    public static int nextPowerOfTwo(int n) {
+        if (n <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private static int reduce(int h, int bucketCount) {
+        if (isPowerOfTwo(bucketCount)) {
+            return h & (bucketCount - 1);
+        }
+        return Math.floorMod(h, bucketCount);
+    }
+}
@@ -0,0 +1,409 @@
+package arena;
+
+public class HashTableStore {
+    private final MemoryArena arena;
+    private final boolean checked;
+    private static final int BUCKET_COUNT_OFFSET = 0;
+    private static final int BUCKETS_PTR_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int OLD_BUCKET_COUNT_OFFSET = 12;
+    private static final int OLD_BUCKETS_PTR_OFFSET = 16;
+    private static final int REHASH_INDEX_OFFSET = 20;
+    private static final int FLAGS_OFFSET = 24;
+    private static final int SEED_OFFSET = 28;
+    private static final int HEADER_SIZE = 32;
+    private static final int ENTRY_KEY_OFFSET = 0;
+    private static final int ENTRY_VALUE_OFFSET = 4;
+    private static final int ENTRY_NEXT_OFFSET = 8;
+    private static final int ENTRY_SIZE = 12;
+    private static final int DEFAULT_BUCKET_COUNT = 16;
+    private static final int FLAG_INCREMENTAL_REHASH = 1;
+    private static final int STRATEGY_SHIFT = 8;
+    private static final int STRATEGY_MASK = 0xFF;
+    private static final double MAX_LOAD_FACTOR = 1.0;
+    private static final int REHASH_BUCKETS_PER_STEP = 4;
+    private static final int REHASH_EMPTY_VISITS_PER_STEP = 40;
+
+    public HashTableStore(MemoryArena arena) {
+        this.arena = arena;
+        this.checked = arena.isChecked();
+    }
+
+    public int createHashTable(int bucketCount) {
+        return createHashTable(bucketCount, false);
+    }
+
+    public int createHashTable(int bucketCount, boolean incrementalRehash) {
+        return createHashTable(bucketCount, incrementalRehash, HashStrategy.MURMUR3, 0);
+    }
+
+    public int createHashTable(int bucketCount, boolean incrementalRehash, HashStrategy strategy, int seed) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Hash strategy cannot be null");
+        }
+        if (bucketCount <= 0) {
+            bucketCount = DEFAULT_BUCKET_COUNT;
+        }
+        if (strategy != HashStrategy.MODULO) {
+            bucketCount = HashStrategy.nextPowerOfTwo(bucketCount);
+        }
+        int flags = (strategy.ordinal() << STRATEGY_SHIFT) | (incrementalRehash ? FLAG_INCREMENTAL_REHASH : 0);
+        
+        int tableAddr = arena.alloc(HEADER_SIZE);
+        arena.putInt(tableAddr + BUCKET_COUNT_OFFSET, bucketCount);
+        arena.putInt(tableAddr + BUCKETS_PTR_OFFSET, createBucketArray(bucketCount));
+        arena.putInt(tableAddr + SIZE_OFFSET, 0);
+        arena.putInt(tableAddr + OLD_BUCKET_COUNT_OFFSET, 0);
+        arena.putInt(tableAddr + OLD_BUCKETS_PTR_OFFSET, -1);
+        arena.putInt(tableAddr + REHASH_INDEX_OFFSET, -1);
+        arena.putInt(tableAddr + FLAGS_OFFSET, flags);
+        arena.putInt(tableAddr + SEED_OFFSET, seed);
+        
+        return tableAddr;
+    }
+
+    public int getBucketCount(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+    }
+
+    public int getSize(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return arena.getInt(tableAddr + SIZE_OFFSET);
+    }
+
+    public double getLoadFactor(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return (double) arena.getInt(tableAddr + SIZE_OFFSET) / arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+    }
+
+    public HashStrategy getHashStrategy(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return strategyOf(tableAddr);
+    }
+
+    public int getChainLength(int tableAddr, int bucketIndex) {
+        checkTablePtr(tableAddr);
+        finishRehash(tableAddr);
+        int bucketCount = arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+        if (bucketIndex < 0 || bucketIndex >= bucketCount) {
+            throw new IndexOutOfBoundsException(
+                "Bucket " + bucketIndex + " out of bounds for table with " + bucketCount + " buckets"
+            );
+        }
+        int length = 0;
+        int current = arena.getInt(arena.getInt(tableAddr + BUCKETS_PTR_OFFSET) + (bucketIndex * 4));
+        while (current != -1) {
+            length++;
+            current = arena.getInt(current + ENTRY_NEXT_OFFSET);
+        }
+        return length;
+    }
+
+    public boolean isRehashing(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return arena.getInt(tableAddr + REHASH_INDEX_OFFSET) != -1;
+    }
+
+    public void put(int tableAddr, int key, int value) {
+        checkTablePtr(tableAddr);
+        int rehashIndex = rehashStep(tableAddr);
+        int bucketCount = arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+        
+        int bucketPtrAddr = bucketFor(tableAddr, key, rehashIndex, bucketCount);
+        int headAddr = arena.getInt(bucketPtrAddr);
+        
+        int entryAddr = findEntry(headAddr, key);
+        
+        if (entryAddr != -1) {
+            arena.putInt(entryAddr + ENTRY_VALUE_OFFSET, value);
+        } else {
+            int newEntryAddr = createEntry(key, value);
+            arena.putInt(newEntryAddr + ENTRY_NEXT_OFFSET, headAddr);
+            arena.putInt(bucketPtrAddr, newEntryAddr);
+            
+            int size = arena.getInt(tableAddr + SIZE_OFFSET) + 1;
+            arena.putInt(tableAddr + SIZE_OFFSET, size);
+            if (size > bucketCount * MAX_LOAD_FACTOR && rehashIndex == -1) {
+                startRehash(tableAddr, bucketCount * 2);
+            }
+        }
+    }
+
+    public Integer get(int tableAddr, int key) {
+        checkTablePtr(tableAddr);
+        int rehashIndex = rehashStep(tableAddr);
+        
+        int headAddr = arena.getInt(bucketFor(tableAddr, key, rehashIndex, arena.getInt(tableAddr + BUCKET_COUNT_OFFSET)));
+        
+        int entryAddr = findEntry(headAddr, key);
+        if (entryAddr == -1) {
+            return null;
+        }
+        
+        return arena.getInt(entryAddr + ENTRY_VALUE_OFFSET);
+    }
+
+    public boolean contains(int tableAddr, int key) {
+        return get(tableAddr, key) != null;
+    }
+
+    public void remove(int tableAddr, int key) {
+        checkTablePtr(tableAddr);
+        int rehashIndex = rehashStep(tableAddr);
+        
+        int bucketPtrAddr = bucketFor(tableAddr, key, rehashIndex, arena.getInt(tableAddr + BUCKET_COUNT_OFFSET));
+        int headAddr = arena.getInt(bucketPtrAddr);
+        
+        if (headAddr == -1) {
+            return;
+        }
+        
+        if (arena.getInt(headAddr + ENTRY_KEY_OFFSET) == key) {
+            int nextAddr = arena.getInt(headAddr + ENTRY_NEXT_OFFSET);
+            arena.putInt(bucketPtrAddr, nextAddr);
+            arena.free(headAddr, ENTRY_SIZE);
+            decrementSize(tableAddr);
+            return;
+        }
+        
+        int current = headAddr;
+        while (current != -1) {
+            int nextAddr = arena.getInt(current + ENTRY_NEXT_OFFSET);
+            if (nextAddr == -1) {
+                break;
+            }
+            
+            if (arena.getInt(nextAddr + ENTRY_KEY_OFFSET) == key) {
+                int nextNextAddr = arena.getInt(nextAddr + ENTRY_NEXT_OFFSET);
+                arena.putInt(current + ENTRY_NEXT_OFFSET, nextNextAddr);
+                arena.free(nextAddr, ENTRY_SIZE);
+                decrementSize(tableAddr);
+                return;
+            }
+            
+            current = nextAddr;
+        }
+    }
+
+    public void finishRehash(int tableAddr) {
+        checkTablePtr(tableAddr);
+        int rehashIndex = arena.getInt(tableAddr + REHASH_INDEX_OFFSET);
+        while (rehashIndex != -1) {
+            rehashIndex = migrateBuckets(tableAddr, rehashIndex, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+    }
+
+    public int copyTo(int tableAddr, HashTableStore target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target store cannot be null");
+        }
+        checkTablePtr(tableAddr);
+        int flags = arena.getInt(tableAddr + FLAGS_OFFSET);
+        int bucketCount = arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+        int size = arena.getInt(tableAddr + SIZE_OFFSET);
+        
+        int copyAddr = target.createHashTable(Math.max(bucketCount, size), (flags & FLAG_INCREMENTAL_REHASH) != 0,
+            strategyOf(tableAddr), arena.getInt(tableAddr + SEED_OFFSET));
+        int rehashIndex = arena.getInt(tableAddr + REHASH_INDEX_OFFSET);
+        if (rehashIndex != -1) {
+            copyBuckets(arena.getInt(tableAddr + OLD_BUCKETS_PTR_OFFSET), rehashIndex,
+                arena.getInt(tableAddr + OLD_BUCKET_COUNT_OFFSET), target, copyAddr);
+        }
+        copyBuckets(arena.getInt(tableAddr + BUCKETS_PTR_OFFSET), 0, bucketCount, target, copyAddr);
+        
+        return copyAddr;
+    }
+
+    public void freeHashTable(int tableAddr) {
+        checkTablePtr(tableAddr);
+        if (arena.getInt(tableAddr + REHASH_INDEX_OFFSET) != -1) {
+            int oldBucketCount = arena.getInt(tableAddr + OLD_BUCKET_COUNT_OFFSET);
+            int oldBucketsPtr = arena.getInt(tableAddr + OLD_BUCKETS_PTR_OFFSET);
+            freeBucketArray(oldBucketsPtr, oldBucketCount);
+        }
+        freeBucketArray(arena.getInt(tableAddr + BUCKETS_PTR_OFFSET), arena.getInt(tableAddr + BUCKET_COUNT_OFFSET));
+        arena.free(tableAddr, HEADER_SIZE);
+    }
+
+    public void printHashTable(int tableAddr) {
+        checkTablePtr(tableAddr);
+        int bucketCount = arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+        int rehashIndex = arena.getInt(tableAddr + REHASH_INDEX_OFFSET);
+        
+        System.out.println("HashTable (buckets: " + bucketCount + ", size: " + arena.getInt(tableAddr + SIZE_OFFSET) + "):");
+        if (rehashIndex != -1) {
+            int oldBucketCount = arena.getInt(tableAddr + OLD_BUCKET_COUNT_OFFSET);
+            System.out.println("  Rehashing from " + oldBucketCount + " buckets, next old bucket: " + rehashIndex);
+            printBuckets(arena.getInt(tableAddr + OLD_BUCKETS_PTR_OFFSET), rehashIndex, oldBucketCount, "Old bucket ");
+        }
+        printBuckets(arena.getInt(tableAddr + BUCKETS_PTR_OFFSET), 0, bucketCount, "Bucket ");
+    }
+
+    private HashStrategy strategyOf(int tableAddr) {
+        return HashStrategy.fromId((arena.getInt(tableAddr + FLAGS_OFFSET) >>> STRATEGY_SHIFT) & STRATEGY_MASK);
+    }
+
+    private int bucketFor(int tableAddr, int key, int rehashIndex, int bucketCount) {
+        HashStrategy strategy = strategyOf(tableAddr);
+        int seed = arena.getInt(tableAddr + SEED_OFFSET);
+        if (rehashIndex != -1) {
+            int oldIndex = strategy.index(key, seed, arena.getInt(tableAddr + OLD_BUCKET_COUNT_OFFSET));
+            if (oldIndex >= rehashIndex) {
+                return arena.getInt(tableAddr + OLD_BUCKETS_PTR_OFFSET) + (oldIndex * 4);
+            }
+        }
+        int bucketIndex = strategy.index(key, seed, bucketCount);
+        return arena.getInt(tableAddr + BUCKETS_PTR_OFFSET) + (bucketIndex * 4);
+    }
+
+    private void startRehash(int tableAddr, int newBucketCount) {
+        arena.putInt(tableAddr + OLD_BUCKET_COUNT_OFFSET, arena.getInt(tableAddr + BUCKET_COUNT_OFFSET));
+        arena.putInt(tableAddr + OLD_BUCKETS_PTR_OFFSET, arena.getInt(tableAddr + BUCKETS_PTR_OFFSET));
+        arena.putInt(tableAddr + BUCKET_COUNT_OFFSET, newBucketCount);
+        arena.putInt(tableAddr + BUCKETS_PTR_OFFSET, createBucketArray(newBucketCount));
+        arena.putInt(tableAddr + REHASH_INDEX_OFFSET, 0);
+        
+        if ((arena.getInt(tableAddr + FLAGS_OFFSET) & FLAG_INCREMENTAL_REHASH) == 0) {
+            finishRehash(tableAddr);
+        }
+    }
+
+    private int rehashStep(int tableAddr) {
+        int rehashIndex = arena.getInt(tableAddr + REHASH_INDEX_OFFSET);
+        if (rehashIndex == -1) {
+            return -1;
+        }
+        return migrateBuckets(tableAddr, rehashIndex, REHASH_BUCKETS_PER_STEP, REHASH_EMPTY_VISITS_PER_STEP);
+    }
+
+    private int migrateBuckets(int tableAddr, int rehashIndex, int bucketLimit, int emptyVisitLimit) {
+        int oldBucketCount = arena.getInt(tableAddr + OLD_BUCKET_COUNT_OFFSET);
+        int oldBucketsPtr = arena.getInt(tableAddr + OLD_BUCKETS_PTR_OFFSET);
+        int bucketCount = arena.getInt(tableAddr + BUCKET_COUNT_OFFSET);
+        int bucketsPtr = arena.getInt(tableAddr + BUCKETS_PTR_OFFSET);
+        HashStrategy strategy = strategyOf(tableAddr);
+        int seed = arena.getInt(tableAddr + SEED_OFFSET);
+        
+        int migrated = 0;
+        int emptyVisits = 0;
+        while (rehashIndex < oldBucketCount && migrated < bucketLimit && emptyVisits < emptyVisitLimit) {
+            int oldBucketPtrAddr = oldBucketsPtr + (rehashIndex * 4);
+            int current = arena.getInt(oldBucketPtrAddr);
+            if (current == -1) {
+                emptyVisits++;
+            } else {
+                while (current != -1) {
+                    int nextAddr = arena.getInt(current + ENTRY_NEXT_OFFSET);
+                    int newBucketPtrAddr = bucketsPtr + (strategy.index(arena.getInt(current + ENTRY_KEY_OFFSET), seed, bucketCount) * 4);
+                    arena.putInt(current + ENTRY_NEXT_OFFSET, arena.getInt(newBucketPtrAddr));
+                    arena.putInt(newBucketPtrAddr, current);
+                    current = nextAddr;
+                }
+                arena.putInt(oldBucketPtrAddr, -1);
+                migrated++;
+            }
+            rehashIndex++;
+        }
+        
+        if (rehashIndex >= oldBucketCount) {
+            arena.free(oldBucketsPtr, oldBucketCount * 4);
+            arena.putInt(tableAddr + OLD_BUCKET_COUNT_OFFSET, 0);
+            arena.putInt(tableAddr + OLD_BUCKETS_PTR_OFFSET, -1);
+            arena.putInt(tableAddr + REHASH_INDEX_OFFSET, -1);
+            return -1;
+        }
+        arena.putInt(tableAddr + REHASH_INDEX_OFFSET, rehashIndex);
+        return rehashIndex;
+    }
+
+    private int createBucketArray(int bucketCount) {
+        int bucketsPtr = arena.alloc(bucketCount * 4);
+        for (int i = 0; i < bucketCount; i++) {
+            arena.putInt(bucketsPtr + (i * 4), -1);
+        }
+        return bucketsPtr;
+    }
+
+    private void freeBucketArray(int bucketsPtr, int bucketCount) {
+        for (int i = 0; i < bucketCount; i++) {
+            int current = arena.getInt(bucketsPtr + (i * 4));
+            while (current != -1) {
+                int nextAddr = arena.getInt(current + ENTRY_NEXT_OFFSET);
+                arena.free(current, ENTRY_SIZE);
+                current = nextAddr;
+            }
+        }
+        arena.free(bucketsPtr, bucketCount * 4);
+    }
+
+    private void decrementSize(int tableAddr) {
+        arena.putInt(tableAddr + SIZE_OFFSET, arena.getInt(tableAddr + SIZE_OFFSET) - 1);
+    }
+
+    private int createEntry(int key, int value) {
+        int entryAddr = arena.alloc(ENTRY_SIZE);
+        arena.putInt(entryAddr + ENTRY_KEY_OFFSET, key);
+        arena.putInt(entryAddr + ENTRY_VALUE_OFFSET, value);
+        arena.putInt(entryAddr + ENTRY_NEXT_OFFSET, -1);
+        return entryAddr;
+    }
+
+    private int findEntry(int headAddr, int key) {
+        int current = headAddr;
+        while (current != -1) {
+            int currentKey = arena.getInt(current + ENTRY_KEY_OFFSET);
+            if (currentKey == key) {
+                return current;
+            }
+            current = arena.getInt(current + ENTRY_NEXT_OFFSET);
+        }
+        return -1;
+    }
+
+    private void copyBuckets(int bucketsPtr, int from, int bucketCount, HashTableStore target, int targetAddr) {
+        for (int i = from; i < bucketCount; i++) {
+            int current = arena.getInt(bucketsPtr + (i * 4));
+            while (current != -1) {
+                target.put(targetAddr, arena.getInt(current + ENTRY_KEY_OFFSET), arena.getInt(current + ENTRY_VALUE_OFFSET));
+                current = arena.getInt(current + ENTRY_NEXT_OFFSET);
+            }
+        }
+    }
+
+    private void printBuckets(int bucketsPtr, int from, int bucketCount, String label) {
+        for (int i = from; i < bucketCount; i++) {
+            int headAddr = arena.getInt(bucketsPtr + (i * 4));
+            
+            if (headAddr != -1) {
+                System.out.print("  " + label + i + ": ");
+                printBucket(headAddr);
+                System.out.println();
+            }
+        }
+    }
+
+    private void printBucket(int headAddr) {
+        int current = headAddr;
+        boolean first = true;
+        while (current != -1) {
+            if (!first) {
+                System.out.print(" -> ");
+            }
+            int key = arena.getInt(current + ENTRY_KEY_OFFSET);
+            int value = arena.getInt(current + ENTRY_VALUE_OFFSET);
+            System.out.print("(" + key + ":" + value + ")");
+            current = arena.getInt(current + ENTRY_NEXT_OFFSET);
+            first = false;
+        }
+    }
+
+    private void checkTablePtr(int ptr) {
+        if (!checked) {
+            return;
+        }
+        if (ptr < 0 || ptr + HEADER_SIZE > arena.allocatedBoundary()) {
+            throw new InvalidPointerException(ptr, HEADER_SIZE, arena.allocatedBoundary(), arena.capacity());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+public class HeapBackingStore implements BackingStore {
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle CHAR_BE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle CHAR_LE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final byte[] memory;
+    private final ByteOrder order;
+    private final boolean bigEndian;
+
+    public HeapBackingStore(int size, ByteOrder order) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        this.memory = new byte[size];
+        this.order = order;
+        this.bigEndian = order == ByteOrder.BIG_ENDIAN;
+    }
+
+    public byte[] array() {
+        return memory;
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return MemorySegment.ofArray(memory);
+    }
+
+    @Override
+    public long size() {
+        return memory.length;
+    }
+
+    @Override
+    public ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public byte getByte(long offset) {
+        return memory[(int) offset];
+    }
+
+    @Override
+    public void putByte(long offset, byte x) {
+        memory[(int) offset] = x;
+    }
+
+    @Override
+    public short getShort(long offset) {
+        return bigEndian ? (short) SHORT_BE.get(memory, (int) offset) : (short) SHORT_LE.get(memory, (int) offset);
+    }
+
+    @Override
+    public void putShort(long offset, short x) {
+        if (bigEndian) {
+            SHORT_BE.set(memory, (int) offset, x);
+        } else {
+            SHORT_LE.set(memory, (int) offset, x);
+        }
+    }
+
+    @Override
+    public char getChar(long offset) {
+        return bigEndian ? (char) CHAR_BE.get(memory, (int) offset) : (char) CHAR_LE.get(memory, (int) offset);
+    }
+
+    @Override
+    public void putChar(long offset, char x) {
+        if (bigEndian) {
+            CHAR_BE.set(memory, (int) offset, x);
+        } else {
+            CHAR_LE.set(memory, (int) offset, x);
+        }
+    }
+
+    @Override
+    public int getInt(long offset) {
+        return bigEndian ? (int) INT_BE.get(memory, (int) offset) : (int) INT_LE.get(memory, (int) offset);
+    }
+
+    @Override
+    public void putInt(long offset, int x) {
+        if (bigEndian) {
+            INT_BE.set(memory, (int) offset, x);
+        } else {
+            INT_LE.set(memory, (int) offset, x);
+        }
+    }
+
+    @Override
+    public long getLong(long offset) {
+        return bigEndian ? (long) LONG_BE.get(memory, (int) offset) : (long) LONG_LE.get(memory, (int) offset);
+    }
+
+    @Override
+    public void putLong(long offset, long x) {
+        if (bigEndian) {
+            LONG_BE.set(memory, (int) offset, x);
+        } else {
+            LONG_LE.set(memory, (int) offset, x);
+        }
+    }
+
+    @Override
+    public void copy(long srcOffset, long dstOffset, long length) {
+        System.arraycopy(memory, (int) srcOffset, memory, (int) dstOffset, (int) length);
+    }
+
+    @Override
+    public void fill(long offset, long length, byte value) {
+        Arrays.fill(memory, (int) offset, (int) (offset + length), value);
+    }
+
+    @Override
+    public long mismatch(long offsetA, long offsetB, long length) {
+        return Arrays.mismatch(
+            memory, (int) offsetA, (int) (offsetA + length),
+            memory, (int) offsetB, (int) (offsetB + length)
+        );
+    }
+
+    @Override
+    public void getBytes(long offset, byte[] dst, int dstIndex, int count) {
+        System.arraycopy(memory, (int) offset, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putBytes(long offset, byte[] src, int srcIndex, int count) {
+        System.arraycopy(src, srcIndex, memory, (int) offset, count);
+    }
+
+    @Override
+    public void getChars(long offset, char[] dst, int dstIndex, int count) {
+        int addr = (int) offset;
+        if (bigEndian) {
+            for (int i = 0; i < count; i++) {
+                dst[dstIndex + i] = (char) CHAR_BE.get(memory, addr + (i * Character.BYTES));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstIndex + i] = (char) CHAR_LE.get(memory, addr + (i * Character.BYTES));
+            }
+        }
+    }
+
+    @Override
+    public void putChars(long offset, char[] src, int srcIndex, int count) {
+        int addr = (int) offset;
+        if (bigEndian) {
+            for (int i = 0; i < count; i++) {
+                CHAR_BE.set(memory, addr + (i * Character.BYTES), src[srcIndex + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                CHAR_LE.set(memory, addr + (i * Character.BYTES), src[srcIndex + i]);
+            }
+        }
+    }
+
+    @Override
+    public void getInts(long offset, int[] dst, int dstIndex, int count) {
+        int addr = (int) offset;
+        if (bigEndian) {
+            for (int i = 0; i < count; i++) {
+                dst[dstIndex + i] = (int) INT_BE.get(memory, addr + (i * Integer.BYTES));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstIndex + i] = (int) INT_LE.get(memory, addr + (i * Integer.BYTES));
+            }
+        }
+    }
+
+    @Override
+    public void putInts(long offset, int[] src, int srcIndex, int count) {
+        int addr = (int) offset;
+        if (bigEndian) {
+            for (int i = 0; i < count; i++) {
+                INT_BE.set(memory, addr + (i * Integer.BYTES), src[srcIndex + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                INT_LE.set(memory, addr + (i * Integer.BYTES), src[srcIndex + i]);
+            }
+        }
+    }
+
+    @Override
+    public void getLongs(long offset, long[] dst, int dstIndex, int count) {
+        int addr = (int) offset;
+        if (bigEndian) {
+            for (int i = 0; i < count; i++) {
+                dst[dstIndex + i] = (long) LONG_BE.get(memory, addr + (i * Long.BYTES));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[dstIndex + i] = (long) LONG_LE.get(memory, addr + (i * Long.BYTES));
+            }
+        }
+    }
+
+    @Override
+    public void putLongs(long offset, long[] src, int srcIndex, int count) {
+        int addr = (int) offset;
+        if (bigEndian) {
+            for (int i = 0; i < count; i++) {
+                LONG_BE.set(memory, addr + (i * Long.BYTES), src[srcIndex + i]);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                LONG_LE.set(memory, addr + (i * Long.BYTES), src[srcIndex + i]);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
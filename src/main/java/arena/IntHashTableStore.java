@@ -0,0 +1,255 @@
+package arena;
+
+public class IntHashTableStore {
+    private final MemoryArena arena;
+    private final boolean checked;
+    private static final int CAPACITY_OFFSET = 0;
+    private static final int SIZE_OFFSET = 4;
+    private static final int SLOTS_PTR_OFFSET = 8;
+    private static final int HAS_ZERO_KEY_OFFSET = 12;
+    private static final int ZERO_VALUE_OFFSET = 16;
+    private static final int HEADER_SIZE = 20;
+    private static final int SLOT_KEY_OFFSET = 0;
+    private static final int SLOT_VALUE_OFFSET = 4;
+    private static final int SLOT_SIZE = OpenAddressing.SLOT_SIZE;
+    private static final int EMPTY_KEY = 0;
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE / SLOT_SIZE);
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    public IntHashTableStore(MemoryArena arena) {
+        this.arena = arena;
+        this.checked = arena.isChecked();
+    }
+
+    public int createTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        int capacity = capacityFor(expectedSize);
+        
+        int tableAddr = arena.alloc(HEADER_SIZE);
+        arena.putInt(tableAddr + CAPACITY_OFFSET, capacity);
+        arena.putInt(tableAddr + SIZE_OFFSET, 0);
+        arena.putInt(tableAddr + SLOTS_PTR_OFFSET, allocSlots(capacity));
+        arena.putInt(tableAddr + HAS_ZERO_KEY_OFFSET, 0);
+        arena.putInt(tableAddr + ZERO_VALUE_OFFSET, 0);
+        return tableAddr;
+    }
+
+    public int size(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return arena.getInt(tableAddr + SIZE_OFFSET);
+    }
+
+    public int getCapacity(int tableAddr) {
+        checkTablePtr(tableAddr);
+        return arena.getInt(tableAddr + CAPACITY_OFFSET);
+    }
+
+    public void put(int tableAddr, int key, int value) {
+        checkTablePtr(tableAddr);
+        if (key == EMPTY_KEY) {
+            if (arena.getInt(tableAddr + HAS_ZERO_KEY_OFFSET) == 0) {
+                arena.putInt(tableAddr + HAS_ZERO_KEY_OFFSET, 1);
+                arena.putInt(tableAddr + SIZE_OFFSET, arena.getInt(tableAddr + SIZE_OFFSET) + 1);
+            }
+            arena.putInt(tableAddr + ZERO_VALUE_OFFSET, value);
+            return;
+        }
+        
+        int capacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + SLOTS_PTR_OFFSET);
+        int mask = capacity - 1;
+        
+        int index = OpenAddressing.mix(key) & mask;
+        while (true) {
+            int slotAddr = slotsPtr + (index * SLOT_SIZE);
+            int slotKey = arena.getInt(slotAddr + SLOT_KEY_OFFSET);
+            if (slotKey == key) {
+                arena.putInt(slotAddr + SLOT_VALUE_OFFSET, value);
+                return;
+            }
+            if (slotKey == EMPTY_KEY) {
+                if (arena.getInt(tableAddr + SIZE_OFFSET) + 1 >= capacity) {
+                    throw new MemoryException("IntHashTable at " + tableAddr + " is full at " + capacity + " slots");
+                }
+                arena.putInt(slotAddr + SLOT_KEY_OFFSET, key);
+                arena.putInt(slotAddr + SLOT_VALUE_OFFSET, value);
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        
+        int size = arena.getInt(tableAddr + SIZE_OFFSET) + 1;
+        arena.putInt(tableAddr + SIZE_OFFSET, size);
+        if (size > capacity * MAX_LOAD_FACTOR && capacity < MAX_CAPACITY) {
+            rehash(tableAddr, capacity * 2);
+        }
+    }
+
+    public int get(int tableAddr, int key, int defaultValue) {
+        checkTablePtr(tableAddr);
+        if (key == EMPTY_KEY) {
+            return arena.getInt(tableAddr + HAS_ZERO_KEY_OFFSET) != 0
+                ? arena.getInt(tableAddr + ZERO_VALUE_OFFSET)
+                : defaultValue;
+        }
+        int slotAddr = findSlot(tableAddr, key);
+        if (slotAddr == -1) {
+            return defaultValue;
+        }
+        return arena.getInt(slotAddr + SLOT_VALUE_OFFSET);
+    }
+
+    public boolean containsKey(int tableAddr, int key) {
+        checkTablePtr(tableAddr);
+        if (key == EMPTY_KEY) {
+            return arena.getInt(tableAddr + HAS_ZERO_KEY_OFFSET) != 0;
+        }
+        return findSlot(tableAddr, key) != -1;
+    }
+
+    public boolean remove(int tableAddr, int key) {
+        checkTablePtr(tableAddr);
+        if (key == EMPTY_KEY) {
+            if (arena.getInt(tableAddr + HAS_ZERO_KEY_OFFSET) == 0) {
+                return false;
+            }
+            arena.putInt(tableAddr + HAS_ZERO_KEY_OFFSET, 0);
+            arena.putInt(tableAddr + SIZE_OFFSET, arena.getInt(tableAddr + SIZE_OFFSET) - 1);
+            return true;
+        }
+        
+        int slotAddr = findSlot(tableAddr, key);
+        if (slotAddr == -1) {
+            return false;
+        }
+        
+        int capacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + SLOTS_PTR_OFFSET);
+        int mask = capacity - 1;
+        int hole = (slotAddr - slotsPtr) / SLOT_SIZE;
+        OpenAddressing.deleteSlot(arena, slotsPtr, mask, hole, SLOT_KEY_OFFSET, SLOT_KEY_OFFSET, EMPTY_KEY);
+        arena.putInt(tableAddr + SIZE_OFFSET, arena.getInt(tableAddr + SIZE_OFFSET) - 1);
+        return true;
+    }
+
+    public void freeTable(int tableAddr) {
+        checkTablePtr(tableAddr);
+        int capacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        arena.free(arena.getInt(tableAddr + SLOTS_PTR_OFFSET), capacity * SLOT_SIZE);
+        arena.free(tableAddr, HEADER_SIZE);
+    }
+
+    public int probeLength(int tableAddr, int key) {
+        checkTablePtr(tableAddr);
+        int capacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + SLOTS_PTR_OFFSET);
+        int mask = capacity - 1;
+        
+        int index = OpenAddressing.mix(key) & mask;
+        int probes = 1;
+        while (true) {
+            int slotKey = arena.getInt(slotsPtr + (index * SLOT_SIZE) + SLOT_KEY_OFFSET);
+            if (slotKey == key || slotKey == EMPTY_KEY) {
+                return probes;
+            }
+            index = (index + 1) & mask;
+            probes++;
+        }
+    }
+
+    public void printTable(int tableAddr) {
+        checkTablePtr(tableAddr);
+        int capacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + SLOTS_PTR_OFFSET);
+        
+        System.out.println("IntHashTable (size: " + arena.getInt(tableAddr + SIZE_OFFSET) + ", capacity: " + capacity + "):");
+        if (arena.getInt(tableAddr + HAS_ZERO_KEY_OFFSET) != 0) {
+            System.out.println("  Zero key: (0:" + arena.getInt(tableAddr + ZERO_VALUE_OFFSET) + ")");
+        }
+        for (int i = 0; i < capacity; i++) {
+            int slotAddr = slotsPtr + (i * SLOT_SIZE);
+            int key = arena.getInt(slotAddr + SLOT_KEY_OFFSET);
+            if (key != EMPTY_KEY) {
+                System.out.println("  Slot " + i + ": (" + key + ":" + arena.getInt(slotAddr + SLOT_VALUE_OFFSET) + ")");
+            }
+        }
+    }
+
+    private int findSlot(int tableAddr, int key) {
+        int capacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + SLOTS_PTR_OFFSET);
+        int mask = capacity - 1;
+        
+        int index = OpenAddressing.mix(key) & mask;
+        while (true) {
+            int slotAddr = slotsPtr + (index * SLOT_SIZE);
+            int slotKey = arena.getInt(slotAddr + SLOT_KEY_OFFSET);
+            if (slotKey == key) {
+                return slotAddr;
+            }
+            if (slotKey == EMPTY_KEY) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(int tableAddr, int newCapacity) {
+        int oldCapacity = arena.getInt(tableAddr + CAPACITY_OFFSET);
+        int oldSlotsPtr = arena.getInt(tableAddr + SLOTS_PTR_OFFSET);
+        int newSlotsPtr = allocSlots(newCapacity);
+        int mask = newCapacity - 1;
+        
+        for (int i = 0; i < oldCapacity; i++) {
+            int oldAddr = oldSlotsPtr + (i * SLOT_SIZE);
+            int key = arena.getInt(oldAddr + SLOT_KEY_OFFSET);
+            if (key == EMPTY_KEY) {
+                continue;
+            }
+            int index = OpenAddressing.mix(key) & mask;
+            while (arena.getInt(newSlotsPtr + (index * SLOT_SIZE) + SLOT_KEY_OFFSET) != EMPTY_KEY) {
+                index = (index + 1) & mask;
+            }
+            int newAddr = newSlotsPtr + (index * SLOT_SIZE);
+            arena.putInt(newAddr + SLOT_KEY_OFFSET, key);
+            arena.putInt(newAddr + SLOT_VALUE_OFFSET, arena.getInt(oldAddr + SLOT_VALUE_OFFSET));
+        }
+        
+        arena.free(oldSlotsPtr, oldCapacity * SLOT_SIZE);
+        arena.putInt(tableAddr + CAPACITY_OFFSET, newCapacity);
+        arena.putInt(tableAddr + SLOTS_PTR_OFFSET, newSlotsPtr);
+    }
+
+    private int allocSlots(int capacity) {
+        int slotsPtr = arena.alloc(capacity * SLOT_SIZE);
+        for (int i = 0; i < capacity; i++) {
+            arena.putInt(slotsPtr + (i * SLOT_SIZE) + SLOT_KEY_OFFSET, EMPTY_KEY);
+        }
+        return slotsPtr;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        if (expectedSize > MAX_CAPACITY * MAX_LOAD_FACTOR) {
+            throw new IllegalArgumentException(
+                "Expected size " + expectedSize + " exceeds the maximum of " + (int) (MAX_CAPACITY * MAX_LOAD_FACTOR) + " entries"
+            );
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void checkTablePtr(int ptr) {
+        if (!checked) {
+            return;
+        }
+        if (ptr < 0 || ptr + HEADER_SIZE > arena.allocatedBoundary()) {
+            throw new InvalidPointerException(ptr, HEADER_SIZE, arena.allocatedBoundary(), arena.capacity());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class IntKernels {
+    private static final ValueLayout.OfInt INT_BE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt INT_LE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private IntKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? IntVectorKernels.sum(segment, offset, count, order)
+            : sumScalar(segment, offset, count, order);
+    }
+
+    static int min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? IntVectorKernels.min(segment, offset, count, order)
+            : minScalar(segment, offset, count, order);
+    }
+
+    static int max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? IntVectorKernels.max(segment, offset, count, order)
+            : maxScalar(segment, offset, count, order);
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, int value, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? IntVectorKernels.indexOf(segment, offset, count, value, order)
+            : indexOfScalar(segment, offset, count, value, order);
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, int value, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            IntVectorKernels.fill(segment, offset, count, value, order);
+        } else {
+            fillScalar(segment, offset, count, value, order);
+        }
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, int operand, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            IntVectorKernels.map(segment, offset, count, op, operand, order);
+        } else {
+            mapScalar(segment, offset, count, op, operand, order);
+        }
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, int operand, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? IntVectorKernels.count(segment, offset, count, comparison, operand, order)
+            : countScalar(segment, offset, count, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, int operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? IntVectorKernels.filter(segment, offset, count, comparison, operand, dst, dstOffset, order)
+            : filterScalar(segment, offset, count, comparison, operand, dst, dstOffset, order);
+    }
+
+    static long sumScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += segment.get(layout, offset + ((long) i * Integer.BYTES));
+        }
+        return sum;
+    }
+
+    static int minScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, segment.get(layout, offset + ((long) i * Integer.BYTES)));
+        }
+        return min;
+    }
+
+    static int maxScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, segment.get(layout, offset + ((long) i * Integer.BYTES)));
+        }
+        return max;
+    }
+
+    static int indexOfScalar(MemorySegment segment, long offset, int count, int value, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            if (segment.get(layout, offset + ((long) i * Integer.BYTES)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void fillScalar(MemorySegment segment, long offset, int count, int value, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            segment.set(layout, offset + ((long) i * Integer.BYTES), value);
+        }
+    }
+
+    static void mapScalar(MemorySegment segment, long offset, int count, ElementOp op, int operand, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            long address = offset + ((long) i * Integer.BYTES);
+            segment.set(layout, address, op.apply(segment.get(layout, address), operand));
+        }
+    }
+
+    static int countScalar(MemorySegment segment, long offset, int count, Comparison comparison, int operand,
+                           ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (comparison.test(segment.get(layout, offset + ((long) i * Integer.BYTES)), operand)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    static int filterScalar(MemorySegment segment, long offset, int count, Comparison comparison, int operand,
+                            MemorySegment dst, long dstOffset, ByteOrder order) {
+        ValueLayout.OfInt layout = layout(order);
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            int value = segment.get(layout, offset + ((long) i * Integer.BYTES));
+            if (comparison.test(value, operand)) {
+                dst.set(layout, dstOffset + ((long) written * Integer.BYTES), value);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static ValueLayout.OfInt layout(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN ? INT_BE : INT_LE;
+    }
+}
@@ -0,0 +1,121 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class IntVectorKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long STRIDE = (long) LANES * Integer.BYTES;
+    private static final VectorSpecies<Long> WIDE_SPECIES = VectorSpecies.of(long.class, SPECIES.vectorShape());
+    private static final int PARTS = LANES / WIDE_SPECIES.length();
+
+    private IntVectorKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        LongVector acc = LongVector.zero(WIDE_SPECIES);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            IntVector v = IntVector.fromMemorySegment(SPECIES, segment, address, order);
+            for (int part = 0; part < PARTS; part++) {
+                acc = acc.add(v.convertShape(VectorOperators.I2L, WIDE_SPECIES, part));
+            }
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + IntKernels.sumScalar(segment, address, count - bound, order);
+    }
+
+    static int min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        IntVector acc = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.min(IntVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), IntKernels.minScalar(segment, address, count - bound, order));
+    }
+
+    static int max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        IntVector acc = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.max(IntVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), IntKernels.maxScalar(segment, address, count - bound, order));
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, int value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            VectorMask<Integer> hits = IntVector.fromMemorySegment(SPECIES, segment, address, order).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        int tail = IntKernels.indexOfScalar(segment, address, count - bound, value, order);
+        return tail == -1 ? -1 : bound + tail;
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, int value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        IntVector v = IntVector.broadcast(SPECIES, value);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            v.intoMemorySegment(segment, address, order);
+        }
+        IntKernels.fillScalar(segment, address, count - bound, value, order);
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, int operand, ByteOrder order) {
+        VectorOperators.Binary binary = KernelOperators.binary(op);
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            IntVector.fromMemorySegment(SPECIES, segment, address, order)
+                .lanewise(binary, operand)
+                .intoMemorySegment(segment, address, order);
+        }
+        IntKernels.mapScalar(segment, address, count - bound, op, operand, order);
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, int operand, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int matches = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            matches += IntVector.fromMemorySegment(SPECIES, segment, address, order).compare(test, operand).trueCount();
+        }
+        return matches + IntKernels.countScalar(segment, address, count - bound, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, int operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int written = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            IntVector v = IntVector.fromMemorySegment(SPECIES, segment, address, order);
+            VectorMask<Integer> hits = v.compare(test, operand);
+            int n = hits.trueCount();
+            long at = dstOffset + ((long) written * Integer.BYTES);
+            if (n == LANES) {
+                v.intoMemorySegment(dst, at, order);
+            } else if (n > 0) {
+                v.compress(hits).intoMemorySegment(dst, at, order, SPECIES.indexInRange(0, n));
+            }
+            written += n;
+        }
+        return written + IntKernels.filterScalar(segment, address, count - bound, comparison, operand,
+            dst, dstOffset + ((long) written * Integer.BYTES), order);
+    }
+}
@@ -1,3 +1,5 @@
+package arena;
+
 public class InvalidAddressException extends MemoryException {
     private final int address;
     private final int bytesNeeded;
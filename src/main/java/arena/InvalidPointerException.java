@@ -1,3 +1,5 @@
+package arena;
+
 public class InvalidPointerException extends MemoryException {
     private final int pointer;
     private final int nodeSize;
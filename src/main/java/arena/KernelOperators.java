@@ -0,0 +1,46 @@
+package arena;
+
+import jdk.incubator.vector.VectorOperators;
+
+final class KernelOperators {
+    private KernelOperators() {
+    }
+
+    static VectorOperators.Binary binary(ElementOp op) {
+        switch (op) {
+            case ADD:
+                return VectorOperators.ADD;
+            case SUB:
+                return VectorOperators.SUB;
+            case MUL:
+                return VectorOperators.MUL;
+            case MIN:
+                return VectorOperators.MIN;
+            case MAX:
+                return VectorOperators.MAX;
+            case AND:
+                return VectorOperators.AND;
+            case OR:
+                return VectorOperators.OR;
+            default:
+                return VectorOperators.XOR;
+        }
+    }
+
+    static VectorOperators.Comparison comparison(Comparison comparison) {
+        switch (comparison) {
+            case EQ:
+                return VectorOperators.EQ;
+            case NE:
+                return VectorOperators.NE;
+            case LT:
+                return VectorOperators.LT;
+            case LE:
+                return VectorOperators.LE;
+            case GT:
+                return VectorOperators.GT;
+            default:
+                return VectorOperators.GE;
+        }
+    }
+}
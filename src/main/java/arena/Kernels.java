@@ -0,0 +1,10 @@
+package arena;
+
+final class Kernels {
+    static final String PROPERTY = "arena.vectorKernels";
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+        && !"false".equalsIgnoreCase(System.getProperty(PROPERTY));
+
+    private Kernels() {
+    }
+}
@@ -0,0 +1,148 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class LongKernels {
+    private static final ValueLayout.OfLong LONG_BE = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LE = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private LongKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? LongVectorKernels.sum(segment, offset, count, order)
+            : sumScalar(segment, offset, count, order);
+    }
+
+    static long min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? LongVectorKernels.min(segment, offset, count, order)
+            : minScalar(segment, offset, count, order);
+    }
+
+    static long max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? LongVectorKernels.max(segment, offset, count, order)
+            : maxScalar(segment, offset, count, order);
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, long value, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? LongVectorKernels.indexOf(segment, offset, count, value, order)
+            : indexOfScalar(segment, offset, count, value, order);
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, long value, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            LongVectorKernels.fill(segment, offset, count, value, order);
+        } else {
+            fillScalar(segment, offset, count, value, order);
+        }
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, long operand, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            LongVectorKernels.map(segment, offset, count, op, operand, order);
+        } else {
+            mapScalar(segment, offset, count, op, operand, order);
+        }
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, long operand, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? LongVectorKernels.count(segment, offset, count, comparison, operand, order)
+            : countScalar(segment, offset, count, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, long operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? LongVectorKernels.filter(segment, offset, count, comparison, operand, dst, dstOffset, order)
+            : filterScalar(segment, offset, count, comparison, operand, dst, dstOffset, order);
+    }
+
+    static long sumScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += segment.get(layout, offset + ((long) i * Long.BYTES));
+        }
+        return sum;
+    }
+
+    static long minScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, segment.get(layout, offset + ((long) i * Long.BYTES)));
+        }
+        return min;
+    }
+
+    static long maxScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, segment.get(layout, offset + ((long) i * Long.BYTES)));
+        }
+        return max;
+    }
+
+    static int indexOfScalar(MemorySegment segment, long offset, int count, long value, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            if (segment.get(layout, offset + ((long) i * Long.BYTES)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void fillScalar(MemorySegment segment, long offset, int count, long value, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            segment.set(layout, offset + ((long) i * Long.BYTES), value);
+        }
+    }
+
+    static void mapScalar(MemorySegment segment, long offset, int count, ElementOp op, long operand, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            long address = offset + ((long) i * Long.BYTES);
+            segment.set(layout, address, op.apply(segment.get(layout, address), operand));
+        }
+    }
+
+    static int countScalar(MemorySegment segment, long offset, int count, Comparison comparison, long operand,
+                           ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (comparison.test(segment.get(layout, offset + ((long) i * Long.BYTES)), operand)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    static int filterScalar(MemorySegment segment, long offset, int count, Comparison comparison, long operand,
+                            MemorySegment dst, long dstOffset, ByteOrder order) {
+        ValueLayout.OfLong layout = layout(order);
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            long value = segment.get(layout, offset + ((long) i * Long.BYTES));
+            if (comparison.test(value, operand)) {
+                dst.set(layout, dstOffset + ((long) written * Long.BYTES), value);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static ValueLayout.OfLong layout(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN ? LONG_BE : LONG_LE;
+    }
+}
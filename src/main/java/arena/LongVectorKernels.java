@@ -0,0 +1,115 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class LongVectorKernels {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long STRIDE = (long) LANES * Long.BYTES;
+
+    private LongVectorKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        LongVector acc = LongVector.zero(SPECIES);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.add(LongVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + LongKernels.sumScalar(segment, address, count - bound, order);
+    }
+
+    static long min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        LongVector acc = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.min(LongVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), LongKernels.minScalar(segment, address, count - bound, order));
+    }
+
+    static long max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        LongVector acc = LongVector.broadcast(SPECIES, Long.MIN_VALUE);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            acc = acc.max(LongVector.fromMemorySegment(SPECIES, segment, address, order));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), LongKernels.maxScalar(segment, address, count - bound, order));
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, long value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            VectorMask<Long> hits = LongVector.fromMemorySegment(SPECIES, segment, address, order).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        int tail = LongKernels.indexOfScalar(segment, address, count - bound, value, order);
+        return tail == -1 ? -1 : bound + tail;
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, long value, ByteOrder order) {
+        int bound = SPECIES.loopBound(count);
+        LongVector v = LongVector.broadcast(SPECIES, value);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            v.intoMemorySegment(segment, address, order);
+        }
+        LongKernels.fillScalar(segment, address, count - bound, value, order);
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, long operand, ByteOrder order) {
+        VectorOperators.Binary binary = KernelOperators.binary(op);
+        int bound = SPECIES.loopBound(count);
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            LongVector.fromMemorySegment(SPECIES, segment, address, order)
+                .lanewise(binary, operand)
+                .intoMemorySegment(segment, address, order);
+        }
+        LongKernels.mapScalar(segment, address, count - bound, op, operand, order);
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, long operand, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int matches = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            matches += LongVector.fromMemorySegment(SPECIES, segment, address, order).compare(test, operand).trueCount();
+        }
+        return matches + LongKernels.countScalar(segment, address, count - bound, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, long operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        VectorOperators.Comparison test = KernelOperators.comparison(comparison);
+        int bound = SPECIES.loopBound(count);
+        int written = 0;
+        long address = offset;
+        for (int i = 0; i < bound; i += LANES, address += STRIDE) {
+            LongVector v = LongVector.fromMemorySegment(SPECIES, segment, address, order);
+            VectorMask<Long> hits = v.compare(test, operand);
+            int n = hits.trueCount();
+            long at = dstOffset + ((long) written * Long.BYTES);
+            if (n == LANES) {
+                v.intoMemorySegment(dst, at, order);
+            } else if (n > 0) {
+                v.compress(hits).intoMemorySegment(dst, at, order, SPECIES.indexInRange(0, n));
+            }
+            written += n;
+        }
+        return written + LongKernels.filterScalar(segment, address, count - bound, comparison, operand,
+            dst, dstOffset + ((long) written * Long.BYTES), order);
+    }
+}
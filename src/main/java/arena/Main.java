@@ -0,0 +1,2560 @@
+package arena;
+
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class Main {
+    public static void main(String[] args) {
+        
+        testBasicAllocation();
+        testAlignmentFeatures();
+        testNodeStore();
+        testErrorMessages();
+        testBigEndianEncoding();
+        testLongSupport();
+        testShortSupport();
+        testCharSupport();
+        testBooleanSupport();
+        testArrayStore();
+        testVectorStore();
+        testStringStore();
+        testHashTableStore();
+        testMemoryRegions();
+        testNativeByteOrder();
+        testBackingStores();
+        testFreeList();
+        testConcurrentAllocation();
+        testIntHashTableStore();
+        testHashTableResize();
+        testHashStrategies();
+        testBulkOperations();
+        testAllocationStats();
+        testStringCoders();
+        testStringInterning();
+        testStringViews();
+        testMappedPersistence();
+        testAccessModes();
+        testBulkKernels();
+        testTypedVectors();
+        testVectorGrowth();
+        testTypedArrays();
+        testStructLayouts();
+        testRegionAllocators();
+        testRegionIndex();
+        testGrowableArena();
+        testArenaPool();
+        testEpochArenas();
+    }
+
+    static void testBasicAllocation() {
+        System.out.println("Test 1: Basic Allocation");
+        MemoryArena arena = new MemoryArena(128);
+        
+        int a = arena.alloc(4);
+        int b = arena.alloc(4);
+        int c = arena.alloc(4);
+        
+        System.out.println("Allocated 3 blocks of 4 bytes each:");
+        System.out.println("  Address of a: " + a);
+        System.out.println("  Address of b: " + b);
+        System.out.println("  Address of c: " + c);
+        System.out.println("  Total capacity: " + arena.capacity());
+        System.out.println("  Used: " + arena.used());
+        System.out.println("  Remaining: " + arena.remaining());
+        
+        arena.reset();
+        int d = arena.alloc(4);
+        System.out.println("\nAfter reset, allocated d at address: " + d);
+        System.out.println("  Used after reset: " + arena.used());
+        System.out.println();
+    }
+
+    static void testAlignmentFeatures() {
+        System.out.println("Test 2: Memory Alignment");
+        MemoryArena arena = new MemoryArena(128);
+        
+        System.out.println("Allocating 3 bytes (unaligned):");
+        int addr1 = arena.alloc(3);
+        System.out.println("  Address: " + addr1 + " (offset: " + addr1 + ")");
+        System.out.println("  Alignment waste so far: " + arena.getAlignmentWaste());
+        
+        System.out.println("\nAllocating 4 bytes with 4-byte alignment:");
+        int addr2 = arena.allocAligned(4, 4);
+        System.out.println("  Address: " + addr2 + " (aligned to 4-byte boundary)");
+        System.out.println("  Alignment waste: " + arena.getAlignmentWaste() + " bytes");
+        System.out.println("  Used: " + arena.used());
+        
+        System.out.println("\nAllocating another 4 bytes with 4-byte alignment:");
+        int addr3 = arena.allocAligned(4, 4);
+        System.out.println("  Address: " + addr3 + " (already aligned, no waste)");
+        System.out.println("  Alignment waste: " + arena.getAlignmentWaste() + " bytes");
+        System.out.println("  Used: " + arena.used());
+        
+        System.out.println("\nTesting align() helper:");
+        System.out.println("  align(0, 4) = " + arena.align(0, 4));
+        System.out.println("  align(1, 4) = " + arena.align(1, 4));
+        System.out.println("  align(3, 4) = " + arena.align(3, 4));
+        System.out.println("  align(4, 4) = " + arena.align(4, 4));
+        System.out.println("  align(5, 4) = " + arena.align(5, 4));
+        System.out.println("  align(7, 4) = " + arena.align(7, 4));
+        System.out.println("  align(8, 4) = " + arena.align(8, 4));
+        System.out.println();
+    }
+
+    static void testNodeStore() {
+        System.out.println("Test 3: NodeStore (Separated Node Logic)");
+        MemoryArena arena = new MemoryArena(128);
+        NodeStore nodeStore = new NodeStore(arena);
+        
+        System.out.println("Creating 3 nodes:");
+        int node1 = nodeStore.createNode(10);
+        int node2 = nodeStore.createNode(20);
+        int node3 = nodeStore.createNode(30);
+        
+        System.out.println("  Node 1 address: " + node1 + ", value: " + nodeStore.getValue(node1));
+        System.out.println("  Node 2 address: " + node2 + ", value: " + nodeStore.getValue(node2));
+        System.out.println("  Node 3 address: " + node3 + ", value: " + nodeStore.getValue(node3));
+        System.out.println("  Node size: " + nodeStore.getNodeSize() + " bytes");
+        
+        System.out.println("\nForming linked list:");
+        nodeStore.setNext(node1, node2);
+        nodeStore.setNext(node2, node3);
+        System.out.println("  Node 1 -> Node 2 -> Node 3");
+        System.out.println("  Node 1's next pointer: " + nodeStore.getNext(node1));
+        System.out.println("  Node 2's next pointer: " + nodeStore.getNext(node2));
+        System.out.println("  Node 3's next pointer: " + nodeStore.getNext(node3));
+        
+        System.out.println("\nTraversing list:");
+        System.out.print("  List contents: ");
+        nodeStore.printList(node1);
+        System.out.println();
+        
+        System.out.println("\nTesting aligned node creation:");
+        arena.reset();
+        NodeStore alignedNodeStore = new NodeStore(arena);
+        arena.alloc(3);
+        int alignedNode = alignedNodeStore.createNodeAligned(42, 4);
+        System.out.println("  After allocating 3 bytes, created aligned node at: " + alignedNode);
+        System.out.println("  Alignment waste: " + arena.getAlignmentWaste() + " bytes");
+        System.out.println();
+    }
+
+    static void testErrorMessages() {
+        System.out.println("Test 4: Enhanced Error Messages");
+        
+        System.out.println("\nTest 4.1: Out of Memory Exception");
+        try {
+            MemoryArena arena = new MemoryArena(10);
+            arena.alloc(5);
+            arena.alloc(6);
+        } catch (OutOfMemoryException e) {
+            System.out.println("  Caught: " + e.getMessage());
+            System.out.println("  Requested: " + e.getRequestedSize() + " bytes");
+            System.out.println("  Available: " + e.getAvailable() + " bytes");
+            System.out.println("  Capacity: " + e.getCapacity() + " bytes");
+            System.out.println("  Current offset: " + e.getCurrentOffset());
+        }
+        
+        System.out.println("\nTest 4.2: Invalid Address Exception");
+        try {
+            MemoryArena arena = new MemoryArena(20);
+            arena.alloc(10);
+            arena.getInt(15);
+        } catch (InvalidAddressException e) {
+            System.out.println("  Caught: " + e.getMessage());
+            System.out.println("  Address attempted: " + e.getAddress());
+            System.out.println("  Bytes needed: " + e.getBytesNeeded());
+            System.out.println("  Allocated boundary: " + e.getAllocatedBoundary());
+        }
+        
+        System.out.println("\nTest 4.3: Invalid Pointer Exception");
+        try {
+            MemoryArena arena = new MemoryArena(20);
+            NodeStore nodeStore = new NodeStore(arena);
+            int node = nodeStore.createNode(10);
+            nodeStore.setNext(node, 99999);
+        } catch (InvalidPointerException e) {
+            System.out.println("  Caught: " + e.getMessage());
+            System.out.println("  Invalid pointer: " + e.getPointer());
+            System.out.println("  Node size: " + e.getNodeSize());
+        }
+        
+        System.out.println("\nTest 4.4: Null pointer handling (should work)");
+        try {
+            MemoryArena arena = new MemoryArena(20);
+            NodeStore nodeStore = new NodeStore(arena);
+            int node = nodeStore.createNode(10);
+            nodeStore.setNext(node, -1);
+            System.out.println("  Successfully set next pointer to -1 (null)");
+            System.out.println("  Node's next: " + nodeStore.getNext(node));
+        } catch (Exception e) {
+            System.out.println("  Unexpected error: " + e.getMessage());
+        }
+        System.out.println();
+    }
+
+    static void testBigEndianEncoding() {
+        System.out.println("Test 5: Big-Endian Integer Encoding");
+        MemoryArena arena = new MemoryArena(128);
+        
+        int addr = arena.alloc(4);
+        int testValue = 0x12345678;
+        arena.putInt(addr, testValue);
+        
+        System.out.println("Storing value: 0x" + Integer.toHexString(testValue) + " at address " + addr);
+        System.out.println("Byte representation (big-endian):");
+        System.out.println("  memory[" + addr + "] = 0x" + Integer.toHexString(arena.getByte(addr) & 0xFF));
+        System.out.println("  memory[" + (addr + 1) + "] = 0x" + Integer.toHexString(arena.getByte(addr + 1) & 0xFF));
+        System.out.println("  memory[" + (addr + 2) + "] = 0x" + Integer.toHexString(arena.getByte(addr + 2) & 0xFF));
+        System.out.println("  memory[" + (addr + 3) + "] = 0x" + Integer.toHexString(arena.getByte(addr + 3) & 0xFF));
+        
+        int reconstructed = arena.getInt(addr);
+        System.out.println("Reconstructed value: 0x" + Integer.toHexString(reconstructed));
+        System.out.println("Match: " + (testValue == reconstructed));
+        System.out.println();
+    
+    }
+
+    static void testLongSupport() {
+        System.out.println("Test 6: Long Support (8 bytes)");
+        MemoryArena arena = new MemoryArena(128);
+        
+        int addr = arena.alloc(8);
+        long testValue = 0x0123456789ABCDEFL;
+        arena.putLong(addr, testValue);
+        
+        System.out.println("Storing long value: 0x" + Long.toHexString(testValue) + " at address " + addr);
+        System.out.println("Byte representation (big-endian, 8 bytes):");
+        for (int i = 0; i < 8; i++) {
+            System.out.println("  memory[" + (addr + i) + "] = 0x" + Integer.toHexString(arena.getByte(addr + i) & 0xFF));
+        }
+        
+        long reconstructed = arena.getLong(addr);
+        System.out.println("Reconstructed value: 0x" + Long.toHexString(reconstructed));
+        System.out.println("Match: " + (testValue == reconstructed));
+        
+        System.out.println("\nTesting edge cases:");
+        long maxLong = Long.MAX_VALUE;
+        int addr2 = arena.alloc(8);
+        arena.putLong(addr2, maxLong);
+        System.out.println("  Max long (" + maxLong + ") stored and retrieved: " + (maxLong == arena.getLong(addr2)));
+        
+        long minLong = Long.MIN_VALUE;
+        int addr3 = arena.alloc(8);
+        arena.putLong(addr3, minLong);
+        System.out.println("  Min long (" + minLong + ") stored and retrieved: " + (minLong == arena.getLong(addr3)));
+        
+        long zero = 0L;
+        int addr4 = arena.alloc(8);
+        arena.putLong(addr4, zero);
+        System.out.println("  Zero stored and retrieved: " + (zero == arena.getLong(addr4)));
+        System.out.println();
+    }
+
+    static void testShortSupport() {
+        System.out.println("Test 7: Short Support (2 bytes)");
+        MemoryArena arena = new MemoryArena(128);
+        
+        int addr = arena.alloc(2);
+        short testValue = (short)0xABCD;
+        arena.putShort(addr, testValue);
+        
+        System.out.println("Storing short value: 0x" + Integer.toHexString(testValue & 0xFFFF) + " at address " + addr);
+        System.out.println("Byte representation (big-endian, 2 bytes):");
+        System.out.println("  memory[" + addr + "] = 0x" + Integer.toHexString(arena.getByte(addr) & 0xFF));
+        System.out.println("  memory[" + (addr + 1) + "] = 0x" + Integer.toHexString(arena.getByte(addr + 1) & 0xFF));
+        
+        short reconstructed = arena.getShort(addr);
+        System.out.println("Reconstructed value: 0x" + Integer.toHexString(reconstructed & 0xFFFF));
+        System.out.println("Match: " + (testValue == reconstructed));
+        
+        System.out.println("\nTesting edge cases:");
+        short maxShort = Short.MAX_VALUE;
+        int addr2 = arena.alloc(2);
+        arena.putShort(addr2, maxShort);
+        System.out.println("  Max short (" + maxShort + ") stored and retrieved: " + (maxShort == arena.getShort(addr2)));
+        
+        short minShort = Short.MIN_VALUE;
+        int addr3 = arena.alloc(2);
+        arena.putShort(addr3, minShort);
+        System.out.println("  Min short (" + minShort + ") stored and retrieved: " + (minShort == arena.getShort(addr3)));
+        
+        short zero = 0;
+        int addr4 = arena.alloc(2);
+        arena.putShort(addr4, zero);
+        System.out.println("  Zero stored and retrieved: " + (zero == arena.getShort(addr4)));
+        System.out.println();
+    }
+
+    static void testCharSupport() {
+        System.out.println("Test 8: Char Support (2 bytes, UTF-16)");
+        MemoryArena arena = new MemoryArena(128);
+        
+        int addr = arena.alloc(2);
+        char testValue = 'A';
+        arena.putChar(addr, testValue);
+        
+        System.out.println("Storing char value: '" + testValue + "' (Unicode: U+" + Integer.toHexString(testValue).toUpperCase() + ") at address " + addr);
+        System.out.println("Byte representation (big-endian, 2 bytes):");
+        System.out.println("  memory[" + addr + "] = 0x" + Integer.toHexString(arena.getByte(addr) & 0xFF));
+        System.out.println("  memory[" + (addr + 1) + "] = 0x" + Integer.toHexString(arena.getByte(addr + 1) & 0xFF));
+        
+        char reconstructed = arena.getChar(addr);
+        System.out.println("Reconstructed value: '" + reconstructed + "'");
+        System.out.println("Match: " + (testValue == reconstructed));
+        
+        System.out.println("\nTesting various characters:");
+        char[] testChars = {'A', 'Z', '0', '9', ' ', '!', '中', '\u03A9'};
+        for (char c : testChars) {
+            int charAddr = arena.alloc(2);
+            arena.putChar(charAddr, c);
+            char retrieved = arena.getChar(charAddr);
+            boolean match = (c == retrieved);
+            System.out.println("  '" + c + "' (U+" + Integer.toHexString(c).toUpperCase() + ") - " + (match ? "PASS" : "FAIL"));
+        }
+        System.out.println();
+    }
+
+    static void testBooleanSupport() {
+        System.out.println("Test 9: Boolean Support (1 byte)");
+        MemoryArena arena = new MemoryArena(128);
+        
+        int addr1 = arena.alloc(1);
+        boolean testValue1 = true;
+        arena.putBoolean(addr1, testValue1);
+        
+        System.out.println("Storing boolean value: " + testValue1 + " at address " + addr1);
+        System.out.println("Byte representation (1 byte):");
+        System.out.println("  memory[" + addr1 + "] = " + (arena.getByte(addr1) & 0xFF));
+        
+        boolean reconstructed1 = arena.getBoolean(addr1);
+        System.out.println("Reconstructed value: " + reconstructed1);
+        System.out.println("Match: " + (testValue1 == reconstructed1));
+        
+        int addr2 = arena.alloc(1);
+        boolean testValue2 = false;
+        arena.putBoolean(addr2, testValue2);
+        
+        System.out.println("\nStoring boolean value: " + testValue2 + " at address " + addr2);
+        System.out.println("Byte representation (1 byte):");
+        System.out.println("  memory[" + addr2 + "] = " + (arena.getByte(addr2) & 0xFF));
+        
+        boolean reconstructed2 = arena.getBoolean(addr2);
+        System.out.println("Reconstructed value: " + reconstructed2);
+        System.out.println("Match: " + (testValue2 == reconstructed2));
+        
+        System.out.println("\nTesting representation:");
+        System.out.println("  true stored as: " + (arena.getByte(addr1) & 0xFF));
+        System.out.println("  false stored as: " + (arena.getByte(addr2) & 0xFF));
+        System.out.println();
+    }
+
+    static void testArrayStore() {
+        System.out.println("Test 10: Fixed-Size Arrays");
+        MemoryArena arena = new MemoryArena(256);
+        ArrayStore arrayStore = new ArrayStore(arena);
+        
+        System.out.println("Creating int array of length 5:");
+        int arrayAddr = arrayStore.createArray(5, 4);
+        System.out.println("  Array address: " + arrayAddr);
+        System.out.println("  Array length: " + arrayStore.getLength(arrayAddr));
+        System.out.println("  Element size: " + arrayStore.getElementSize(arrayAddr) + " bytes");
+        
+        System.out.println("\nSetting array elements:");
+        for (int i = 0; i < 5; i++) {
+            arrayStore.setInt(arrayAddr, i, (i + 1) * 10);
+            System.out.println("  array[" + i + "] = " + arrayStore.getInt(arrayAddr, i));
+        }
+        
+        System.out.println("\nArray contents:");
+        arrayStore.printArray(arrayAddr);
+        
+        System.out.println("\nTesting bounds checking:");
+        try {
+            arrayStore.getInt(arrayAddr, -1);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("  Caught: " + e.getMessage());
+        }
+        
+        try {
+            arrayStore.getInt(arrayAddr, 10);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("  Caught: " + e.getMessage());
+        }
+        
+        System.out.println("\nMemory layout:");
+        System.out.println("  Header (length): address " + arrayAddr + " (4 bytes)");
+        System.out.println("  Data start: address " + (arrayAddr + 4) + " (20 bytes for 5 ints)");
+        System.out.println("  Total size: " + (4 + 5 * 4) + " bytes");
+        System.out.println();
+    }
+
+    static void testVectorStore() {
+        System.out.println("Test 11: Dynamic Arrays (Vector)");
+        MemoryArena arena = new MemoryArena(512);
+        VectorStore vectorStore = new VectorStore(arena);
+        
+        System.out.println("Creating vector with initial capacity 2:");
+        int vectorAddr = vectorStore.createVector(2);
+        System.out.println("  Vector address: " + vectorAddr);
+        System.out.println("  Initial length: " + vectorStore.getLength(vectorAddr));
+        System.out.println("  Initial capacity: " + vectorStore.getCapacity(vectorAddr));
+        System.out.println("  Data pointer: " + vectorStore.getDataPtr(vectorAddr));
+        
+        System.out.println("\nAppending elements:");
+        for (int i = 1; i <= 5; i++) {
+            vectorStore.append(vectorAddr, i * 10);
+            System.out.println("  After appending " + (i * 10) + ":");
+            System.out.println("    Length: " + vectorStore.getLength(vectorAddr));
+            System.out.println("    Capacity: " + vectorStore.getCapacity(vectorAddr));
+        }
+        
+        System.out.println("\nVector contents:");
+        vectorStore.printVector(vectorAddr);
+        
+        System.out.println("\nAccessing elements by index:");
+        for (int i = 0; i < vectorStore.getLength(vectorAddr); i++) {
+            System.out.println("  vector[" + i + "] = " + vectorStore.get(vectorAddr, i));
+        }
+        
+        System.out.println("\nModifying element at index 2:");
+        vectorStore.set(vectorAddr, 2, 999);
+        System.out.println("  vector[2] = " + vectorStore.get(vectorAddr, 2));
+        vectorStore.printVector(vectorAddr);
+        
+        System.out.println("\nTesting growth behavior:");
+        System.out.println("  Vector grows when length >= capacity");
+        System.out.println("  Growth factor: 1.5x");
+        System.out.println("  Old data is copied to new location");
+        System.out.println("  Old block is returned to the arena free list");
+        System.out.println();
+    }
+
+    static void testStringStore() {
+        System.out.println("Test 12: String Storage");
+        MemoryArena arena = new MemoryArena(512);
+        StringStore stringStore = new StringStore(arena);
+        
+        System.out.println("Creating strings:");
+        String test1 = "Hello";
+        int str1Addr = stringStore.createString(test1);
+        System.out.println("  Created: \"" + test1 + "\" at address " + str1Addr);
+        System.out.println("  Length: " + stringStore.getStringLength(str1Addr));
+        
+        String test2 = "World!";
+        int str2Addr = stringStore.createString(test2);
+        System.out.println("  Created: \"" + test2 + "\" at address " + str2Addr);
+        System.out.println("  Length: " + stringStore.getStringLength(str2Addr));
+        
+        String test3 = "你好";
+        int str3Addr = stringStore.createString(test3);
+        System.out.println("  Created: \"" + test3 + "\" at address " + str3Addr);
+        System.out.println("  Length: " + stringStore.getStringLength(str3Addr));
+        
+        String test4 = "";
+        int str4Addr = stringStore.createString(test4);
+        System.out.println("  Created: \"" + test4 + "\" (empty) at address " + str4Addr);
+        System.out.println("  Length: " + stringStore.getStringLength(str4Addr));
+        
+        System.out.println("\nRetrieving strings:");
+        String retrieved1 = stringStore.getString(str1Addr);
+        System.out.println("  Retrieved: \"" + retrieved1 + "\"");
+        System.out.println("  Match: " + test1.equals(retrieved1));
+        
+        String retrieved2 = stringStore.getString(str2Addr);
+        System.out.println("  Retrieved: \"" + retrieved2 + "\"");
+        System.out.println("  Match: " + test2.equals(retrieved2));
+        
+        String retrieved3 = stringStore.getString(str3Addr);
+        System.out.println("  Retrieved: \"" + retrieved3 + "\"");
+        System.out.println("  Match: " + test3.equals(retrieved3));
+        
+        System.out.println("\nAccessing individual characters:");
+        System.out.println("  str1[0] = '" + stringStore.getCharAt(str1Addr, 0) + "'");
+        System.out.println("  str1[4] = '" + stringStore.getCharAt(str1Addr, 4) + "'");
+        System.out.println("  str3[0] = '" + stringStore.getCharAt(str3Addr, 0) + "'");
+        System.out.println("  str3[1] = '" + stringStore.getCharAt(str3Addr, 1) + "'");
+        
+        System.out.println("\nModifying character:");
+        stringStore.setCharAt(str1Addr, 0, 'h');
+        System.out.println("  Modified str1[0] to 'h'");
+        System.out.println("  New string: \"" + stringStore.getString(str1Addr) + "\"");
+        
+        System.out.println("\nMemory layout for \"Hello\":");
+        System.out.println("  Header (length, byte length, coder): address " + str1Addr + " (9 bytes)");
+        System.out.println("  Char data start: address " + (str1Addr + 9) + " (5 bytes for 5 chars)");
+        System.out.println("  Total size: " + (9 + 5) + " bytes");
+        System.out.println("  " + stringStore.getCoder(str1Addr) + " encoding: 1 byte per character");
+        System.out.println();
+    }
+
+    static void testHashTableStore() {
+        System.out.println("Test 13: Hash Table");
+        MemoryArena arena = new MemoryArena(1024);
+        HashTableStore hashTable = new HashTableStore(arena);
+        
+        System.out.println("Creating hash table with 8 buckets:");
+        int tableAddr = hashTable.createHashTable(8, false, HashStrategy.MODULO, 0);
+        System.out.println("  Table address: " + tableAddr);
+        System.out.println("  Bucket count: " + hashTable.getBucketCount(tableAddr));
+        
+        System.out.println("\nInserting key-value pairs:");
+        hashTable.put(tableAddr, 10, 100);
+        System.out.println("  put(10, 100)");
+        hashTable.put(tableAddr, 20, 200);
+        System.out.println("  put(20, 200)");
+        hashTable.put(tableAddr, 30, 300);
+        System.out.println("  put(30, 300)");
+        hashTable.put(tableAddr, 18, 180);
+        System.out.println("  put(18, 180) - potential collision with 10");
+        hashTable.put(tableAddr, 26, 260);
+        System.out.println("  put(26, 260) - potential collision with 18");
+        
+        System.out.println("\nHash table structure:");
+        hashTable.printHashTable(tableAddr);
+        
+        System.out.println("\nRetrieving values:");
+        System.out.println("  get(10) = " + hashTable.get(tableAddr, 10));
+        System.out.println("  get(20) = " + hashTable.get(tableAddr, 20));
+        System.out.println("  get(30) = " + hashTable.get(tableAddr, 30));
+        System.out.println("  get(18) = " + hashTable.get(tableAddr, 18));
+        System.out.println("  get(26) = " + hashTable.get(tableAddr, 26));
+        System.out.println("  get(99) = " + hashTable.get(tableAddr, 99));
+        
+        System.out.println("\nChecking contains:");
+        System.out.println("  contains(10) = " + hashTable.contains(tableAddr, 10));
+        System.out.println("  contains(99) = " + hashTable.contains(tableAddr, 99));
+        
+        System.out.println("\nUpdating existing key:");
+        hashTable.put(tableAddr, 10, 1000);
+        System.out.println("  put(10, 1000) - update");
+        System.out.println("  get(10) = " + hashTable.get(tableAddr, 10));
+        
+        System.out.println("\nRemoving key:");
+        hashTable.remove(tableAddr, 20);
+        System.out.println("  remove(20)");
+        System.out.println("  get(20) = " + hashTable.get(tableAddr, 20));
+        System.out.println("  contains(20) = " + hashTable.contains(tableAddr, 20));
+        
+        System.out.println("\nHash table after removal:");
+        hashTable.printHashTable(tableAddr);
+        
+        System.out.println("\nHash table details:");
+        System.out.println("  Layout: [bucketCount][buckets ptr][size][old bucketCount][old buckets ptr][rehash index][flags][seed]");
+        System.out.println("  Entry layout: [key:4B][value:4B][next:4B]");
+        System.out.println("  Collision resolution: Chaining (linked lists)");
+        System.out.println("  Hash function: floorMod(key, bucketCount) (MODULO strategy)");
+        System.out.println();
+    }
+
+    static void testMemoryRegions() {
+        System.out.println("Test 14: Memory Regions/Segments");
+        MemoryArena arena = new MemoryArena(256);
+        
+        System.out.println("Creating named memory regions:");
+        MemoryRegion region1 = arena.createRegionAtOffset(32, "Stack");
+        System.out.println("  " + region1);
+        
+        MemoryRegion region2 = arena.createRegionAtOffset(64, "Heap");
+        System.out.println("  " + region2);
+        
+        MemoryRegion region3 = arena.createRegion(128, 32, "Data");
+        System.out.println("  " + region3);
+        
+        System.out.println("\nQuerying regions:");
+        System.out.println("  Address 10 in region: " + arena.findRegion(10));
+        System.out.println("  Address 50 in region: " + arena.findRegion(50));
+        System.out.println("  Address 140 in region: " + arena.findRegion(140));
+        System.out.println("  Address 200 in region: " + arena.findRegion(200));
+        
+        System.out.println("\nValidating address ranges:");
+        MemoryRegion stackRegion = arena.findRegionForRange(0, 32);
+        System.out.println("  Range [0-32] in region: " + stackRegion);
+        MemoryRegion heapRegion = arena.findRegionForRange(32, 64);
+        System.out.println("  Range [32-96] in region: " + heapRegion);
+        
+        System.out.println("\nAll regions:");
+        for (MemoryRegion region : arena.getAllRegions()) {
+            System.out.println("  " + region);
+        }
+        
+        System.out.println("\nTesting region validation:");
+        System.out.println("  Address 10 in 'Stack': " + arena.validateAddressInRegion(10, "Stack"));
+        System.out.println("  Address 10 in 'Heap': " + arena.validateAddressInRegion(10, "Heap"));
+        System.out.println("  Address 50 in 'Heap': " + arena.validateAddressInRegion(50, "Heap"));
+        
+        System.out.println("\nTesting overlap prevention:");
+        try {
+            arena.createRegion(30, 10, "Overlap");
+        } catch (RuntimeException e) {
+            System.out.println("  Caught: " + e.getMessage());
+        }
+        
+        System.out.println("\nMemory region details:");
+        System.out.println("  Regions allow organizing memory into logical segments");
+        System.out.println("  Useful for: stack/heap separation, memory pools, debugging");
+        System.out.println("  Overlap detection prevents invalid memory organization");
+        System.out.println();
+    }
+
+    static void testNativeByteOrder() {
+        System.out.println("Test 15: Native Byte Order Mode");
+        MemoryArena arena = new MemoryArena(128, ByteOrder.nativeOrder());
+        System.out.println("  Arena byte order: " + arena.order());
+        
+        int addr = arena.alloc(4);
+        int testValue = 0x12345678;
+        arena.putInt(addr, testValue);
+        System.out.println("Storing value: 0x" + Integer.toHexString(testValue) + " at address " + addr);
+        for (int i = 0; i < 4; i++) {
+            System.out.println("  memory[" + (addr + i) + "] = 0x" + Integer.toHexString(arena.getByte(addr + i) & 0xFF));
+        }
+        System.out.println("  Reconstructed: 0x" + Integer.toHexString(arena.getInt(addr)) + " - " + (arena.getInt(addr) == testValue ? "PASS" : "FAIL"));
+        
+        int longAddr = arena.alloc(8);
+        arena.putLong(longAddr, 0x0123456789ABCDEFL);
+        System.out.println("  Long round-trip: " + (arena.getLong(longAddr) == 0x0123456789ABCDEFL ? "PASS" : "FAIL"));
+        
+        int shortAddr = arena.alloc(2);
+        arena.putShort(shortAddr, (short) 0xABCD);
+        System.out.println("  Short round-trip: " + (arena.getShort(shortAddr) == (short) 0xABCD ? "PASS" : "FAIL"));
+        
+        int charAddr = arena.alloc(2);
+        arena.putChar(charAddr, '\u03A9');
+        System.out.println("  Char round-trip: " + (arena.getChar(charAddr) == '\u03A9' ? "PASS" : "FAIL"));
+        
+        System.out.println();
+    }
+
+    static void testBackingStores() {
+        System.out.println("Test 16: Pluggable Backing Stores");
+        BackingStore[] stores = {
+            new HeapBackingStore(1024, ByteOrder.BIG_ENDIAN),
+            new DirectBufferBackingStore(1024, ByteOrder.BIG_ENDIAN),
+            new SegmentBackingStore(1024, ByteOrder.nativeOrder())
+        };
+        
+        for (BackingStore store : stores) {
+            try (MemoryArena arena = new MemoryArena(store)) {
+                VectorStore vectorStore = new VectorStore(arena);
+                HashTableStore hashTable = new HashTableStore(arena);
+                StringStore stringStore = new StringStore(arena);
+                
+                int vectorAddr = vectorStore.createVector(2);
+                for (int i = 1; i <= 5; i++) {
+                    vectorStore.append(vectorAddr, i * 10);
+                }
+                int tableAddr = hashTable.createHashTable(8);
+                hashTable.put(tableAddr, 42, 4200);
+                int stringAddr = stringStore.createString("Off-heap");
+                int longAddr = arena.allocAligned(8, 8);
+                arena.putLong(longAddr, Long.MIN_VALUE);
+                
+                boolean pass = vectorStore.get(vectorAddr, 4) == 50
+                    && hashTable.get(tableAddr, 42) == 4200
+                    && stringStore.getString(stringAddr).equals("Off-heap")
+                    && arena.getLong(longAddr) == Long.MIN_VALUE;
+                System.out.println("  " + store.getClass().getSimpleName() + " (" + store.order() + ", " + store.size() + " bytes): " + (pass ? "PASS" : "FAIL"));
+            }
+        }
+        
+        System.out.println("\nCarving arenas out of one segment with 64-bit offsets:");
+        try (SegmentBackingStore segment = new SegmentBackingStore(4096, ByteOrder.BIG_ENDIAN)) {
+            MemoryArena low = new MemoryArena(segment, 0, 2048);
+            MemoryArena high = new MemoryArena(segment, 2048, 2048);
+            int lowAddr = low.alloc(4);
+            int highAddr = high.alloc(4);
+            low.putInt(lowAddr, 1);
+            high.putInt(highAddr, 2);
+            System.out.println("  low arena addr " + lowAddr + " = " + low.getInt(lowAddr) + ", high arena addr " + highAddr + " = " + high.getInt(highAddr));
+            System.out.println("  Segment offset of high arena: " + high.baseOffset());
+            
+            try {
+                new MemoryArena(segment, 2048, 4096);
+            } catch (IllegalArgumentException e) {
+                System.out.println("  Caught: " + e.getMessage());
+            }
+        }
+        System.out.println();
+    }
+
+    static void testFreeList() {
+        System.out.println("Test 17: Free List Allocator");
+        MemoryArena arena = new MemoryArena(4096);
+        
+        System.out.println("Small blocks (segregated size classes):");
+        int a = arena.alloc(12);
+        int b = arena.alloc(12);
+        arena.alloc(4);
+        arena.free(a, 12);
+        System.out.println("  Freed 12-byte block at " + a + ", free bytes: " + arena.freeBytes());
+        int c = arena.alloc(12);
+        System.out.println("  Next 12-byte alloc reused address " + c + " - " + (c == a ? "PASS" : "FAIL"));
+        System.out.println("  Used (bump offset): " + arena.used());
+        
+        System.out.println("\nFreeing the block at the top lowers the bump pointer:");
+        int top = arena.alloc(32);
+        int usedBefore = arena.used();
+        arena.free(top, 32);
+        System.out.println("  Used before: " + usedBefore + ", after: " + arena.used());
+        
+        System.out.println("\nLarge blocks (coalescing):");
+        int l1 = arena.alloc(300);
+        int l2 = arena.alloc(300);
+        int l3 = arena.alloc(300);
+        arena.alloc(4);
+        arena.free(l1, 300);
+        arena.free(l3, 300);
+        arena.free(l2, 300);
+        System.out.println("  Freed three adjacent 300-byte blocks, free bytes: " + arena.freeBytes());
+        int big = arena.alloc(900);
+        System.out.println("  900-byte alloc reused coalesced block at " + big + " - " + (big == l1 ? "PASS" : "FAIL"));
+        
+        System.out.println("\nSplitting a large block:");
+        arena.free(big, 900);
+        int part = arena.alloc(500);
+        System.out.println("  500-byte alloc at " + part + ", remaining free bytes: " + arena.freeBytes());
+        
+        System.out.println("\nDouble free detection:");
+        try {
+            arena.free(part + 500, 400);
+        } catch (IllegalArgumentException e) {
+            System.out.println("  Caught: " + e.getMessage());
+        }
+        
+        System.out.println("\nVector growth recycles old data blocks:");
+        arena.reset();
+        VectorStore vectorStore = new VectorStore(arena);
+        int vectorAddr = vectorStore.createVector(1);
+        for (int i = 0; i < 200; i++) {
+            vectorStore.append(vectorAddr, i);
+        }
+        int capacityBytes = vectorStore.getCapacity(vectorAddr) * 4;
+        System.out.println("  Length: " + vectorStore.getLength(vectorAddr) + ", capacity bytes: " + capacityBytes);
+        System.out.println("  Used: " + arena.used() + ", free bytes: " + arena.freeBytes());
+        System.out.println("  vector[199] = " + vectorStore.get(vectorAddr, 199));
+        
+        System.out.println("\nHash table remove recycles entries:");
+        HashTableStore hashTable = new HashTableStore(arena);
+        int tableAddr = hashTable.createHashTable(8);
+        hashTable.put(tableAddr, 1, 10);
+        hashTable.put(tableAddr, 2, 20);
+        int usedAfterPuts = arena.used();
+        hashTable.remove(tableAddr, 1);
+        hashTable.put(tableAddr, 3, 30);
+        System.out.println("  Used after re-put: " + arena.used() + " (was " + usedAfterPuts + ") - " + (arena.used() == usedAfterPuts ? "PASS" : "FAIL"));
+        System.out.println("  get(2) = " + hashTable.get(tableAddr, 2) + ", get(3) = " + hashTable.get(tableAddr, 3));
+        System.out.println();
+    }
+
+    static void testConcurrentAllocation() {
+        System.out.println("Test 18: Concurrent Allocation (TLABs)");
+        int threadCount = 8;
+        int nodesPerThread = 1000;
+        MemoryArena arena = MemoryArena.concurrent(256 * 1024, 1024);
+        NodeStore nodeStore = new NodeStore(arena);
+        int[][] nodes = new int[threadCount][nodesPerThread];
+        
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int threadIndex = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < nodesPerThread; i++) {
+                    nodes[threadIndex][i] = nodeStore.createNode(threadIndex * nodesPerThread + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        
+        boolean valuesIntact = true;
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 0; i < nodesPerThread; i++) {
+                if (nodeStore.getValue(nodes[t][i]) != t * nodesPerThread + i) {
+                    valuesIntact = false;
+                }
+            }
+        }
+        int expectedUsed = threadCount * nodesPerThread * nodeStore.getNodeSize();
+        System.out.println("  " + threadCount + " threads x " + nodesPerThread + " nodes");
+        System.out.println("  All node values intact: " + (valuesIntact ? "PASS" : "FAIL"));
+        System.out.println("  Used: " + arena.used() + " (expected " + expectedUsed + ") - " + (arena.used() == expectedUsed ? "PASS" : "FAIL"));
+        System.out.println("  Remaining: " + arena.remaining());
+        System.out.println("  Allocated boundary (TLAB high-water): " + arena.allocatedBoundary());
+        
+        System.out.println("\nLarge allocations bypass the TLAB:");
+        int big = arena.alloc(4096);
+        System.out.println("  4096-byte block at " + big + ", used: " + arena.used());
+        
+        arena.reset();
+        System.out.println("  After reset, used: " + arena.used());
+        System.out.println();
+    }
+
+    static void testIntHashTableStore() {
+        System.out.println("Test 19: Open-Addressing Int Hash Table");
+        MemoryArena arena = new MemoryArena(64 * 1024);
+        IntHashTableStore table = new IntHashTableStore(arena);
+        
+        int tableAddr = table.createTable(4);
+        System.out.println("  Initial capacity: " + table.getCapacity(tableAddr));
+        
+        table.put(tableAddr, 10, 100);
+        table.put(tableAddr, 0, 7);
+        table.put(tableAddr, -5, 50);
+        table.put(tableAddr, Integer.MIN_VALUE, 1);
+        System.out.println("  get(10) = " + table.get(tableAddr, 10, -1));
+        System.out.println("  get(0) = " + table.get(tableAddr, 0, -1));
+        System.out.println("  get(-5) = " + table.get(tableAddr, -5, -1));
+        System.out.println("  get(MIN_VALUE) = " + table.get(tableAddr, Integer.MIN_VALUE, -1));
+        System.out.println("  get(99) = " + table.get(tableAddr, 99, -1) + " (missing)");
+        table.printTable(tableAddr);
+        
+        System.out.println("\nRandomized comparison against java.util.HashMap:");
+        table.freeTable(tableAddr);
+        tableAddr = table.createTable(0);
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        boolean match = true;
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(512) - 256;
+            int op = random.nextInt(3);
+            if (op < 2) {
+                table.put(tableAddr, key, i);
+                expected.put(key, i);
+            } else {
+                boolean removed = table.remove(tableAddr, key);
+                match &= removed == (expected.remove(key) != null);
+            }
+        }
+        for (int key = -256; key < 256; key++) {
+            Integer value = expected.get(key);
+            match &= table.containsKey(tableAddr, key) == (value != null);
+            if (value != null) {
+                match &= table.get(tableAddr, key, -1) == value;
+            }
+        }
+        match &= table.size(tableAddr) == expected.size();
+        System.out.println("  Size: " + table.size(tableAddr) + ", capacity: " + table.getCapacity(tableAddr));
+        System.out.println("  Contents match: " + (match ? "PASS" : "FAIL"));
+        
+        System.out.println("\nProbe lengths after growth:");
+        int maxProbe = 0;
+        for (int key : expected.keySet()) {
+            if (key != 0) {
+                maxProbe = Math.max(maxProbe, table.probeLength(tableAddr, key));
+            }
+        }
+        System.out.println("  Max probe length: " + maxProbe);
+        System.out.println("  Arena used: " + arena.used() + ", free bytes: " + arena.freeBytes());
+        
+        boolean oversizedRejected = false;
+        int usedBefore = arena.used();
+        try {
+            table.createTable(1_000_000_000);
+        } catch (IllegalArgumentException e) {
+            oversizedRejected = true;
+        }
+        System.out.println("  Oversized table rejected: " + (oversizedRejected && arena.used() == usedBefore ? "PASS" : "FAIL"));
+        
+        System.out.println("\nTable details:");
+        System.out.println("  Layout: [capacity][size][slots ptr][has zero key][zero value]");
+        System.out.println("  Slot layout: [key:4B][value:4B], contiguous");
+        System.out.println("  Collision resolution: Linear probing, backward-shift deletion");
+        System.out.println("  Rehash: capacity doubles above 0.75 load factor");
+        System.out.println();
+    }
+
+    static void testHashTableResize() {
+        System.out.println("Test 20: Hash Table Resizing and Incremental Rehash");
+        MemoryArena arena = new MemoryArena(256 * 1024);
+        HashTableStore hashTable = new HashTableStore(arena);
+        
+        System.out.println("Blocking rehash (default):");
+        int blockingTable = hashTable.createHashTable(4);
+        for (int i = 0; i < 1000; i++) {
+            hashTable.put(blockingTable, i, i * 2);
+        }
+        System.out.println("  Size: " + hashTable.getSize(blockingTable) + ", buckets: " + hashTable.getBucketCount(blockingTable));
+        System.out.println("  Load factor: " + hashTable.getLoadFactor(blockingTable));
+        System.out.println("  Rehashing: " + hashTable.isRehashing(blockingTable));
+        
+        System.out.println("\nIncremental rehash:");
+        int incrementalTable = hashTable.createHashTable(4, true);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        int opsWhileRehashing = 0;
+        boolean match = true;
+        for (int i = 0; i < 4000; i++) {
+            int key = random.nextInt(2000);
+            if (random.nextInt(4) == 0) {
+                hashTable.remove(incrementalTable, key);
+                expected.remove(key);
+            } else {
+                hashTable.put(incrementalTable, key, i);
+                expected.put(key, i);
+            }
+            if (hashTable.isRehashing(incrementalTable)) {
+                opsWhileRehashing++;
+            }
+            Integer probe = hashTable.get(incrementalTable, key);
+            match &= probe == null ? !expected.containsKey(key) : probe.equals(expected.get(key));
+        }
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            match &= entry.getValue().equals(hashTable.get(incrementalTable, entry.getKey()));
+        }
+        match &= hashTable.getSize(incrementalTable) == expected.size();
+        System.out.println("  Size: " + hashTable.getSize(incrementalTable) + ", buckets: " + hashTable.getBucketCount(incrementalTable));
+        System.out.println("  Operations that ran while a rehash was in progress: " + opsWhileRehashing);
+        System.out.println("  Contents match java.util.HashMap: " + (match ? "PASS" : "FAIL"));
+        
+        hashTable.finishRehash(incrementalTable);
+        System.out.println("  After finishRehash, rehashing: " + hashTable.isRehashing(incrementalTable));
+        
+        System.out.println("\nSmall incremental table mid-rehash:");
+        int smallTable = hashTable.createHashTable(2, true);
+        for (int i = 0; i < 3; i++) {
+            hashTable.put(smallTable, i * 5, i);
+        }
+        hashTable.printHashTable(smallTable);
+        System.out.println();
+    }
+
+    static void testHashStrategies() {
+        System.out.println("Test 21: Hash Strategies");
+        MemoryArena arena = new MemoryArena(64 * 1024);
+        HashTableStore hashTable = new HashTableStore(arena);
+        
+        System.out.println("Default table rounds bucket count to a power of two:");
+        int defaultTable = hashTable.createHashTable(10);
+        System.out.println("  createHashTable(10) -> buckets: " + hashTable.getBucketCount(defaultTable) + ", strategy: " + hashTable.getHashStrategy(defaultTable));
+        
+        System.out.println("\nInteger.MIN_VALUE keys:");
+        for (HashStrategy strategy : HashStrategy.values()) {
+            int tableAddr = hashTable.createHashTable(7, false, strategy, 0);
+            hashTable.put(tableAddr, Integer.MIN_VALUE, 1);
+            hashTable.put(tableAddr, Integer.MAX_VALUE, 2);
+            boolean pass = hashTable.get(tableAddr, Integer.MIN_VALUE) == 1 && hashTable.get(tableAddr, Integer.MAX_VALUE) == 2;
+            System.out.println("  " + strategy + ": " + (pass ? "PASS" : "FAIL"));
+        }
+        
+        System.out.println("\nStrided keys (i * 1024) in 64 buckets:");
+        for (HashStrategy strategy : HashStrategy.values()) {
+            int tableAddr = hashTable.createHashTable(64, false, strategy, 0);
+            for (int i = 0; i < 48; i++) {
+                hashTable.put(tableAddr, i * 1024, i);
+            }
+            int maxChain = 0;
+            for (int b = 0; b < hashTable.getBucketCount(tableAddr); b++) {
+                maxChain = Math.max(maxChain, hashTable.getChainLength(tableAddr, b));
+            }
+            System.out.println("  " + strategy + ": max chain length " + maxChain);
+        }
+        
+        System.out.println("\nSeeded tables place keys differently:");
+        int seedA = hashTable.createHashTable(16, false, HashStrategy.MURMUR3, 1);
+        int seedB = hashTable.createHashTable(16, false, HashStrategy.MURMUR3, 2);
+        hashTable.put(seedA, 42, 1);
+        hashTable.put(seedB, 42, 1);
+        hashTable.printHashTable(seedA);
+        hashTable.printHashTable(seedB);
+        System.out.println();
+    }
+
+    static void testBulkOperations() {
+        System.out.println("Test 22: Bulk Copy, Fill and Compare");
+        BackingStore[] stores = {
+            new HeapBackingStore(1024, ByteOrder.BIG_ENDIAN),
+            new DirectBufferBackingStore(1024, ByteOrder.LITTLE_ENDIAN),
+            new SegmentBackingStore(1024, ByteOrder.BIG_ENDIAN)
+        };
+        
+        for (BackingStore store : stores) {
+            try (MemoryArena arena = new MemoryArena(store)) {
+                int[] ints = {1, -2, 0x12345678, Integer.MIN_VALUE};
+                long[] longs = {Long.MAX_VALUE, -1L};
+                char[] chars = "Arena".toCharArray();
+                
+                int intAddr = arena.alloc(16);
+                int longAddr = arena.alloc(16);
+                int charAddr = arena.alloc(10);
+                arena.putInts(intAddr, ints, 0, ints.length);
+                arena.putLongs(longAddr, longs, 0, longs.length);
+                arena.putChars(charAddr, chars, 0, chars.length);
+                
+                int[] intsBack = new int[4];
+                long[] longsBack = new long[2];
+                char[] charsBack = new char[5];
+                arena.getInts(intAddr, intsBack, 0, 4);
+                arena.getLongs(longAddr, longsBack, 0, 2);
+                arena.getChars(charAddr, charsBack, 0, 5);
+                boolean transfers = java.util.Arrays.equals(ints, intsBack)
+                    && java.util.Arrays.equals(longs, longsBack)
+                    && java.util.Arrays.equals(chars, charsBack)
+                    && arena.getInt(intAddr + 8) == 0x12345678;
+                
+                int copyAddr = arena.alloc(16);
+                arena.copy(intAddr, copyAddr, 16);
+                boolean copied = arena.mismatch(intAddr, copyAddr, 16) == -1 && arena.compare(intAddr, copyAddr, 16) == 0;
+                
+                arena.putByte(copyAddr + 5, (byte) 0x7F);
+                boolean mismatchFound = arena.mismatch(intAddr, copyAddr, 16) == 5;
+                
+                int fillAddr = arena.alloc(19);
+                arena.fill(fillAddr, 19, (byte) 0xAB);
+                boolean filled = arena.getByte(fillAddr) == (byte) 0xAB && arena.getByte(fillAddr + 18) == (byte) 0xAB;
+                
+                arena.copy(intAddr, intAddr + 4, 8);
+                boolean overlapping = arena.getInt(intAddr + 4) == 1 && arena.getInt(intAddr + 8) == -2;
+                
+                boolean pass = transfers && copied && mismatchFound && filled && overlapping;
+                System.out.println("  " + store.getClass().getSimpleName() + ": " + (pass ? "PASS" : "FAIL"));
+            }
+        }
+        
+        System.out.println("\nUnsigned byte ordering in compare():");
+        MemoryArena arena = new MemoryArena(64);
+        int a = arena.alloc(2);
+        int b = arena.alloc(2);
+        arena.putByte(a, (byte) 0x01);
+        arena.putByte(b, (byte) 0xFF);
+        System.out.println("  compare(0x01.., 0xFF..) = " + arena.compare(a, b, 2));
+        
+        System.out.println("\nStringStore equality without decoding:");
+        StringStore stringStore = new StringStore(arena);
+        int s1 = stringStore.createString("same");
+        int s2 = stringStore.createString("same");
+        int s3 = stringStore.createString("diff");
+        System.out.println("  contentEquals(same, same) = " + stringStore.contentEquals(s1, s2));
+        System.out.println("  contentEquals(same, diff) = " + stringStore.contentEquals(s1, s3));
+        System.out.println();
+    }
+
+    static void testAllocationStats() {
+        System.out.println("Test 23: Allocation Statistics");
+        MemoryArena arena = new MemoryArena(1024);
+        arena.alloc(16);
+        System.out.println("Counters disabled by default: " + (!arena.isStatsEnabled() && arena.getStats().getAllocationCount() == 0 ? "PASS" : "FAIL"));
+        
+        arena.enableStats();
+        int small = arena.alloc(8);
+        arena.alloc(100);
+        arena.allocAligned(16, 64);
+        arena.free(small, 8);
+        arena.alloc(8);
+        MemoryRegion region = arena.createRegionAtOffset(128, "scratch");
+        int regionBlock = region.alloc(48);
+        region.alloc(16);
+        region.free(regionBlock, 48);
+        try {
+            arena.alloc(4096);
+        } catch (OutOfMemoryException e) {
+            System.out.println("Expected OOM recorded");
+        }
+        
+        ArenaStats stats = arena.getStats();
+        System.out.print(stats);
+        boolean counts = stats.getAllocationCount() == 5 && stats.getAllocatedBytes() == 8 + 100 + 16 + 8 + 128;
+        boolean histogram = stats.getSizeClassAllocations(3) == 2 && stats.getSizeClassBytes(7) == 100 + 128
+            && stats.getSizeClassAllocations(4) == 1;
+        boolean peak = stats.getPeakUsage() == arena.allocatedBoundary();
+        boolean oom = stats.getOutOfMemoryCount() == 1 && stats.getFreeCount() == 1;
+        boolean regionUsage = stats.getRegionUsage().get("scratch") == 16;
+        System.out.println("Counts: " + (counts ? "PASS" : "FAIL"));
+        System.out.println("Size-class histogram: " + (histogram ? "PASS" : "FAIL"));
+        System.out.println("Peak usage: " + (peak ? "PASS" : "FAIL"));
+        System.out.println("OOM and free counts: " + (oom ? "PASS" : "FAIL"));
+        System.out.println("Region usage: " + (regionUsage ? "PASS" : "FAIL"));
+        
+        int peakBefore = arena.allocatedBoundary();
+        arena.reset();
+        arena.alloc(32);
+        stats = arena.getStats();
+        System.out.println("Reset count and peak survive reset: "
+            + (stats.getResetCount() == 1 && stats.getPeakUsage() == peakBefore ? "PASS" : "FAIL"));
+        
+        MemoryArena concurrent = MemoryArena.concurrent(64 * 1024, 1024);
+        concurrent.enableStats();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    concurrent.alloc(8);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("Concurrent counters: " + (concurrent.getStats().getAllocationCount() == 4000 ? "PASS" : "FAIL"));
+        
+        try (ArenaMetrics metrics = ArenaMetrics.register(arena, "test-arena")) {
+            Object used = java.lang.management.ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(metrics.getObjectName(), "Used");
+            System.out.println("JMX Used attribute: " + (((Integer) used) == arena.used() ? "PASS" : "FAIL"));
+        } catch (javax.management.JMException e) {
+            System.out.println("JMX Used attribute: FAIL (" + e.getMessage() + ")");
+        }
+        
+        arena.disableStats();
+        arena.alloc(8);
+        System.out.println("Disabled stats stop counting: " + (!arena.getStats().isEnabled() ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testStringCoders() {
+        System.out.println("Test 24: Compact String Coders");
+        MemoryArena arena = new MemoryArena(1024);
+        StringStore stringStore = new StringStore(arena);
+        
+        String ascii = "request_id";
+        String cjk = "你好, arena";
+        String accented = "café crème";
+        
+        int before = arena.used();
+        int asciiAddr = stringStore.createString(ascii);
+        int asciiSize = arena.used() - before;
+        int wideAddr = stringStore.createString(ascii, StringCoder.UTF16);
+        int cjkAddr = stringStore.createString(cjk);
+        int utf8Addr = stringStore.createString(cjk, StringCoder.UTF8);
+        int accentedAddr = stringStore.createString(accented);
+        
+        System.out.println("Coder selection:");
+        System.out.println("  \"" + ascii + "\" -> " + stringStore.getCoder(asciiAddr) + ", " + asciiSize + " bytes");
+        System.out.println("  \"" + accented + "\" -> " + stringStore.getCoder(accentedAddr));
+        System.out.println("  \"" + cjk + "\" -> " + stringStore.getCoder(cjkAddr));
+        boolean selected = stringStore.getCoder(asciiAddr) == StringCoder.LATIN1
+            && stringStore.getCoder(accentedAddr) == StringCoder.LATIN1
+            && stringStore.getCoder(cjkAddr) == StringCoder.UTF16
+            && asciiSize == 9 + ascii.length();
+        System.out.println("  " + (selected ? "PASS" : "FAIL"));
+        
+        boolean roundTrip = stringStore.getString(asciiAddr).equals(ascii)
+            && stringStore.getString(wideAddr).equals(ascii)
+            && stringStore.getString(cjkAddr).equals(cjk)
+            && stringStore.getString(utf8Addr).equals(cjk)
+            && stringStore.getString(accentedAddr).equals(accented)
+            && stringStore.getByteLength(utf8Addr) == cjk.getBytes(java.nio.charset.StandardCharsets.UTF_8).length;
+        System.out.println("Round trips: " + (roundTrip ? "PASS" : "FAIL"));
+        
+        boolean charAt = stringStore.getCharAt(asciiAddr, 7) == '_'
+            && stringStore.getCharAt(accentedAddr, 3) == 'é'
+            && stringStore.getCharAt(cjkAddr, 1) == '好'
+            && stringStore.getCharAt(utf8Addr, 4) == 'a';
+        System.out.println("getCharAt per coder: " + (charAt ? "PASS" : "FAIL"));
+        
+        boolean equality = stringStore.contentEquals(asciiAddr, wideAddr)
+            && stringStore.contentEquals(cjkAddr, utf8Addr)
+            && !stringStore.contentEquals(asciiAddr, accentedAddr);
+        System.out.println("contentEquals across coders: " + (equality ? "PASS" : "FAIL"));
+        
+        try {
+            stringStore.setCharAt(asciiAddr, 0, '你');
+            System.out.println("Latin-1 rejects wide char: FAIL");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Latin-1 rejects wide char: PASS");
+        }
+        try {
+            stringStore.createString(cjk, StringCoder.LATIN1);
+            System.out.println("Latin-1 coder rejects CJK: FAIL");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Latin-1 coder rejects CJK: PASS");
+        }
+        
+        int used = arena.used();
+        stringStore.freeString(accentedAddr);
+        System.out.println("Free uses encoded size: " + (arena.used() == used - (9 + accented.length()) ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testStringInterning() {
+        System.out.println("Test 25: String Interning");
+        MemoryArena arena = new MemoryArena(64 * 1024);
+        StringStore stringStore = new StringStore(arena);
+        
+        int first = stringStore.intern("tag:region=us-east");
+        int used = arena.used();
+        int second = stringStore.intern("tag:region=" + "us-east");
+        System.out.println("Same address for equal contents: " + (first == second ? "PASS" : "FAIL"));
+        System.out.println("No allocation on hit: " + (arena.used() == used ? "PASS" : "FAIL"));
+        
+        String[] tags = new String[500];
+        int[] addrs = new int[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = "tag-" + i;
+            addrs[i] = stringStore.intern(tags[i]);
+        }
+        boolean stable = true;
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < tags.length; i++) {
+                stable &= stringStore.intern(new String(tags[i].toCharArray())) == addrs[i];
+            }
+        }
+        System.out.println("Pool growth keeps " + stringStore.internedCount() + " entries stable: "
+            + (stable && stringStore.internedCount() == tags.length + 1 ? "PASS" : "FAIL"));
+        
+        String mixed = "naïve 😀 tag";
+        int utf8 = stringStore.createString(mixed, StringCoder.UTF8);
+        int utf16 = stringStore.createString(mixed, StringCoder.UTF16);
+        boolean hashes = stringStore.contentHash(utf8) == mixed.hashCode()
+            && stringStore.contentHash(utf16) == mixed.hashCode()
+            && stringStore.contentHash(first) == "tag:region=us-east".hashCode();
+        System.out.println("contentHash matches String.hashCode: " + (hashes ? "PASS" : "FAIL"));
+        boolean equality = stringStore.contentEquals(utf8, utf16)
+            && stringStore.contentEquals(utf8, mixed)
+            && !stringStore.contentEquals(utf8, "naïve 😀 taG")
+            && stringStore.getCharAt(utf8, 7) == mixed.charAt(7);
+        System.out.println("Zero-copy equality across coders: " + (equality ? "PASS" : "FAIL"));
+        
+        int canonical = stringStore.intern(utf8);
+        int dedup = stringStore.intern(utf16);
+        System.out.println("Interning stored strings dedups: " + (canonical == utf8 && dedup == utf8 ? "PASS" : "FAIL"));
+        
+        stringStore.freeString(addrs[7]);
+        boolean removed = stringStore.findInterned("tag-7") == -1
+            && stringStore.findInterned("tag-8") == addrs[8]
+            && stringStore.internedCount() == tags.length + 1;
+        System.out.println("Freeing removes from pool: " + (removed ? "PASS" : "FAIL"));
+        int reinterned = stringStore.intern("tag-7");
+        System.out.println("Re-intern after free: " + (stringStore.getString(reinterned).equals("tag-7") ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testStringViews() {
+        System.out.println("Test 26: Zero-Copy String Views");
+        MemoryArena arena = new MemoryArena(4096);
+        StringStore stringStore = new StringStore(arena);
+        
+        int latin = stringStore.createString("GET /api/v1/users?id=42 HTTP/1.1");
+        int wide = stringStore.createString("GET /api/v1/users?id=42 HTTP/1.1", StringCoder.UTF16);
+        int utf8 = stringStore.createString("héllo wörld 😀!", StringCoder.UTF8);
+        
+        StringView view = stringStore.view(latin);
+        boolean basics = view.length() == 32 && view.charAt(4) == '/' && view.startsWith("GET ")
+            && view.endsWith("HTTP/1.1") && view.indexOf('?') == 17 && view.indexOf("id=") == 18
+            && view.indexOf("missing") == -1 && view.contentEquals("GET /api/v1/users?id=42 HTTP/1.1");
+        System.out.println("Latin-1 view queries: " + (basics ? "PASS" : "FAIL"));
+        
+        StringView other = stringStore.view(wide);
+        boolean crossCoder = view.equals(other) && view.hashCode() == other.hashCode()
+            && view.hashCode() == "GET /api/v1/users?id=42 HTTP/1.1".hashCode();
+        System.out.println("Equality and hash across coders: " + (crossCoder ? "PASS" : "FAIL"));
+        
+        CharSequence path = view.subSequence(4, 17);
+        boolean sub = path instanceof StringView && path.toString().equals("/api/v1/users")
+            && ((StringView) path).contentEquals(other.subSequence(4, 17));
+        System.out.println("subSequence without copying: " + (sub ? "PASS" : "FAIL"));
+        
+        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile("id=(\\d+)").matcher(view);
+        System.out.println("Regex over view: " + (matcher.find() && matcher.group(1).equals("42") ? "PASS" : "FAIL"));
+        
+        StringView utf8View = stringStore.view(utf8);
+        String expected = "héllo wörld 😀!";
+        boolean utf8Ok = utf8View.length() == expected.length() && utf8View.contentEquals(expected)
+            && utf8View.charAt(13) == expected.charAt(13) && utf8View.charAt(1) == 'é'
+            && utf8View.indexOf("wörld") == 6 && utf8View.hashCode() == expected.hashCode();
+        System.out.println("UTF-8 view: " + (utf8Ok ? "PASS" : "FAIL"));
+        boolean repeated = true;
+        for (int i = 0; i < expected.length(); i++) {
+            repeated &= utf8View.charAt(i) == expected.charAt(i) && utf8View.charAt(i) == expected.charAt(i);
+        }
+        repeated &= utf8View.charAt(3) == 'l' && utf8View.charAt(3) == 'l' && utf8View.charAt(7) == 'ö';
+        System.out.println("Repeated UTF-8 reads use the cursor: " + (repeated ? "PASS" : "FAIL"));
+        
+        StringStore otherStore = new StringStore(new MemoryArena(1024));
+        StringView foreign = otherStore.view(otherStore.createString("GET /api/v1/users?id=42 HTTP/1.1"));
+        StringView foreignWide = otherStore.view(otherStore.createString("GET /api/v1/users?id=42 HTTP/1.1", StringCoder.UTF16));
+        System.out.println("Equality across arenas: "
+            + (view.equals(foreign) && foreign.equals(view) && view.hashCode() == foreign.hashCode()
+                && other.equals(foreignWide) && !view.equals(otherStore.view(otherStore.createString("GET /api/v2/users?id=42 HTTP/1.1")))
+                ? "PASS" : "FAIL"));
+        
+        StringBuilder out = new StringBuilder();
+        StringView reused = stringStore.view(latin);
+        for (int addr : new int[]{latin, utf8}) {
+            out.append(reused.bind(addr)).append('|');
+        }
+        System.out.println("Rebinding one view: " + (out.toString().equals("GET /api/v1/users?id=42 HTTP/1.1|héllo wörld 😀!|") ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testMappedPersistence() {
+        System.out.println("Test 27: Memory-Mapped Persistence");
+        java.nio.file.Path file = null;
+        java.nio.file.Path copy = null;
+        try {
+            file = java.nio.file.Files.createTempFile("arena", ".map");
+            copy = java.nio.file.Files.createTempFile("arena-copy", ".map");
+            
+            int used;
+            int waste;
+            int freeBytes;
+            int scratch;
+            int regionBlock;
+            try (MemoryArena arena = MemoryArena.openMapped(file, 64 * 1024, ByteOrder.LITTLE_ENDIAN)) {
+                VectorStore vectorStore = new VectorStore(arena);
+                HashTableStore hashTable = new HashTableStore(arena);
+                StringStore stringStore = new StringStore(arena);
+                
+                int vector = vectorStore.createVector(2);
+                for (int i = 0; i < 100; i++) {
+                    vectorStore.append(vector, i * i);
+                }
+                int table = hashTable.createHashTable(8);
+                for (int i = 0; i < 50; i++) {
+                    hashTable.put(table, i, -i);
+                }
+                scratch = arena.alloc(32);
+                arena.allocAligned(8, 64);
+                arena.free(scratch, 32);
+                stringStore.intern("persisted");
+                MemoryRegion scratchRegion = arena.createRegionAtOffset(256, "scratch");
+                regionBlock = scratchRegion.alloc(40);
+                arena.putLong(regionBlock, 777L);
+                arena.setRoot("vector", vector);
+                arena.setRoot("table", table);
+                used = arena.used();
+                waste = arena.getAlignmentWaste();
+                freeBytes = arena.freeBytes();
+            }
+            
+            try (MemoryArena reopened = MemoryArena.openMapped(file)) {
+                VectorStore vectorStore = new VectorStore(reopened);
+                HashTableStore hashTable = new HashTableStore(reopened);
+                StringStore stringStore = new StringStore(reopened);
+                int vector = reopened.getRoot("vector");
+                int table = reopened.getRoot("table");
+                
+                boolean state = reopened.used() == used && reopened.getAlignmentWaste() == waste
+                    && reopened.order() == ByteOrder.LITTLE_ENDIAN && reopened.freeBytes() == freeBytes
+                    && reopened.getAllRegions().size() == 1
+                    && reopened.getAllRegions().get(0).getName().equals("scratch");
+                System.out.println("Arena state restored: " + (state ? "PASS" : "FAIL"));
+                
+                boolean data = vectorStore.getLength(vector) == 100 && vectorStore.get(vector, 99) == 99 * 99
+                    && hashTable.getSize(table) == 50 && hashTable.get(table, 49) == -49;
+                System.out.println("Stores usable immediately: " + (data ? "PASS" : "FAIL"));
+                
+                int interned = stringStore.findInterned("persisted");
+                System.out.println("Intern pool restored: "
+                    + (interned != -1 && stringStore.intern("persisted") == interned ? "PASS" : "FAIL"));
+                
+                int reused = reopened.alloc(32);
+                vectorStore.append(vector, 12345);
+                reopened.snapshotTo(copy);
+                System.out.println("Free list restored: " + (reused == scratch ? "PASS" : "FAIL"));
+                
+                MemoryRegion region = reopened.findRegion(regionBlock);
+                int next = region.alloc(8);
+                reopened.putLong(next, -1L);
+                System.out.println("Region bump state restored: "
+                    + (region.used() == 48 && next == regionBlock + 40 && reopened.getLong(regionBlock) == 777L ? "PASS" : "FAIL"));
+            }
+            
+            try (MemoryArena fromSnapshot = MemoryArena.openMapped(copy)) {
+                VectorStore vectorStore = new VectorStore(fromSnapshot);
+                int vector = fromSnapshot.getRoot("vector");
+                System.out.println("snapshotTo round trip: "
+                    + (vectorStore.getLength(vector) == 101 && vectorStore.get(vector, 100) == 12345 ? "PASS" : "FAIL"));
+            }
+            
+            MemoryArena heap = new MemoryArena(4096);
+            StringStore heapStrings = new StringStore(heap);
+            heap.setRoot("greeting", heapStrings.createString("hello from the heap"));
+            heap.snapshotTo(copy);
+            try (MemoryArena mapped = MemoryArena.openMapped(copy)) {
+                StringStore mappedStrings = new StringStore(mapped);
+                System.out.println("Heap arena snapshot: "
+                    + (mappedStrings.getString(mapped.getRoot("greeting")).equals("hello from the heap") ? "PASS" : "FAIL"));
+            }
+            
+            try {
+                MemoryArena.openMapped(file, 1024, ByteOrder.LITTLE_ENDIAN);
+                System.out.println("Capacity mismatch rejected: FAIL");
+            } catch (IllegalArgumentException e) {
+                System.out.println("Capacity mismatch rejected: PASS");
+            }
+        } catch (java.io.IOException e) {
+            System.out.println("Mapped persistence: FAIL (" + e.getMessage() + ")");
+        } finally {
+            try {
+                if (file != null) {
+                    java.nio.file.Files.deleteIfExists(file);
+                }
+                if (copy != null) {
+                    java.nio.file.Files.deleteIfExists(copy);
+                }
+            } catch (java.io.IOException e) {
+                System.out.println("Could not delete temp files: " + e.getMessage());
+            }
+        }
+        System.out.println();
+    }
+
+    static void testAccessModes() {
+        System.out.println("Test 28: Checked and Unchecked Access Modes");
+        MemoryArena checkedArena = new MemoryArena(8192, ByteOrder.nativeOrder(), AccessMode.CHECKED);
+        MemoryArena uncheckedArena = new MemoryArena(8192, ByteOrder.nativeOrder(), AccessMode.UNCHECKED);
+        System.out.println("Mode selected at construction: "
+            + (checkedArena.isChecked() && !uncheckedArena.isChecked()
+                && uncheckedArena.accessMode() == AccessMode.UNCHECKED ? "PASS" : "FAIL"));
+        System.out.println("Default mode follows " + AccessMode.PROPERTY + ": "
+            + (new MemoryArena(64).accessMode() == AccessMode.defaultMode() ? "PASS" : "FAIL"));
+        
+        for (MemoryArena arena : new MemoryArena[] {checkedArena, uncheckedArena}) {
+            VectorStore vectorStore = new VectorStore(arena);
+            HashTableStore hashTable = new HashTableStore(arena);
+            StringStore stringStore = new StringStore(arena);
+            int vector = vectorStore.createVector(2);
+            for (int i = 0; i < 20; i++) {
+                vectorStore.append(vector, i * 3);
+            }
+            vectorStore.set(vector, 5, -1);
+            int table = hashTable.createHashTable(4, true);
+            for (int i = 0; i < 40; i++) {
+                hashTable.put(table, i, i + 100);
+            }
+            hashTable.remove(table, 7);
+            int string = stringStore.createString("unchecked");
+            boolean ok = vectorStore.getLength(vector) == 20 && vectorStore.get(vector, 19) == 57
+                && vectorStore.get(vector, 5) == -1
+                && hashTable.getSize(table) == 39 && hashTable.get(table, 39) == 139
+                && hashTable.get(table, 7) == null
+                && stringStore.getString(string).equals("unchecked") && stringStore.getCharAt(string, 2) == 'c';
+            System.out.println("Stores behave the same (" + arena.accessMode() + "): " + (ok ? "PASS" : "FAIL"));
+        }
+        
+        try {
+            checkedArena.getInt(checkedArena.used() + 16);
+            System.out.println("Checked mode rejects stray address: FAIL");
+        } catch (InvalidAddressException e) {
+            System.out.println("Checked mode rejects stray address: PASS");
+        }
+        
+        int beyondBump = uncheckedArena.used() + 16;
+        uncheckedArena.putInt(beyondBump, 77);
+        System.out.println("Unchecked mode skips bump check: "
+            + (uncheckedArena.getInt(beyondBump) == 77 ? "PASS" : "FAIL"));
+        
+        try {
+            uncheckedArena.free(beyondBump, 4);
+            System.out.println("Unchecked mode still validates free: FAIL");
+        } catch (InvalidAddressException e) {
+            System.out.println("Unchecked mode still validates free: PASS");
+        }
+        
+        HeapBackingStore sharedStore = new HeapBackingStore(4096, ByteOrder.nativeOrder());
+        MemoryArena owner = new MemoryArena(sharedStore, 0, 64, AccessMode.UNCHECKED);
+        int ownerBlock = owner.alloc(16);
+        owner.putInt(ownerBlock, 42);
+        MemoryArena window = new MemoryArena(sharedStore, 64, 64, AccessMode.UNCHECKED);
+        window.putInt(60, 7);
+        boolean belowRejected = false;
+        try {
+            window.putInt(-64, 99);
+        } catch (InvalidAddressException e) {
+            belowRejected = true;
+        }
+        boolean aboveRejected = false;
+        try {
+            window.putLong(60, 99);
+        } catch (InvalidAddressException e) {
+            aboveRejected = true;
+        }
+        System.out.println("Unchecked windows stay inside their range: "
+            + (belowRejected && aboveRejected && owner.getInt(ownerBlock) == 42 && window.getInt(60) == 7 ? "PASS" : "FAIL"));
+
+        VectorStore vectorStore = new VectorStore(uncheckedArena);
+        int vector = vectorStore.createVector(1);
+        try {
+            vectorStore.get(vector, 3);
+            System.out.println("Index bounds kept in unchecked mode: FAIL");
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("Index bounds kept in unchecked mode: PASS");
+        }
+        
+        try {
+            uncheckedArena.getInt(uncheckedArena.capacity());
+            System.out.println("Backing store still guards capacity: FAIL");
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("Backing store still guards capacity: PASS");
+        }
+        System.out.println();
+    }
+
+    static void testBulkKernels() {
+        System.out.println("Test 29: Vectorized Bulk Kernels");
+        System.out.println("Vector API kernels " + (Kernels.VECTORIZED ? "enabled" : "disabled (scalar fallback)"));
+        BackingStore[] stores = {
+            new HeapBackingStore(65536, ByteOrder.BIG_ENDIAN),
+            new DirectBufferBackingStore(65536, ByteOrder.LITTLE_ENDIAN),
+            new SegmentBackingStore(65536, ByteOrder.BIG_ENDIAN)
+        };
+        java.util.Random random = new java.util.Random(29);
+        for (BackingStore store : stores) {
+            MemoryArena arena = new MemoryArena(store);
+            VectorStore vectorStore = new VectorStore(arena);
+            ArrayStore arrayStore = new ArrayStore(arena);
+            boolean ok = true;
+            for (int length : new int[] {1, 7, 64, 1003}) {
+                int vector = vectorStore.createVector(4);
+                int array = arrayStore.createArray(length, 4);
+                int[] expected = new int[length];
+                for (int i = 0; i < length; i++) {
+                    expected[i] = random.nextInt(2001) - 1000;
+                    vectorStore.append(vector, expected[i]);
+                    arrayStore.setInt(array, i, expected[i]);
+                }
+                long sum = 0;
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                int positives = 0;
+                for (int value : expected) {
+                    sum += value;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    positives += value > 0 ? 1 : 0;
+                }
+                int last = expected[length - 1];
+                int firstLast = 0;
+                while (expected[firstLast] != last) {
+                    firstLast++;
+                }
+                ok &= vectorStore.sum(vector) == sum && arrayStore.sum(array) == sum;
+                ok &= vectorStore.min(vector) == min && arrayStore.min(array) == min;
+                ok &= vectorStore.max(vector) == max && arrayStore.max(array) == max;
+                ok &= vectorStore.indexOf(vector, last) == firstLast && arrayStore.indexOf(array, last) == firstLast;
+                ok &= vectorStore.indexOf(vector, 5000) == -1 && arrayStore.indexOf(array, 5000) == -1;
+                
+                int filtered = vectorStore.createVector(0);
+                int filteredArray = arrayStore.createArray(length, 4);
+                ok &= vectorStore.filterInto(vector, Comparison.GT, 0, filtered) == positives;
+                ok &= arrayStore.filterInto(array, Comparison.GT, 0, filteredArray) == positives;
+                for (int i = 0, j = 0; i < length; i++) {
+                    if (expected[i] > 0) {
+                        ok &= vectorStore.get(filtered, j) == expected[i] && arrayStore.getInt(filteredArray, j) == expected[i];
+                        j++;
+                    }
+                }
+                ok &= vectorStore.getLength(filtered) == positives;
+                
+                vectorStore.map(vector, ElementOp.MUL, 3);
+                arrayStore.map(array, ElementOp.XOR, -1);
+                for (int i = 0; i < length; i++) {
+                    ok &= vectorStore.get(vector, i) == expected[i] * 3 && arrayStore.getInt(array, i) == ~expected[i];
+                }
+                vectorStore.fill(vector, 42);
+                arrayStore.fill(array, -7);
+                ok &= vectorStore.sum(vector) == 42L * length && arrayStore.sum(array) == -7L * length;
+            }
+            System.out.println("Kernels match element loops (" + store.getClass().getSimpleName() + ", "
+                + store.order() + "): " + (ok ? "PASS" : "FAIL"));
+        }
+        
+        MemoryArena arena = new MemoryArena(65536);
+        VectorStore vectorStore = new VectorStore(arena);
+        int big = vectorStore.createVector(4000);
+        for (int i = 0; i < 4000; i++) {
+            vectorStore.append(big, Integer.MAX_VALUE);
+        }
+        System.out.println("Sum widens to long: "
+            + (vectorStore.sum(big) == 4000L * Integer.MAX_VALUE ? "PASS" : "FAIL"));
+        
+        int segmentOffset = vectorStore.getDataPtr(big);
+        boolean scalarAgrees = IntKernels.sumScalar(arena.segment(), segmentOffset, 4000, arena.order()) == vectorStore.sum(big)
+            && IntKernels.countScalar(arena.segment(), segmentOffset, 4000, Comparison.EQ, Integer.MAX_VALUE, arena.order()) == 4000;
+        System.out.println("Scalar fallback agrees: " + (scalarAgrees ? "PASS" : "FAIL"));
+        
+        int empty = vectorStore.createVector(0);
+        System.out.println("Empty vector sum and indexOf: "
+            + (vectorStore.sum(empty) == 0 && vectorStore.indexOf(empty, 1) == -1 ? "PASS" : "FAIL"));
+        try {
+            vectorStore.min(empty);
+            System.out.println("Empty vector min rejected: FAIL");
+        } catch (IllegalStateException e) {
+            System.out.println("Empty vector min rejected: PASS");
+        }
+        
+        ArrayStore arrayStore = new ArrayStore(arena);
+        int source = arrayStore.createArray(8, 4);
+        arrayStore.fill(source, 1);
+        int tooSmall = arrayStore.createArray(4, 4);
+        try {
+            arrayStore.filterInto(source, Comparison.EQ, 1, tooSmall);
+            System.out.println("Undersized filter destination rejected: FAIL");
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("Undersized filter destination rejected: PASS");
+        }
+        System.out.println();
+    }
+
+    static void testTypedVectors() {
+        System.out.println("Test 30: Typed Vector Elements");
+        MemoryArena arena = new MemoryArena(262144, ByteOrder.LITTLE_ENDIAN);
+        VectorStore vectorStore = new VectorStore(arena);
+        
+        int timestamps = vectorStore.createVector(ElementType.LONG, 2);
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < 1000; i++) {
+            vectorStore.appendLong(timestamps, base + i * 1000L);
+        }
+        vectorStore.setLong(timestamps, 10, Long.MAX_VALUE);
+        boolean longs = vectorStore.getElementType(timestamps) == ElementType.LONG
+            && vectorStore.getLength(timestamps) == 1000 && vectorStore.getLong(timestamps, 999) == base + 999000L
+            && vectorStore.getLong(timestamps, 10) == Long.MAX_VALUE
+            && vectorStore.maxLong(timestamps) == Long.MAX_VALUE && vectorStore.minLong(timestamps) == base
+            && vectorStore.indexOfLong(timestamps, base + 500000L) == 500;
+        System.out.println("Long elements: " + (longs ? "PASS" : "FAIL"));
+        
+        int bytes = vectorStore.createVector(ElementType.BYTE, 0);
+        int shorts = vectorStore.createVector(ElementType.SHORT, 0);
+        long byteSum = 0;
+        long shortSum = 0;
+        for (int i = 0; i < 517; i++) {
+            vectorStore.appendByte(bytes, (byte) (i * 7));
+            vectorStore.appendShort(shorts, (short) (i * 131));
+            byteSum += (byte) (i * 7);
+            shortSum += (short) (i * 131);
+        }
+        boolean narrow = vectorStore.sum(bytes) == byteSum && vectorStore.sum(shorts) == shortSum
+            && vectorStore.minLong(bytes) == Byte.MIN_VALUE && vectorStore.maxLong(bytes) == Byte.MAX_VALUE
+            && vectorStore.getByte(bytes, 3) == 21 && vectorStore.getShort(shorts, 3) == 393
+            && vectorStore.indexOfLong(bytes, 1000) == -1;
+        System.out.println("Byte and short elements widen sums: " + (narrow ? "PASS" : "FAIL"));
+        
+        vectorStore.mapLong(bytes, ElementOp.XOR, -1);
+        boolean mapped = true;
+        for (int i = 0; i < 517; i++) {
+            mapped &= vectorStore.getByte(bytes, i) == (byte) ~(i * 7);
+        }
+        int positives = vectorStore.createVector(ElementType.SHORT, 0);
+        int kept = vectorStore.filterIntoLong(shorts, Comparison.GE, 0, positives);
+        int expectedKept = 0;
+        for (int i = 0; i < 517; i++) {
+            expectedKept += (short) (i * 131) >= 0 ? 1 : 0;
+        }
+        System.out.println("Narrow map and filter: "
+            + (mapped && kept == expectedKept && vectorStore.minLong(positives) >= 0 ? "PASS" : "FAIL"));
+        
+        int doubles = vectorStore.createVector(ElementType.DOUBLE, 0);
+        int floats = vectorStore.createVector(ElementType.FLOAT, 0);
+        double doubleSum = 0;
+        double floatSum = 0;
+        for (int i = 0; i < 300; i++) {
+            vectorStore.appendDouble(doubles, i * 0.5);
+            vectorStore.appendFloat(floats, i * 0.25f);
+            doubleSum += i * 0.5;
+            floatSum += i * 0.25f;
+        }
+        vectorStore.mapDouble(doubles, ElementOp.MUL, 2.0);
+        boolean floating = Math.abs(vectorStore.sumDouble(doubles) - 2 * doubleSum) < 1e-6
+            && Math.abs(vectorStore.sumDouble(floats) - floatSum) < 1e-3
+            && vectorStore.maxDouble(doubles) == 299.0 && vectorStore.minDouble(floats) == 0.0
+            && vectorStore.getFloat(floats, 4) == 1.0f && vectorStore.indexOfDouble(doubles, 100.0) == 100
+            && vectorStore.indexOfDouble(floats, 0.1) == -1;
+        int large = vectorStore.createVector(ElementType.DOUBLE, 0);
+        floating &= vectorStore.filterIntoDouble(doubles, Comparison.GT, 250.0, large) == 49
+            && vectorStore.getDouble(large, 0) == 251.0;
+        System.out.println("Float and double elements: " + (floating ? "PASS" : "FAIL"));
+        
+        int ints = vectorStore.createVector(4);
+        vectorStore.append(ints, 5);
+        boolean typeChecks = true;
+        try {
+            vectorStore.getLong(ints, 0);
+            typeChecks = false;
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            vectorStore.sumDouble(timestamps);
+            typeChecks = false;
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            vectorStore.fillLong(bytes, 300);
+            typeChecks = false;
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            vectorStore.mapDouble(doubles, ElementOp.XOR, 1.0);
+            typeChecks = false;
+        } catch (IllegalArgumentException e) {
+        }
+        System.out.println("Element type enforced: " + (typeChecks ? "PASS" : "FAIL"));
+        
+        int before = arena.freeBytes();
+        vectorStore.freeVector(timestamps);
+        System.out.println("Free uses element width: "
+            + (arena.freeBytes() - before >= 16 + 1000 * 8 ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testVectorGrowth() {
+        System.out.println("Test 31: In-Place Vector Growth");
+        MemoryArena arena = new MemoryArena(6 * 1024 * 1024 + 4096);
+        VectorStore vectorStore = new VectorStore(arena);
+        int vector = vectorStore.createVector(4);
+        int firstData = vectorStore.getDataPtr(vector);
+        for (int i = 0; i < 1_000_000; i++) {
+            vectorStore.append(vector, i);
+        }
+        boolean inPlace = vectorStore.getDataPtr(vector) == firstData && arena.freeBytes() == 0
+            && arena.used() == 16 + vectorStore.getCapacity(vector) * 4
+            && vectorStore.get(vector, 999_999) == 999_999;
+        System.out.println("Tail vector grows in place: " + (inPlace ? "PASS" : "FAIL"));
+        
+        vectorStore.shrinkToFit(vector);
+        System.out.println("shrinkToFit returns tail to arena: "
+            + (vectorStore.getCapacity(vector) == 1_000_000 && arena.used() == 16 + 4_000_000
+                && vectorStore.sum(vector) == 999_999L * 1_000_000 / 2 ? "PASS" : "FAIL"));
+        
+        MemoryArena small = new MemoryArena(4096);
+        VectorStore smallStore = new VectorStore(small);
+        int a = smallStore.createVector(4);
+        int b = smallStore.createVector(4);
+        smallStore.append(a, 1);
+        int before = smallStore.getDataPtr(a);
+        for (int i = 0; i < 4; i++) {
+            smallStore.append(a, i);
+        }
+        System.out.println("Non-tail vector relocates: "
+            + (smallStore.getDataPtr(a) != before && smallStore.get(a, 4) == 3 && smallStore.getLength(b) == 0 ? "PASS" : "FAIL"));
+        
+        smallStore.reserve(b, 100);
+        int reservedData = smallStore.getDataPtr(b);
+        int[] values = new int[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * i;
+        }
+        smallStore.appendAll(b, values);
+        System.out.println("reserve then appendAll grows once: "
+            + (smallStore.getCapacity(b) == 100 && smallStore.getDataPtr(b) == reservedData
+                && smallStore.getLength(b) == 100 && smallStore.get(b, 99) == 9801 ? "PASS" : "FAIL"));
+        
+        int c = smallStore.createVector(2);
+        smallStore.appendAll(c, values);
+        System.out.println("appendAll sizes to fit: "
+            + (smallStore.getCapacity(c) == 100 && smallStore.get(c, 50) == 2500 ? "PASS" : "FAIL"));
+        
+        int times = smallStore.createVector(ElementType.LONG, 0);
+        smallStore.appendAll(times, new long[] {1L << 40, 2L << 40, 3L << 40});
+        smallStore.appendAll(times, new long[0]);
+        System.out.println("appendAll longs: "
+            + (smallStore.getLength(times) == 3 && smallStore.getLong(times, 2) == 3L << 40 ? "PASS" : "FAIL"));
+        
+        int empty = smallStore.createVector(8);
+        int freeBefore = small.freeBytes() + small.remaining();
+        smallStore.shrinkToFit(empty);
+        System.out.println("shrinkToFit on empty vector releases data: "
+            + (smallStore.getCapacity(empty) == 0 && smallStore.getDataPtr(empty) == -1
+                && small.freeBytes() + small.remaining() == freeBefore + 32 ? "PASS" : "FAIL"));
+        smallStore.append(empty, 7);
+        System.out.println("Empty vector usable after shrink: " + (smallStore.get(empty, 0) == 7 ? "PASS" : "FAIL"));
+        
+        int wide = smallStore.createVector(ElementType.LONG, 1);
+        int wideData = smallStore.getDataPtr(wide);
+        boolean capacityOverflow = false;
+        try {
+            smallStore.reserve(wide, Integer.MAX_VALUE / 4);
+        } catch (OutOfMemoryException e) {
+            capacityOverflow = false;
+        } catch (MemoryException e) {
+            capacityOverflow = true;
+        }
+        boolean oversized = false;
+        try {
+            small.alloc(Integer.MAX_VALUE);
+        } catch (OutOfMemoryException e) {
+            oversized = true;
+        }
+        System.out.println("Oversized growth fails without overflow: "
+            + (capacityOverflow && oversized && smallStore.getCapacity(wide) == 1
+                && smallStore.getDataPtr(wide) == wideData ? "PASS" : "FAIL"));
+        
+        MemoryArena bounded = new MemoryArena(64, ByteOrder.nativeOrder(), AccessMode.CHECKED);
+        bounded.alloc(16);
+        int wrapped = 0;
+        try {
+            bounded.getInt(Integer.MAX_VALUE - 1);
+        } catch (InvalidAddressException e) {
+            wrapped++;
+        }
+        try {
+            bounded.checkAddr(Integer.MAX_VALUE - 1, 4);
+        } catch (InvalidAddressException e) {
+            wrapped++;
+        }
+        try {
+            bounded.createRegion(Integer.MAX_VALUE - 1, 8, "Wrapped");
+        } catch (InvalidAddressException e) {
+            wrapped++;
+        }
+        System.out.println("Bounds checks reject wrapped addresses: "
+            + (wrapped == 3 && bounded.getAllRegions().isEmpty() ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testTypedArrays() {
+        System.out.println("Test 32: Typed Arrays and Struct-of-Arrays");
+        MemoryArena arena = new MemoryArena(32 * 1024);
+        ArrayStore arrayStore = new ArrayStore(arena);
+        int raw = arrayStore.createArray(4, 8);
+        arena.alloc(100);
+        System.out.println("Element size survives later allocations: "
+            + (arrayStore.getElementSize(raw) == 8 && arrayStore.getElementType(raw) == null ? "PASS" : "FAIL"));
+        arrayStore.setLong(raw, 3, Long.MIN_VALUE);
+        System.out.println("Raw array accepts accessors of matching width: "
+            + (arrayStore.getLong(raw, 3) == Long.MIN_VALUE ? "PASS" : "FAIL"));
+        
+        int empty = arrayStore.createArray(ElementType.SHORT, 0);
+        System.out.println("Empty typed array reports element size: "
+            + (arrayStore.getElementSize(empty) == 2 && arrayStore.getElementType(empty) == ElementType.SHORT ? "PASS" : "FAIL"));
+        
+        int doubles = arrayStore.createArray(ElementType.DOUBLE, 3);
+        arrayStore.setDouble(doubles, 0, 1.5);
+        arrayStore.setDouble(doubles, 2, -2.25);
+        int bytes = arrayStore.createArray(ElementType.BYTE, 2);
+        arrayStore.setByte(bytes, 1, (byte) -7);
+        int chars = arrayStore.createArray(2, 2);
+        arrayStore.setChar(chars, 0, 'Z');
+        int flags = arrayStore.createArray(3, 1);
+        arrayStore.setBoolean(flags, 2, true);
+        System.out.println("Typed accessors round-trip: "
+            + (arrayStore.getDouble(doubles, 2) == -2.25 && arrayStore.getByte(bytes, 1) == -7
+                && arrayStore.getChar(chars, 0) == 'Z' && arrayStore.getBoolean(flags, 2)
+                && !arrayStore.getBoolean(flags, 0) ? "PASS" : "FAIL"));
+        
+        boolean typeRejected = false;
+        try {
+            arrayStore.getLong(doubles, 0);
+        } catch (IllegalArgumentException e) {
+            typeRejected = true;
+        }
+        boolean widthRejected = false;
+        try {
+            arrayStore.getInt(raw, 0);
+        } catch (IllegalArgumentException e) {
+            widthRejected = true;
+        }
+        boolean kernelRejected = false;
+        try {
+            arrayStore.sum(doubles);
+        } catch (IllegalArgumentException e) {
+            kernelRejected = true;
+        }
+        System.out.println("Mismatched accessors rejected: "
+            + (typeRejected && widthRejected && kernelRejected ? "PASS" : "FAIL"));
+        
+        int records = 1000;
+        arena.alloc(3);
+        int soa = arrayStore.createStructArray(records, ElementType.INT, ElementType.DOUBLE, ElementType.BYTE);
+        for (int i = 0; i < records; i++) {
+            arrayStore.setIntField(soa, 0, i, i);
+            arrayStore.setDoubleField(soa, 1, i, i * 0.5);
+            arrayStore.setByteField(soa, 2, i, (byte) (i % 3));
+        }
+        System.out.println("Struct array metadata: "
+            + (arrayStore.isStructArray(soa) && arrayStore.getFieldCount(soa) == 3
+                && arrayStore.getFieldType(soa, 1) == ElementType.DOUBLE && arrayStore.getElementSize(soa) == 13
+                && soa % 8 == 0 && arrayStore.getColumnAddr(soa, 1) % 8 == 0
+                && arrayStore.getColumnAddr(soa, 2) % 8 == 0 ? "PASS" : "FAIL"));
+        arena.alloc(5);
+        int longs = arrayStore.createArray(ElementType.LONG, 4);
+        System.out.println("Typed array data is 8-byte aligned: "
+            + (longs % 8 == 0 ? "PASS" : "FAIL"));
+        System.out.println("Struct array column scans: "
+            + (arrayStore.sumField(soa, 0) == 999L * 1000 / 2 && arrayStore.sumDoubleField(soa, 1) == 999.0 * 1000 / 4
+                && arrayStore.sumField(soa, 2) == 999 && arrayStore.getIntField(soa, 0, 500) == 500 ? "PASS" : "FAIL"));
+        
+        boolean fieldRejected = false;
+        try {
+            arrayStore.getLongField(soa, 0, 0);
+        } catch (IllegalArgumentException e) {
+            fieldRejected = true;
+        }
+        boolean plainRejected = false;
+        try {
+            arrayStore.getInt(soa, 0);
+        } catch (IllegalArgumentException e) {
+            plainRejected = true;
+        }
+        System.out.println("Struct array field types enforced: " + (fieldRejected && plainRejected ? "PASS" : "FAIL"));
+        
+        int before = arena.freeBytes();
+        arrayStore.freeArray(doubles);
+        System.out.println("freeArray returns full block: "
+            + (arena.freeBytes() == before + 16 + 3 * 8 ? "PASS" : "FAIL"));
+        
+        int usedBefore = arena.used();
+        int overflows = 0;
+        try {
+            arrayStore.createArray(Integer.MAX_VALUE / 2, 8);
+        } catch (MemoryException e) {
+            overflows++;
+        }
+        try {
+            arrayStore.createStructArray(Integer.MAX_VALUE / 4, ElementType.LONG, ElementType.LONG);
+        } catch (MemoryException e) {
+            overflows++;
+        }
+        try {
+            arena.alloc(-8);
+        } catch (IllegalArgumentException e) {
+            overflows++;
+        }
+        try {
+            arena.allocAligned(-8, 8);
+        } catch (IllegalArgumentException e) {
+            overflows++;
+        }
+        System.out.println("Oversized arrays and negative sizes rejected: "
+            + (overflows == 4 && arena.used() == usedBefore ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testStructLayouts() {
+        System.out.println("Test 33: Struct Layouts");
+        StructLayout layout = StructLayout.builder()
+            .field("flags", ElementType.BYTE)
+            .field("id", ElementType.INT)
+            .field("score", ElementType.DOUBLE)
+            .field("level", ElementType.SHORT)
+            .build();
+        System.out.println("Layout: " + layout);
+        System.out.println("Fields aligned to their size: "
+            + (layout.offsetOf("flags") == 0 && layout.offsetOf("id") == 4 && layout.offsetOf("score") == 8
+                && layout.offsetOf("level") == 16 && layout.size() == 24 && layout.alignment() == 8 ? "PASS" : "FAIL"));
+        StructLayout packed = StructLayout.builder()
+            .field("flags", ElementType.BYTE)
+            .field("id", ElementType.INT)
+            .packed()
+            .build();
+        System.out.println("Packed layout has no padding: "
+            + (packed.offsetOf("id") == 1 && packed.size() == 5 ? "PASS" : "FAIL"));
+        
+        MemoryArena arena = new MemoryArena(64 * 1024);
+        StructStore store = new StructStore(arena, layout);
+        StructField id = layout.field("id");
+        StructField score = layout.field("score");
+        StructField level = layout.field("level");
+        int record = store.create();
+        store.setInt(record, id, 42);
+        store.setDouble(record, score, 99.5);
+        store.setShort(record, level, (short) 7);
+        System.out.print("Record: ");
+        store.printStruct(record);
+        System.out.println("Struct accessors round-trip: "
+            + (record % 8 == 0 && store.getInt(record, id) == 42 && store.getDouble(record, score) == 99.5
+                && store.getByte(record, layout.field("flags")) == 0 ? "PASS" : "FAIL"));
+        
+        boolean handlesWork;
+        try {
+            int viaHandle = (int) id.getter().invokeExact(arena, record);
+            score.setter().invokeExact(arena, record, 12.25);
+            handlesWork = viaHandle == 42 && store.getDouble(record, score) == 12.25;
+        } catch (Throwable e) {
+            handlesWork = false;
+        }
+        System.out.println("MethodHandle accessors: " + (handlesWork ? "PASS" : "FAIL"));
+        
+        int array = store.createArray(1000);
+        for (int i = 0; i < store.getLength(array); i++) {
+            int element = store.elementAddr(array, i);
+            store.setInt(element, id, i);
+            store.setDouble(element, score, i * 2.0);
+        }
+        long idSum = 0;
+        double scoreSum = 0;
+        for (int i = 0; i < 1000; i++) {
+            int element = store.elementAddr(array, i);
+            idSum += store.getInt(element, id);
+            scoreSum += store.getDouble(element, score);
+        }
+        System.out.println("Array of structs: "
+            + (idSum == 999L * 1000 / 2 && scoreSum == 999.0 * 1000 && store.elementAddr(array, 1) - store.elementAddr(array, 0) == 24 ? "PASS" : "FAIL"));
+        
+        boolean typeRejected = false;
+        try {
+            store.getLong(record, id);
+        } catch (IllegalArgumentException e) {
+            typeRejected = true;
+        }
+        boolean foreignRejected = false;
+        try {
+            store.getInt(record, packed.field("id"));
+        } catch (IllegalArgumentException e) {
+            foreignRejected = true;
+        }
+        boolean duplicateRejected = false;
+        try {
+            StructLayout.builder().field("x", ElementType.INT).field("x", ElementType.LONG);
+        } catch (IllegalArgumentException e) {
+            duplicateRejected = true;
+        }
+        System.out.println("Invalid field use rejected: "
+            + (typeRejected && foreignRejected && duplicateRejected ? "PASS" : "FAIL"));
+        
+        int usedBefore = arena.used();
+        boolean oversizedRejected = false;
+        try {
+            store.createArray(Integer.MAX_VALUE / 16);
+        } catch (MemoryException e) {
+            oversizedRejected = true;
+        }
+        System.out.println("Oversized struct array rejected: "
+            + (oversizedRejected && arena.used() == usedBefore ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testRegionAllocators() {
+        System.out.println("Test 34: Region Sub-Allocators");
+        MemoryArena arena = new MemoryArena(64 * 1024);
+        MemoryRegion tables = arena.createRegionAtOffset(16 * 1024, "Tables");
+        MemoryRegion scratch = arena.createRegionAtOffset(8 * 1024, "Scratch");
+        
+        int a = scratch.alloc(16);
+        int b = scratch.allocAligned(8, 8);
+        arena.putLong(b, 123L);
+        System.out.println("Region allocations stay inside region: "
+            + (scratch.contains(a) && scratch.containsRange(b, 8) && a == scratch.getStartAddr()
+                && scratch.used() == 24 && arena.getLong(b) == 123L ? "PASS" : "FAIL"));
+        
+        HashTableStore tableStore = new HashTableStore(tables.subArena());
+        int table = tableStore.createHashTable(16);
+        tableStore.put(table, 7, 700);
+        VectorStore scratchVectors = new VectorStore(scratch.subArena());
+        for (int request = 0; request < 100; request++) {
+            scratch.reset();
+            int vector = scratchVectors.createVector(64);
+            for (int i = 0; i < 500; i++) {
+                scratchVectors.append(vector, i);
+            }
+        }
+        System.out.println("Scratch reset leaves other regions intact: "
+            + (tableStore.get(table, 7) == 700 && scratch.used() < scratch.getSize()
+                && arena.used() == 24 * 1024 ? "PASS" : "FAIL"));
+        
+        scratch.reset();
+        MemoryRegion batch = scratch.createSubRegion(1024, "Batch");
+        int inBatch = batch.alloc(100);
+        int afterBatch = scratch.alloc(16);
+        arena.putInt(inBatch, 42);
+        System.out.println("Nested regions carve the parent: "
+            + (batch.getOwner() == arena && inBatch == scratch.getStartAddr() && batch.contains(inBatch)
+                && arena.getInt(inBatch) == 42 && afterBatch == scratch.getStartAddr() + 1024
+                && scratch.toRegionAddr(afterBatch) == 1024 ? "PASS" : "FAIL"));
+        MemoryRegion inner = batch.createSubRegion(64, "Inner");
+        int inInner = inner.alloc(8);
+        System.out.println("Nested addresses resolve in owner coordinates: "
+            + (inInner == inBatch + 100 && arena.findRegion(inInner) == scratch && scratch.findSubRegion(inInner) == inner
+                && scratch.findSubRegion(inBatch) == batch && scratch.findSubRegion(afterBatch) == null ? "PASS" : "FAIL"));
+        batch.reset();
+        System.out.println("Nested reset is local: "
+            + (batch.used() == 0 && batch.getSubRegions().isEmpty() && scratch.used() == 1040 ? "PASS" : "FAIL"));
+        
+        boolean regionFull = false;
+        try {
+            scratch.alloc(8 * 1024);
+        } catch (OutOfMemoryException e) {
+            regionFull = true;
+        }
+        System.out.println("Region enforces its own capacity: " + (regionFull ? "PASS" : "FAIL"));
+        
+        MemoryArena shared = new MemoryArena(4096);
+        MemoryRegion fixed = shared.createRegion(0, 256, "Fixed");
+        MemoryRegion high = shared.createRegion(1024, 512, "High");
+        int inFixed = fixed.alloc(16);
+        boolean ownerOutside = inFixed == 0;
+        for (int i = 0; i < 40; i++) {
+            int addr = shared.alloc(16);
+            ownerOutside &= shared.findRegion(addr) == null && shared.findRegion(addr + 15) == null;
+        }
+        ownerOutside &= shared.alloc(600) >= high.getEndAddr();
+        MemoryArena carved = new MemoryArena(1024);
+        int freed = carved.alloc(300);
+        carved.alloc(16);
+        carved.free(freed, 300);
+        MemoryRegion reserved = carved.createRegion(100, 100, "Reserved");
+        int below = carved.alloc(100);
+        int above = carved.alloc(100);
+        boolean regionFreeRejected = false;
+        try {
+            shared.free(high.getStartAddr() - 8, 16);
+        } catch (IllegalArgumentException e) {
+            regionFreeRejected = true;
+        }
+        ownerOutside &= regionFreeRejected;
+        System.out.println("Owner allocations never land inside a region: "
+            + (ownerOutside && !reserved.containsRange(below, 1) && !reserved.containsRange(above, 1)
+                && below + above == 200 && Math.abs(below - above) == 200 && carved.freeBytes() == 0 ? "PASS" : "FAIL"));
+        
+        boolean unbacked = false;
+        try {
+            new MemoryRegion(0, 16, "Detached").alloc(4);
+        } catch (IllegalStateException e) {
+            unbacked = true;
+        }
+        System.out.println("Detached region cannot allocate: " + (unbacked ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testRegionIndex() {
+        System.out.println("Test 35: Region Index");
+        int regionCount = 50_000;
+        MemoryArena arena = new MemoryArena(regionCount * 64);
+        for (int i = 0; i < regionCount; i++) {
+            arena.createRegionAtOffset(64, "tenant-" + i);
+        }
+        boolean lookups = true;
+        for (int i = 0; i < regionCount; i += 997) {
+            MemoryRegion region = arena.findRegion(i * 64 + 63);
+            lookups &= region != null && region.getName().equals("tenant-" + i)
+                && arena.validateAddressInRegion(i * 64, "tenant-" + i)
+                && arena.findRegionForRange(i * 64 + 8, 56) == region
+                && arena.findRegionForRange(i * 64 + 8, 57) == null;
+        }
+        System.out.println("Lookups across " + regionCount + " regions: " + (lookups ? "PASS" : "FAIL"));
+        System.out.println("Lookup by name: "
+            + (arena.getRegion("tenant-12345").getStartAddr() == 12345 * 64 && arena.getRegion("missing") == null
+                && arena.regionCount() == regionCount ? "PASS" : "FAIL"));
+        
+        MemoryArena sparse = new MemoryArena(4096);
+        sparse.createRegion(100, 50, "A");
+        sparse.createRegion(300, 50, "B");
+        sparse.createRegion(200, 0, "Empty");
+        boolean belowRejected = false;
+        try {
+            sparse.createRegion(60, 41, "OverlapA");
+        } catch (RuntimeException e) {
+            belowRejected = true;
+        }
+        boolean insideRejected = false;
+        try {
+            sparse.createRegion(120, 5, "InsideA");
+        } catch (RuntimeException e) {
+            insideRejected = true;
+        }
+        sparse.createRegion(150, 150, "Gap");
+        System.out.println("Overlap checks use neighbours: "
+            + (belowRejected && insideRejected && sparse.findRegion(99) == null && sparse.findRegion(200).getName().equals("Gap")
+                && sparse.findRegion(349).getName().equals("B") && sparse.findRegion(350) == null ? "PASS" : "FAIL"));
+        
+        MemoryArena claimed = new MemoryArena(256);
+        MemoryRegion claimedRegion = claimed.createRegion(16, 16, "Claimed");
+        MemoryRegion bump = claimed.createRegionAtOffset(32, "Bump");
+        int beforeClaimed = claimed.alloc(16);
+        System.out.println("Bump regions respect claimed ranges: "
+            + (bump.getStartAddr() == 32 && !bump.overlaps(claimedRegion) && beforeClaimed == 0
+                && claimed.used() == 64 ? "PASS" : "FAIL"));
+        
+        MemoryArena shared = MemoryArena.concurrent(256 * 1024, 1024);
+        java.util.concurrent.atomic.AtomicInteger misses = new java.util.concurrent.atomic.AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    MemoryRegion region = shared.createRegionAtOffset(64, "worker-" + id + "-" + i);
+                    if (shared.findRegion(region.getStartAddr() + 63) != region
+                        || shared.getRegion(region.getName()) != region) {
+                        misses.incrementAndGet();
+                    }
+                    shared.getAllRegions();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("Concurrent region lookups: "
+            + (misses.get() == 0 && shared.regionCount() == 2000 ? "PASS" : "FAIL"));
+        
+        arena.clearRegions();
+        System.out.println("clearRegions empties the index: "
+            + (arena.findRegion(64) == null && arena.getRegion("tenant-1") == null ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testGrowableArena() {
+        System.out.println("Test 36: Growable Chunked Arena");
+        MemoryArena arena = MemoryArena.growable(1024);
+        ChunkedBackingStore chunks = (ChunkedBackingStore) arena.backingStore();
+        int first = arena.alloc(1000);
+        int second = arena.alloc(100);
+        int large = arena.alloc(10_000);
+        System.out.println("Blocks never straddle chunks: "
+            + (first == 0 && second == 1024 && large == 15 * 1024
+                && chunks.chunkIndex(large) == chunks.chunkIndex(large + 9_999) ? "PASS" : "FAIL"));
+        System.out.println("Only touched chunks are committed: "
+            + (chunks.chunkCount() == 3 && chunks.committedBytes() == 1024 + 2048 + 16 * 1024 ? "PASS" : "FAIL"));
+        arena.putLong(large + 9_992, Long.MAX_VALUE);
+        arena.putInt(second + 96, 77);
+        System.out.println("Addresses decode to chunk offsets: "
+            + (arena.getLong(large + 9_992) == Long.MAX_VALUE && arena.getInt(second + 96) == 77 ? "PASS" : "FAIL"));
+        java.lang.foreign.MemorySegment inChunk = chunks.asSegment(large + 9_992, 8);
+        boolean spanRejected = false;
+        try {
+            chunks.asSegment(second, 2049);
+        } catch (IllegalStateException e) {
+            spanRejected = true;
+        }
+        boolean wholeRejected = false;
+        try {
+            chunks.asSegment();
+        } catch (IllegalStateException e) {
+            wholeRejected = true;
+        }
+        System.out.println("Single-chunk ranges expose a segment: "
+            + (inChunk.byteSize() == 8 && inChunk.get(java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED.withOrder(arena.order()), 0) == Long.MAX_VALUE
+                && spanRejected && wholeRejected ? "PASS" : "FAIL"));
+        
+        VectorStore vectorStore = new VectorStore(arena);
+        int vector = vectorStore.createVector(4);
+        for (int i = 0; i < 200_000; i++) {
+            vectorStore.append(vector, i);
+        }
+        int odd = vectorStore.createVector(4);
+        int oddCount = vectorStore.filterInto(vector, Comparison.GT, 99_999, odd);
+        System.out.println("Vectors grow across chunks: "
+            + (vectorStore.sum(vector) == 199_999L * 200_000 / 2 && vectorStore.get(vector, 150_000) == 150_000
+                && oddCount == 100_000 && vectorStore.get(odd, 0) == 100_000 ? "PASS" : "FAIL"));
+        
+        HashTableStore tableStore = new HashTableStore(arena);
+        StringStore stringStore = new StringStore(arena);
+        int table = tableStore.createHashTable(16);
+        for (int i = 0; i < 20_000; i++) {
+            tableStore.put(table, i, i * 3);
+        }
+        int hello = stringStore.createString("hello chunked world");
+        int interned = stringStore.intern("hello chunked world");
+        System.out.println("Hash tables and strings work unchanged: "
+            + (tableStore.get(table, 19_999) == 59_997 && tableStore.getSize(table) == 20_000
+                && stringStore.contentEquals(hello, interned) && stringStore.getString(hello).equals("hello chunked world") ? "PASS" : "FAIL"));
+        
+        MemoryArena split = MemoryArena.growable(1024);
+        int freeA = split.alloc(1024);
+        int freeB = split.alloc(2048);
+        split.alloc(16);
+        split.free(freeA, 1024);
+        split.free(freeB, 2048);
+        int bumped = split.alloc(3000);
+        System.out.println("Free blocks only merge within a chunk: "
+            + (bumped != freeA && split.freeBytes() == 3072 && split.alloc(2048) == freeB ? "PASS" : "FAIL"));
+        
+        ChunkPool pool = new ChunkPool(1 << 20);
+        MemoryArena pooled = MemoryArena.growable(4096, 1 << 20, ByteOrder.BIG_ENDIAN, pool);
+        pooled.alloc(4000);
+        pooled.alloc(8000);
+        pooled.close();
+        long pooledAfterClose = pool.pooledBytes();
+        MemoryArena reusedArena = MemoryArena.growable(4096, 1 << 20, ByteOrder.BIG_ENDIAN, pool);
+        int zeroed = reusedArena.alloc(4000);
+        System.out.println("Chunk pool recycles chunks: "
+            + (pooledAfterClose == 4096 + 8192 && pool.hits() == 1 && reusedArena.getInt(zeroed) == 0 ? "PASS" : "FAIL"));
+        
+        boolean limited = false;
+        try {
+            MemoryArena.growable(1024, 8 * 1024, ByteOrder.BIG_ENDIAN, null).alloc(8 * 1024);
+        } catch (OutOfMemoryException e) {
+            limited = true;
+        }
+        System.out.println("Maximum size still enforced: " + (limited ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testArenaPool() {
+        System.out.println("Test 37: Arena Pool");
+        ArenaPool pool = new ArenaPool(4096);
+        MemoryArena first = pool.lease();
+        int block = first.alloc(64);
+        first.putLong(block, 0x1234L);
+        pool.release(first);
+        MemoryArena second = pool.lease();
+        System.out.println("Released arena is reused, reset and zeroed: "
+            + (second == first && second.used() == 0 && second.alloc(64) == block && second.getLong(block) == 0 ? "PASS" : "FAIL"));
+        pool.release(second);
+        
+        ArenaPool dirtyPool = new ArenaPool(4096, ByteOrder.BIG_ENDIAN, 8, 0, false);
+        MemoryArena dirty = dirtyPool.lease();
+        dirty.putInt(dirty.alloc(4), 99);
+        dirtyPool.release(dirty);
+        MemoryArena again = dirtyPool.lease();
+        System.out.println("Zeroing can be skipped: "
+            + (again == dirty && again.getInt(again.alloc(4)) == 99 && dirtyPool.getStats().getGlobalHits() == 1 ? "PASS" : "FAIL"));
+        
+        ArenaPool shared = new ArenaPool(1024, ByteOrder.BIG_ENDIAN, 16, 2, true);
+        int threadCount = 8;
+        int leasesPerThread = 5_000;
+        boolean[] clean = new boolean[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int threadIndex = t;
+            threads[t] = new Thread(() -> {
+                boolean ok = true;
+                for (int i = 0; i < leasesPerThread; i++) {
+                    MemoryArena a = shared.lease();
+                    MemoryArena b = i % 3 == 0 ? shared.lease() : null;
+                    int addr = a.alloc(16);
+                    ok &= a.getLong(addr) == 0;
+                    a.putLong(addr, threadIndex);
+                    if (b != null) {
+                        shared.release(b);
+                    }
+                    shared.release(a);
+                }
+                clean[threadIndex] = ok;
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        ArenaPoolStats stats = shared.getStats();
+        System.out.print(stats);
+        boolean allClean = true;
+        for (boolean ok : clean) {
+            allClean &= ok;
+        }
+        long expectedLeases = (long) threadCount * (leasesPerThread + (leasesPerThread + 2) / 3);
+        System.out.println("Concurrent leases stay isolated: "
+            + (allClean && stats.getLeaseCount() == expectedLeases && stats.getReleaseCount() == expectedLeases
+                && stats.getOutstanding() == 0 && stats.getMisses() <= 2L * threadCount ? "PASS" : "FAIL"));
+        System.out.println("High-water marks tracked: "
+            + (stats.getPeakOutstanding() >= 2 && stats.getPeakOutstanding() <= 2L * threadCount
+                && stats.getPeakArenaUsage() == 16 && stats.getHitRate() > 0.99 ? "PASS" : "FAIL"));
+        
+        ArenaPool bounded = new ArenaPool(256, ByteOrder.BIG_ENDIAN, 2, 0, true);
+        MemoryArena[] leased = new MemoryArena[4];
+        for (int i = 0; i < leased.length; i++) {
+            leased[i] = bounded.lease();
+        }
+        for (MemoryArena a : leased) {
+            bounded.release(a);
+        }
+        bounded.prewarm(4);
+        System.out.println("Pool size is bounded: "
+            + (bounded.pooledCount() == 2 && bounded.getStats().getDiscardedCount() == 2
+                && bounded.getStats().getPeakPooled() == 2 ? "PASS" : "FAIL"));
+        
+        boolean foreignRejected = false;
+        try {
+            bounded.release(new MemoryArena(512));
+        } catch (IllegalArgumentException e) {
+            foreignRejected = true;
+        }
+        System.out.println("Mismatched arena rejected: " + (foreignRejected ? "PASS" : "FAIL"));
+        
+        MemoryArena reused = bounded.lease();
+        bounded.release(reused);
+        boolean doubleRejected = false;
+        try {
+            bounded.release(reused);
+        } catch (IllegalStateException e) {
+            doubleRejected = true;
+        }
+        boolean unleasedRejected = false;
+        try {
+            bounded.release(new MemoryArena(256));
+        } catch (IllegalStateException e) {
+            unleasedRejected = true;
+        }
+        System.out.println("Double and unleased releases rejected: "
+            + (doubleRejected && unleasedRejected && bounded.outstandingCount() == 0
+                && bounded.lease() != bounded.lease() ? "PASS" : "FAIL"));
+        
+        ArenaPool tailPool = new ArenaPool(1024);
+        MemoryArena tail = tailPool.lease();
+        int freedTail = tail.alloc(64);
+        tail.putLong(freedTail, 0xDEADBEEFL);
+        tail.free(freedTail, 64);
+        tailPool.release(tail);
+        MemoryArena afterTail = tailPool.lease();
+        System.out.println("Freed tail bytes are zeroed on release: "
+            + (afterTail == tail && afterTail.getLong(afterTail.alloc(8)) == 0 && afterTail.highWaterMark() == 8
+                && tailPool.getStats().getPeakArenaUsage() == 64 ? "PASS" : "FAIL"));
+        tailPool.release(afterTail);
+        
+        ArenaPool cachedPool = new ArenaPool(256, ByteOrder.BIG_ENDIAN, 8, 4, true);
+        Thread worker = new Thread(() -> {
+            MemoryArena x = cachedPool.lease();
+            MemoryArena y = cachedPool.lease();
+            cachedPool.release(x);
+            cachedPool.release(y);
+        });
+        worker.start();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        int cachedByWorker = cachedPool.pooledCount();
+        cachedPool.clear();
+        System.out.println("clear drains other threads' caches: "
+            + (cachedByWorker == 2 && cachedPool.pooledCount() == 0 ? "PASS" : "FAIL"));
+        System.out.println();
+    }
+
+    static void testEpochArenas() {
+        System.out.println("Test 38: Epoch Arenas");
+        ArenaPool pool = new ArenaPool(8192);
+        EpochArenaManager epochs = new EpochArenaManager(pool);
+        long first = epochs.currentEpoch();
+        MemoryArena firstArena = epochs.currentArena();
+        VectorStore vectors = new VectorStore(firstArena);
+        StringStore strings = new StringStore(firstArena);
+        HashTableStore tables = new HashTableStore(firstArena);
+        int vector = vectors.createVector(4);
+        for (int i = 0; i < 10; i++) {
+            vectors.append(vector, i * 3);
+        }
+        int string = strings.createString("survivor");
+        int table = tables.createHashTable(4);
+        for (int i = 0; i < 20; i++) {
+            tables.put(table, i, i * i);
+        }
+        
+        EpochPin reader = epochs.pin();
+        long second = epochs.advance();
+        System.out.println("Pinned epoch survives advance: "
+            + (second == first + 1 && epochs.isLive(first) && epochs.pinCount(first) == 1
+                && epochs.currentArena() != firstArena && reader.arena() == firstArena ? "PASS" : "FAIL"));
+        
+        int promotedVector = epochs.promoteVector(first, vector);
+        int promotedString = epochs.promoteString(first, string);
+        int promotedTable = epochs.promoteHashTable(first, table);
+        System.out.println("Promotion does not leave pins behind: "
+            + (epochs.pinCount(first) == 1 && epochs.promotedCount() == 3 ? "PASS" : "FAIL"));
+        
+        reader.close();
+        reader.close();
+        System.out.println("Unpinned epoch is reclaimed: "
+            + (!epochs.isLive(first) && epochs.liveEpochCount() == 1 && epochs.reclaimedEpochCount() == 1
+                && pool.outstandingCount() == 1 ? "PASS" : "FAIL"));
+        
+        VectorStore oldVectors = new VectorStore(epochs.oldGeneration());
+        boolean vectorOk = oldVectors.getLength(promotedVector) == 10;
+        for (int i = 0; i < 10; i++) {
+            vectorOk &= oldVectors.get(promotedVector, i) == i * 3;
+        }
+        HashTableStore oldTables = new HashTableStore(epochs.oldGeneration());
+        boolean tableOk = oldTables.getSize(promotedTable) == 20;
+        for (int i = 0; i < 20; i++) {
+            Integer value = oldTables.get(promotedTable, i);
+            tableOk &= value != null && value == i * i;
+        }
+        System.out.println("Promoted structures outlive their epoch: "
+            + (vectorOk && tableOk
+                && new StringStore(epochs.oldGeneration()).getString(promotedString).equals("survivor") ? "PASS" : "FAIL"));
+        
+        VectorStore secondVectors = new VectorStore(epochs.currentArena());
+        int shared = secondVectors.createVector(4);
+        for (int i = 0; i < 16; i++) {
+            secondVectors.append(shared, i);
+        }
+        int[][] copies = new int[4][200];
+        Thread[] promoters = new Thread[copies.length];
+        for (int t = 0; t < promoters.length; t++) {
+            int[] slots = copies[t];
+            promoters[t] = new Thread(() -> {
+                for (int i = 0; i < slots.length; i++) {
+                    slots[i] = epochs.promoteVector(second, shared);
+                }
+            });
+            promoters[t].start();
+        }
+        for (Thread promoter : promoters) {
+            try {
+                promoter.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        java.util.Set<Integer> distinct = new java.util.HashSet<>();
+        boolean copiesOk = true;
+        for (int[] slots : copies) {
+            for (int copy : slots) {
+                distinct.add(copy);
+                copiesOk &= oldVectors.getLength(copy) == 16 && oldVectors.sum(copy) == 120;
+            }
+        }
+        System.out.println("Concurrent promotion into the old generation: "
+            + (copiesOk && distinct.size() == 800 ? "PASS" : "FAIL"));
+        
+        boolean reclaimedRejected = false;
+        try {
+            epochs.pin(first);
+        } catch (IllegalStateException e) {
+            reclaimedRejected = true;
+        }
+        System.out.println("Reclaimed epoch cannot be pinned: " + (reclaimedRejected ? "PASS" : "FAIL"));
+        
+        EpochPin holder = epochs.pin();
+        boolean pinnedCloseRejected = false;
+        try {
+            epochs.close();
+        } catch (IllegalStateException e) {
+            pinnedCloseRejected = true;
+        }
+        boolean stillOpen = epochs.pinCount(second) == 1 && epochs.isLive(second);
+        try (EpochPin again = epochs.pin()) {
+            stillOpen &= again.epoch() == second;
+        }
+        holder.close();
+        epochs.close();
+        boolean pinAfterClose = false;
+        try {
+            epochs.pin();
+        } catch (IllegalStateException e) {
+            pinAfterClose = true;
+        }
+        boolean pinEpochAfterClose = false;
+        try {
+            epochs.pin(second);
+        } catch (IllegalStateException e) {
+            pinEpochAfterClose = true;
+        }
+        System.out.println("Close respects pins and blocks new ones: "
+            + (pinnedCloseRejected && stillOpen && pinAfterClose && pinEpochAfterClose
+                && pool.outstandingCount() == 0 ? "PASS" : "FAIL"));
+        
+        ArenaPool retainedPool = new ArenaPool(1024);
+        MemoryArena old = new MemoryArena(4096);
+        EpochArenaManager retained = new EpochArenaManager(retainedPool, old, 2);
+        for (int i = 0; i < 5; i++) {
+            retained.advance();
+        }
+        System.out.println("Retained epochs are kept: "
+            + (retained.currentEpoch() == 5 && retained.liveEpochCount() == 3 && retained.isLive(3)
+                && !retained.isLive(2) && retainedPool.outstandingCount() == 3 ? "PASS" : "FAIL"));
+        retained.close();
+        System.out.println("Closing releases every epoch: "
+            + (retainedPool.outstandingCount() == 0 && old.alloc(8) >= 0 ? "PASS" : "FAIL"));
+        old.close();
+        System.out.println();
+    }
+}
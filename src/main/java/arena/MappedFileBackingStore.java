@@ -0,0 +1,54 @@
+package arena;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedFileBackingStore extends SegmentBackingStore {
+    private final Path path;
+
+    private MappedFileBackingStore(Path path, Arena scope, MemorySegment segment, ByteOrder order) {
+        super(scope, segment, order);
+        this.path = path;
+    }
+
+    public static MappedFileBackingStore open(Path path, long size, ByteOrder order) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        Arena scope = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, scope);
+            return new MappedFileBackingStore(path, scope, segment, order);
+        } catch (IOException e) {
+            scope.close();
+            throw new UncheckedIOException("Could not map " + path, e);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public void force() {
+        segment().force();
+    }
+
+    @Override
+    public void close() {
+        force();
+        super.close();
+    }
+}
@@ -0,0 +1,1297 @@
+package arena;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MemoryArena implements AutoCloseable {
+    private static final int NULL_BLOCK = -1;
+    private static final int MIN_FREE_BLOCK = 4;
+    private static final int SMALL_BLOCK_LIMIT = 256;
+    private static final int LARGE_SIZE_OFFSET = 0;
+    private static final int LARGE_NEXT_OFFSET = 4;
+    private static final int TLAB_ALIGNMENT = 8;
+    private static final int SNAPSHOT_MAGIC = 0x4152454E;
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int SNAPSHOT_REGION_USED_VERSION = 2;
+    private static final int SNAPSHOT_HEADER_SIZE = 8192;
+    private static final int SNAPSHOT_ORDER_OFFSET = 8;
+    private static final int SNAPSHOT_CAPACITY_OFFSET = 12;
+    private static final int SNAPSHOT_OFFSET_OFFSET = 16;
+    private static final int SNAPSHOT_WASTE_OFFSET = 20;
+    private static final int SNAPSHOT_FREE_BYTES_OFFSET = 24;
+    private static final int SNAPSHOT_LARGE_HEAD_OFFSET = 28;
+    private static final int SNAPSHOT_SMALL_HEADS_OFFSET = 32;
+    private static final int SNAPSHOT_REGION_COUNT_OFFSET = SNAPSHOT_SMALL_HEADS_OFFSET + (SMALL_BLOCK_LIMIT + 1) * 4;
+    private static final int SNAPSHOT_ROOT_COUNT_OFFSET = SNAPSHOT_REGION_COUNT_OFFSET + 4;
+    private static final int SNAPSHOT_ENTRIES_OFFSET = SNAPSHOT_ROOT_COUNT_OFFSET + 4;
+    private static final VarHandle OFFSET;
+
+    static {
+        try {
+            OFFSET = MethodHandles.lookup().findVarHandle(MemoryArena.class, "offset", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final BackingStore store;
+    private final long base;
+    private final int capacity;
+    private final ChunkedBackingStore chunks;
+    private final AccessMode accessMode;
+    private final boolean checked;
+    private final boolean windowed;
+    private MemorySegment segmentView;
+    private int offset = 0;
+    private int highWater = 0;
+    private int alignmentWaste = 0;
+    private final List<MemoryRegion> regions = new ArrayList<>();
+    private final ConcurrentSkipListMap<Integer, MemoryRegion> regionIndex = new ConcurrentSkipListMap<>();
+    private final Map<String, MemoryRegion> regionsByName = new ConcurrentHashMap<>();
+    private final int[] smallFreeHeads = new int[SMALL_BLOCK_LIMIT + 1];
+    private int largeFreeHead = NULL_BLOCK;
+    private int freeBytes = 0;
+    private final int tlabSize;
+    private final ThreadLocal<Tlab> tlabs;
+    private final List<Tlab> activeTlabs;
+    private final AtomicInteger retiredTlabBytes;
+    private final AtomicInteger sharedAlignmentWaste;
+    private volatile int generation = 0;
+    private AllocationStats stats;
+    private final Map<String, Integer> roots = new LinkedHashMap<>();
+    private boolean persistent = false;
+    private boolean ownsStore = true;
+
+    public MemoryArena(int size) {
+        this(size, ByteOrder.BIG_ENDIAN);
+    }
+
+    public MemoryArena(int size, ByteOrder order) {
+        this(new HeapBackingStore(size, order));
+    }
+
+    public MemoryArena(int size, ByteOrder order, AccessMode accessMode) {
+        this(new HeapBackingStore(size, order), accessMode);
+    }
+
+    public MemoryArena(BackingStore store) {
+        this(store, AccessMode.defaultMode());
+    }
+
+    public MemoryArena(BackingStore store, AccessMode accessMode) {
+        this(store, 0, store == null ? 0 : (int) Math.min(store.size(), Integer.MAX_VALUE), accessMode);
+    }
+
+    public MemoryArena(BackingStore store, long base, int size) {
+        this(store, base, size, AccessMode.defaultMode());
+    }
+
+    public MemoryArena(BackingStore store, long base, int size, AccessMode accessMode) {
+        this(store, base, size, 0, accessMode);
+    }
+
+    private MemoryArena(BackingStore store, long base, int size, int tlabSize, AccessMode accessMode) {
+        if (store == null) {
+            throw new IllegalArgumentException("Backing store cannot be null");
+        }
+        if (accessMode == null) {
+            throw new IllegalArgumentException("Access mode cannot be null");
+        }
+        if (base < 0 || size < 0 || base + size > store.size()) {
+            throw new IllegalArgumentException(
+                "Arena window [" + base + ", " + (base + size) + ") exceeds backing store of " + store.size() + " bytes"
+            );
+        }
+        if (tlabSize > 0 && store instanceof ChunkedBackingStore) {
+            throw new IllegalArgumentException("Concurrent arenas cannot use a chunked backing store");
+        }
+        this.store = store;
+        this.base = base;
+        this.capacity = size;
+        this.chunks = store instanceof ChunkedBackingStore chunked ? chunked : null;
+        this.tlabSize = tlabSize;
+        this.accessMode = accessMode;
+        this.checked = accessMode == AccessMode.CHECKED;
+        this.windowed = base > 0 || size < store.size();
+        Arrays.fill(smallFreeHeads, NULL_BLOCK);
+        if (tlabSize > 0) {
+            tlabs = new ThreadLocal<>();
+            activeTlabs = new CopyOnWriteArrayList<>();
+            retiredTlabBytes = new AtomicInteger();
+            sharedAlignmentWaste = new AtomicInteger();
+        } else {
+            tlabs = null;
+            activeTlabs = null;
+            retiredTlabBytes = null;
+            sharedAlignmentWaste = null;
+        }
+    }
+
+    public static MemoryArena growable(int firstChunkSize) {
+        return growable(firstChunkSize, Integer.MAX_VALUE, ByteOrder.BIG_ENDIAN, null);
+    }
+
+    public static MemoryArena growable(int firstChunkSize, int maxSize, ByteOrder order, ChunkPool pool) {
+        return new MemoryArena(new ChunkedBackingStore(firstChunkSize, maxSize, order, pool));
+    }
+
+    public boolean isGrowable() {
+        return chunks != null;
+    }
+
+    public static MemoryArena concurrent(int size, int tlabSize) {
+        return concurrent(new HeapBackingStore(size, ByteOrder.BIG_ENDIAN), tlabSize);
+    }
+
+    public static MemoryArena concurrent(BackingStore store, int tlabSize) {
+        if (tlabSize < TLAB_ALIGNMENT) {
+            throw new IllegalArgumentException("TLAB size must be at least " + TLAB_ALIGNMENT + " bytes");
+        }
+        return new MemoryArena(store, 0, (int) Math.min(store.size(), Integer.MAX_VALUE), tlabSize, AccessMode.defaultMode());
+    }
+
+    public AccessMode accessMode() {
+        return accessMode;
+    }
+
+    public boolean isChecked() {
+        return checked;
+    }
+
+    public boolean isConcurrent() {
+        return tlabSize > 0;
+    }
+
+    public int align(int addr, int alignment) {
+        if (alignment <= 0) {
+            return addr;
+        }
+        int remainder = addr % alignment;
+        if (remainder == 0) {
+            return addr;
+        }
+        return addr + (alignment - remainder);
+    }
+
+    public int alloc(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (tlabSize > 0) {
+            return allocConcurrent(size, 1);
+        }
+        if (freeBytes > 0 && size > 0) {
+            int reused = allocFromFreeList(size);
+            if (reused != NULL_BLOCK) {
+                if (stats != null) {
+                    stats.recordAlloc(size);
+                }
+                return reused;
+            }
+        }
+        int start = placeInChunk(offset, size);
+        if (size > capacity - start) {
+            throw outOfMemory(size, remaining(), offset);
+        }
+        commitChunk(start, size);
+        alignmentWaste += start - offset;
+        offset = start + size;
+        if (stats != null) {
+            stats.recordAlloc(size);
+            stats.recordPeak(offset);
+        }
+        return start;
+    }
+
+    public int allocAligned(int size, int alignment) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (tlabSize > 0) {
+            return allocConcurrent(size, alignment);
+        }
+        int alignedOffset = align(offset, alignment);
+        if (chunks != null) {
+            alignedOffset = align(placeInChunk(alignedOffset, size), alignment);
+        }
+        int waste = alignedOffset - offset;
+        
+        if (size > capacity - alignedOffset) {
+            throw outOfMemory(size, remaining(), offset);
+        }
+        
+        commitChunk(alignedOffset, size);
+        alignmentWaste += waste;
+        offset = alignedOffset + size;
+        if (stats != null) {
+            stats.recordAlloc(size);
+            stats.recordPeak(offset);
+        }
+        return alignedOffset;
+    }
+
+    public boolean tryExtend(int addr, int oldSize, int newSize) {
+        if (oldSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        if (newSize < oldSize) {
+            throw new IllegalArgumentException("New size " + newSize + " is smaller than the block size " + oldSize);
+        }
+        checkAddr(addr, oldSize);
+        if (tlabSize > 0 || addr + oldSize != offset) {
+            return false;
+        }
+        int growth = newSize - oldSize;
+        if (growth > capacity - offset || placeInChunk(addr, newSize) != addr) {
+            return false;
+        }
+        offset += growth;
+        if (stats != null) {
+            stats.recordAlloc(growth);
+            stats.recordPeak(offset);
+        }
+        return true;
+    }
+
+    public void free(int addr, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        checkAddr(addr, size);
+        checkNotInRegion(addr, size);
+        if (stats != null) {
+            stats.recordFree(size);
+        }
+        if (tlabSize > 0) {
+            return;
+        }
+        releaseBlock(addr, size);
+    }
+
+    public void reset() {
+        highWater = highWaterMark();
+        offset = 0;
+        alignmentWaste = 0;
+        clearRegions();
+        roots.clear();
+        Arrays.fill(smallFreeHeads, NULL_BLOCK);
+        largeFreeHead = NULL_BLOCK;
+        freeBytes = 0;
+        if (tlabSize > 0) {
+            activeTlabs.clear();
+            retiredTlabBytes.set(0);
+            sharedAlignmentWaste.set(0);
+            generation++;
+        }
+        if (stats != null) {
+            stats.recordReset();
+        }
+    }
+
+    public int freeBytes() {
+        return freeBytes;
+    }
+
+    private int allocConcurrent(int size, int alignment) {
+        Tlab tlab = tlabs.get();
+        int currentGeneration = generation;
+        if (tlab == null || tlab.generation != currentGeneration) {
+            tlab = new Tlab(currentGeneration);
+            tlabs.set(tlab);
+            activeTlabs.add(tlab);
+        }
+        
+        int start = align(tlab.top, alignment);
+        if (size <= tlab.end - start) {
+            tlab.alignmentWaste += start - tlab.top;
+            tlab.top = start + size;
+            if (stats != null) {
+                stats.recordAlloc(size);
+            }
+            return start;
+        }
+        if (size > tlabSize / 2) {
+            return allocShared(size, alignment);
+        }
+        
+        refillTlab(tlab);
+        start = align(tlab.top, alignment);
+        if (size > tlab.end - start) {
+            throw outOfMemory(size, tlab.end - tlab.top, offset);
+        }
+        tlab.alignmentWaste += start - tlab.top;
+        tlab.top = start + size;
+        if (stats != null) {
+            stats.recordAlloc(size);
+        }
+        return start;
+    }
+
+    private void refillTlab(Tlab tlab) {
+        while (true) {
+            int current = (int) OFFSET.getVolatile(this);
+            int start = align(current, TLAB_ALIGNMENT);
+            if (start >= capacity) {
+                throw outOfMemory(tlabSize, capacity - current, current);
+            }
+            int end = (int) Math.min((long) start + tlabSize, capacity);
+            if (OFFSET.compareAndSet(this, current, end)) {
+                retiredTlabBytes.addAndGet((tlab.end - tlab.top) + (start - current));
+                tlab.top = start;
+                tlab.end = end;
+                if (stats != null) {
+                    stats.recordPeak(end);
+                }
+                return;
+            }
+        }
+    }
+
+    private int allocShared(int size, int alignment) {
+        while (true) {
+            int current = (int) OFFSET.getVolatile(this);
+            int start = align(current, alignment);
+            if ((long) start + size > capacity) {
+                throw outOfMemory(size, capacity - current, current);
+            }
+            if (OFFSET.compareAndSet(this, current, start + size)) {
+                sharedAlignmentWaste.addAndGet(start - current);
+                if (stats != null) {
+                    stats.recordAlloc(size);
+                    stats.recordPeak(start + size);
+                }
+                return start;
+            }
+        }
+    }
+
+    private int unusedTlabBytes() {
+        int unused = 0;
+        for (Tlab tlab : activeTlabs) {
+            unused += tlab.end - tlab.top;
+        }
+        return unused;
+    }
+
+    private int allocFromFreeList(int size) {
+        if (size >= MIN_FREE_BLOCK && size <= SMALL_BLOCK_LIMIT) {
+            int head = smallFreeHeads[size];
+            if (head != NULL_BLOCK) {
+                smallFreeHeads[size] = readLink(head);
+                freeBytes -= size;
+                return head;
+            }
+        }
+        return allocFromLargeList(size);
+    }
+
+    private int allocFromLargeList(int size) {
+        int prev = NULL_BLOCK;
+        int current = largeFreeHead;
+        while (current != NULL_BLOCK) {
+            int blockSize = readLink(current + LARGE_SIZE_OFFSET);
+            int next = readLink(current + LARGE_NEXT_OFFSET);
+            if (blockSize >= size) {
+                setLargeNext(prev, next);
+                freeBytes -= blockSize;
+                if (blockSize > size) {
+                    releaseBlock(current + size, blockSize - size);
+                }
+                return current;
+            }
+            prev = current;
+            current = next;
+        }
+        return NULL_BLOCK;
+    }
+
+    private void releaseBlock(int addr, int size) {
+        if (addr + size == offset) {
+            highWater = Math.max(highWater, offset);
+            offset = addr;
+            absorbTrailingLargeBlock();
+            return;
+        }
+        if (size < MIN_FREE_BLOCK) {
+            return;
+        }
+        if (size <= SMALL_BLOCK_LIMIT) {
+            writeLink(addr, smallFreeHeads[size]);
+            smallFreeHeads[size] = addr;
+            freeBytes += size;
+            return;
+        }
+        insertLargeBlock(addr, size);
+    }
+
+    private void insertLargeBlock(int addr, int size) {
+        int prev = NULL_BLOCK;
+        int current = largeFreeHead;
+        while (current != NULL_BLOCK && current < addr) {
+            prev = current;
+            current = readLink(current + LARGE_NEXT_OFFSET);
+        }
+        int prevSize = prev == NULL_BLOCK ? 0 : readLink(prev + LARGE_SIZE_OFFSET);
+        if ((current != NULL_BLOCK && addr + size > current) || (prev != NULL_BLOCK && prev + prevSize > addr)) {
+            throw new IllegalArgumentException(
+                "Block at " + addr + " (" + size + " bytes) overlaps a block that is already free"
+            );
+        }
+        freeBytes += size;
+        
+        int next = current;
+        if (current != NULL_BLOCK && addr + size == current && sameChunk(addr, current)) {
+            size += readLink(current + LARGE_SIZE_OFFSET);
+            next = readLink(current + LARGE_NEXT_OFFSET);
+        }
+        if (prev != NULL_BLOCK && prev + prevSize == addr && sameChunk(prev, addr)) {
+            writeLink(prev + LARGE_SIZE_OFFSET, prevSize + size);
+            writeLink(prev + LARGE_NEXT_OFFSET, next);
+        } else {
+            writeLink(addr + LARGE_SIZE_OFFSET, size);
+            writeLink(addr + LARGE_NEXT_OFFSET, next);
+            setLargeNext(prev, addr);
+        }
+    }
+
+    private void absorbTrailingLargeBlock() {
+        int prev = NULL_BLOCK;
+        int current = largeFreeHead;
+        while (current != NULL_BLOCK) {
+            int next = readLink(current + LARGE_NEXT_OFFSET);
+            if (next == NULL_BLOCK) {
+                int blockSize = readLink(current + LARGE_SIZE_OFFSET);
+                if (current + blockSize == offset) {
+                    setLargeNext(prev, NULL_BLOCK);
+                    freeBytes -= blockSize;
+                    offset = current;
+                }
+                return;
+            }
+            prev = current;
+            current = next;
+        }
+    }
+
+    private void setLargeNext(int prev, int next) {
+        if (prev == NULL_BLOCK) {
+            largeFreeHead = next;
+        } else {
+            writeLink(prev + LARGE_NEXT_OFFSET, next);
+        }
+    }
+
+    private int readLink(int addr) {
+        return store.getInt(base + addr);
+    }
+
+    private void writeLink(int addr, int value) {
+        store.putInt(base + addr, value);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int used() {
+        if (tlabSize > 0) {
+            return (int) OFFSET.getVolatile(this) - retiredTlabBytes.get() - unusedTlabBytes();
+        }
+        return offset;
+    }
+
+    public int remaining() {
+        return capacity - used();
+    }
+
+    public int allocatedBoundary() {
+        return offset;
+    }
+
+    public int highWaterMark() {
+        return Math.max(highWater, tlabSize > 0 ? (int) OFFSET.getVolatile(this) : offset);
+    }
+
+    void restoreBoundary(int boundary) {
+        highWater = highWaterMark();
+        offset = boundary;
+    }
+
+    void scrub() {
+        int dirty = highWaterMark();
+        if (dirty > 0) {
+            store.fill(base, dirty, (byte) 0);
+        }
+        highWater = 0;
+    }
+
+    public ByteOrder order() {
+        return store.order();
+    }
+
+    public BackingStore backingStore() {
+        return store;
+    }
+
+    MemorySegment segment() {
+        MemorySegment view = segmentView;
+        if (view == null) {
+            view = store.asSegment().asSlice(base, capacity);
+            segmentView = view;
+        }
+        return view;
+    }
+
+    MemorySegment slice(int addr, int length) {
+        checkAccess(addr, length);
+        return chunks != null ? store.asSegment(base + addr, length) : segment().asSlice(addr, length);
+    }
+
+    private int placeInChunk(int start, int size) {
+        if (chunks == null || size == 0) {
+            return start;
+        }
+        return (int) (chunks.place(base + start, size) - base);
+    }
+
+    private void commitChunk(int start, int size) {
+        if (chunks != null && size > 0) {
+            chunks.commit(base + start);
+        }
+    }
+
+    private boolean sameChunk(int a, int b) {
+        return chunks == null || chunks.sameChunk(base + a, base + b);
+    }
+
+    public long baseOffset() {
+        return base;
+    }
+
+    @Override
+    public void close() {
+        if (persistent) {
+            checkpoint();
+        }
+        if (ownsStore) {
+            store.close();
+        }
+    }
+
+    MemoryArena window(int addr, int size) {
+        MemoryArena window = new MemoryArena(store, base + addr, size, accessMode);
+        window.ownsStore = false;
+        return window;
+    }
+
+    public static MemoryArena openMapped(Path path, int size, ByteOrder order) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        ByteBuffer header = readSnapshotPrefix(path);
+        if (header != null) {
+            if (header.order() != order) {
+                throw new IllegalArgumentException("Snapshot " + path + " uses " + header.order() + ", not " + order);
+            }
+            int storedCapacity = header.getInt(SNAPSHOT_CAPACITY_OFFSET);
+            if (storedCapacity != size) {
+                throw new IllegalArgumentException(
+                    "Snapshot " + path + " has capacity " + storedCapacity + ", not " + size
+                );
+            }
+            return restoreMapped(path, header);
+        }
+        MappedFileBackingStore mapped = MappedFileBackingStore.open(path, (long) SNAPSHOT_HEADER_SIZE + size, order);
+        MemoryArena arena = new MemoryArena(mapped, SNAPSHOT_HEADER_SIZE, size);
+        arena.persistent = true;
+        arena.checkpoint();
+        return arena;
+    }
+
+    public static MemoryArena openMapped(Path path) {
+        ByteBuffer header = readSnapshotPrefix(path);
+        if (header == null) {
+            throw new MemoryException("No arena snapshot at " + path);
+        }
+        return restoreMapped(path, header);
+    }
+
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    public void checkpoint() {
+        if (!persistent) {
+            throw new IllegalStateException("Arena is not backed by a mapped file");
+        }
+        writeSnapshotHeader(store, base - SNAPSHOT_HEADER_SIZE);
+        ((MappedFileBackingStore) store).force();
+    }
+
+    public void snapshotTo(Path path) {
+        if (tlabSize > 0) {
+            throw new IllegalStateException("Concurrent arenas cannot be snapshotted");
+        }
+        if (chunks != null) {
+            throw new IllegalStateException("Growable arenas cannot be snapshotted");
+        }
+        try (MappedFileBackingStore target = MappedFileBackingStore.open(path, (long) SNAPSHOT_HEADER_SIZE + capacity, order())) {
+            byte[] chunk = new byte[Math.min(Math.max(offset, 1), 64 * 1024)];
+            for (int pos = 0; pos < offset; pos += chunk.length) {
+                int count = Math.min(chunk.length, offset - pos);
+                store.getBytes(base + pos, chunk, 0, count);
+                target.putBytes(SNAPSHOT_HEADER_SIZE + pos, chunk, 0, count);
+            }
+            writeSnapshotHeader(target, 0);
+        }
+    }
+
+    public void setRoot(String name, int addr) {
+        if (name == null) {
+            throw new IllegalArgumentException("Root name cannot be null");
+        }
+        checkAddr(addr, 1);
+        roots.put(name, addr);
+    }
+
+    public int getRoot(String name) {
+        Integer addr = roots.get(name);
+        return addr == null ? -1 : addr;
+    }
+
+    public void removeRoot(String name) {
+        roots.remove(name);
+    }
+
+    public Map<String, Integer> getRoots() {
+        return new LinkedHashMap<>(roots);
+    }
+
+    private static MemoryArena restoreMapped(Path path, ByteBuffer header) {
+        int storedCapacity = header.getInt(SNAPSHOT_CAPACITY_OFFSET);
+        MappedFileBackingStore mapped = MappedFileBackingStore.open(
+            path, (long) SNAPSHOT_HEADER_SIZE + storedCapacity, header.order()
+        );
+        MemoryArena arena = new MemoryArena(mapped, SNAPSHOT_HEADER_SIZE, storedCapacity);
+        arena.readSnapshotHeader(mapped, 0);
+        arena.persistent = true;
+        return arena;
+    }
+
+    private static ByteBuffer readSnapshotPrefix(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return null;
+            }
+            if (channel.size() < SNAPSHOT_HEADER_SIZE) {
+                throw new MemoryException("File " + path + " is too short to be an arena snapshot");
+            }
+            ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_OFFSET_OFFSET);
+            channel.read(header, 0);
+            int magic = header.getInt(0);
+            if (magic == Integer.reverseBytes(SNAPSHOT_MAGIC)) {
+                header.order(ByteOrder.LITTLE_ENDIAN);
+            } else if (magic != SNAPSHOT_MAGIC) {
+                throw new MemoryException("File " + path + " is not an arena snapshot");
+            }
+            if (header.getInt(4) < 1 || header.getInt(4) > SNAPSHOT_VERSION) {
+                throw new MemoryException("Unsupported arena snapshot version " + header.getInt(4) + " in " + path);
+            }
+            return header;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + path, e);
+        }
+    }
+
+    private void writeSnapshotHeader(BackingStore target, long at) {
+        target.putInt(at + 4, SNAPSHOT_VERSION);
+        target.putInt(at + SNAPSHOT_ORDER_OFFSET, order() == ByteOrder.BIG_ENDIAN ? 0 : 1);
+        target.putInt(at + SNAPSHOT_CAPACITY_OFFSET, capacity);
+        target.putInt(at + SNAPSHOT_OFFSET_OFFSET, offset);
+        target.putInt(at + SNAPSHOT_WASTE_OFFSET, alignmentWaste);
+        target.putInt(at + SNAPSHOT_FREE_BYTES_OFFSET, freeBytes);
+        target.putInt(at + SNAPSHOT_LARGE_HEAD_OFFSET, largeFreeHead);
+        for (int i = 0; i <= SMALL_BLOCK_LIMIT; i++) {
+            target.putInt(at + SNAPSHOT_SMALL_HEADS_OFFSET + (i * 4L), smallFreeHeads[i]);
+        }
+        
+        long pos = at + SNAPSHOT_ENTRIES_OFFSET;
+        long limit = at + SNAPSHOT_HEADER_SIZE;
+        List<MemoryRegion> snapshotRegions = getAllRegions();
+        for (MemoryRegion region : snapshotRegions) {
+            target.putInt(pos, region.getStartAddr());
+            target.putInt(pos + 4, region.getEndAddr());
+            target.putInt(pos + 8, region.used());
+            pos = writeSnapshotName(target, pos + 12, limit, region.getName());
+        }
+        for (Map.Entry<String, Integer> root : roots.entrySet()) {
+            target.putInt(pos, root.getValue());
+            pos = writeSnapshotName(target, pos + 4, limit, root.getKey());
+        }
+        target.putInt(at + SNAPSHOT_REGION_COUNT_OFFSET, snapshotRegions.size());
+        target.putInt(at + SNAPSHOT_ROOT_COUNT_OFFSET, roots.size());
+        target.putInt(at, SNAPSHOT_MAGIC);
+    }
+
+    private static long writeSnapshotName(BackingStore target, long pos, long limit, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (pos + 4 + bytes.length > limit) {
+            throw new MemoryException("Arena metadata does not fit in the " + SNAPSHOT_HEADER_SIZE + "-byte snapshot header");
+        }
+        target.putInt(pos, bytes.length);
+        target.putBytes(pos + 4, bytes, 0, bytes.length);
+        return pos + 4 + bytes.length;
+    }
+
+    private void readSnapshotHeader(BackingStore source, long at) {
+        highWater = highWaterMark();
+        offset = source.getInt(at + SNAPSHOT_OFFSET_OFFSET);
+        alignmentWaste = source.getInt(at + SNAPSHOT_WASTE_OFFSET);
+        freeBytes = source.getInt(at + SNAPSHOT_FREE_BYTES_OFFSET);
+        largeFreeHead = source.getInt(at + SNAPSHOT_LARGE_HEAD_OFFSET);
+        for (int i = 0; i <= SMALL_BLOCK_LIMIT; i++) {
+            smallFreeHeads[i] = source.getInt(at + SNAPSHOT_SMALL_HEADS_OFFSET + (i * 4L));
+        }
+        
+        int version = source.getInt(at + 4);
+        int regionCount = source.getInt(at + SNAPSHOT_REGION_COUNT_OFFSET);
+        int rootCount = source.getInt(at + SNAPSHOT_ROOT_COUNT_OFFSET);
+        long pos = at + SNAPSHOT_ENTRIES_OFFSET;
+        clearRegions();
+        for (int i = 0; i < regionCount; i++) {
+            int startAddr = source.getInt(pos);
+            int endAddr = source.getInt(pos + 4);
+            int used = endAddr - startAddr;
+            if (version >= SNAPSHOT_REGION_USED_VERSION) {
+                used = source.getInt(pos + 8);
+                pos += 4;
+            }
+            if (used < 0 || used > endAddr - startAddr) {
+                throw new MemoryException("Snapshot region at " + startAddr + " records " + used + " bytes in use");
+            }
+            MemoryRegion region = new MemoryRegion(this, startAddr, endAddr, readSnapshotName(source, pos + 8));
+            region.restoreUsed(used);
+            addRegion(region);
+            pos += 12 + source.getInt(pos + 8);
+        }
+        roots.clear();
+        for (int i = 0; i < rootCount; i++) {
+            roots.put(readSnapshotName(source, pos + 4), source.getInt(pos));
+            pos += 8 + source.getInt(pos + 4);
+        }
+    }
+
+    private static String readSnapshotName(BackingStore source, long pos) {
+        byte[] bytes = new byte[source.getInt(pos)];
+        source.getBytes(pos + 4, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public void putByte(int addr, byte x) {
+        checkAccess(addr, 1);
+        store.putByte(base + addr, x);
+    }
+
+    public byte getByte(int addr) {
+        checkAccess(addr, 1);
+        return store.getByte(base + addr);
+    }
+
+    public void putInt(int addr, int x) {
+        checkAccess(addr, 4);
+        store.putInt(base + addr, x);
+    }
+
+    public int getInt(int addr) {
+        checkAccess(addr, 4);
+        return store.getInt(base + addr);
+    }
+
+    public void putLong(int addr, long x) {
+        checkAccess(addr, 8);
+        store.putLong(base + addr, x);
+    }
+
+    public long getLong(int addr) {
+        checkAccess(addr, 8);
+        return store.getLong(base + addr);
+    }
+
+    public void putShort(int addr, short x) {
+        checkAccess(addr, 2);
+        store.putShort(base + addr, x);
+    }
+
+    public short getShort(int addr) {
+        checkAccess(addr, 2);
+        return store.getShort(base + addr);
+    }
+
+    public void putChar(int addr, char x) {
+        checkAccess(addr, 2);
+        store.putChar(base + addr, x);
+    }
+
+    public char getChar(int addr) {
+        checkAccess(addr, 2);
+        return store.getChar(base + addr);
+    }
+
+    public void putBoolean(int addr, boolean x) {
+        checkAccess(addr, 1);
+        store.putByte(base + addr, (byte) (x ? 1 : 0));
+    }
+
+    public boolean getBoolean(int addr) {
+        checkAccess(addr, 1);
+        return store.getByte(base + addr) == 1;
+    }
+
+    public void putFloat(int addr, float x) {
+        checkAccess(addr, 4);
+        store.putInt(base + addr, Float.floatToRawIntBits(x));
+    }
+
+    public float getFloat(int addr) {
+        checkAccess(addr, 4);
+        return Float.intBitsToFloat(store.getInt(base + addr));
+    }
+
+    public void putDouble(int addr, double x) {
+        checkAccess(addr, 8);
+        store.putLong(base + addr, Double.doubleToRawLongBits(x));
+    }
+
+    public double getDouble(int addr) {
+        checkAccess(addr, 8);
+        return Double.longBitsToDouble(store.getLong(base + addr));
+    }
+
+    public void copy(int src, int dst, int length) {
+        checkAccess(src, length);
+        checkAccess(dst, length);
+        store.copy(base + src, base + dst, length);
+    }
+
+    public void copyTo(int src, MemoryArena target, int dst, int length) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target arena cannot be null");
+        }
+        if (target.order() != order()) {
+            throw new IllegalArgumentException("Cannot copy between arenas with different byte orders");
+        }
+        if (length == 0) {
+            return;
+        }
+        MemorySegment.copy(slice(src, length), 0, target.slice(dst, length), 0, length);
+    }
+
+    public void fill(int addr, int length, byte value) {
+        checkAccess(addr, length);
+        store.fill(base + addr, length, value);
+    }
+
+    public int mismatch(int addrA, int addrB, int length) {
+        checkAccess(addrA, length);
+        checkAccess(addrB, length);
+        return (int) store.mismatch(base + addrA, base + addrB, length);
+    }
+
+    public int compare(int addrA, int addrB, int length) {
+        int index = mismatch(addrA, addrB, length);
+        if (index == -1) {
+            return 0;
+        }
+        return Integer.compare(store.getByte(base + addrA + index) & 0xFF, store.getByte(base + addrB + index) & 0xFF);
+    }
+
+    public void getBytes(int addr, byte[] dst, int dstIndex, int count) {
+        checkAccess(addr, count);
+        store.getBytes(base + addr, dst, dstIndex, count);
+    }
+
+    public void putBytes(int addr, byte[] src, int srcIndex, int count) {
+        checkAccess(addr, count);
+        store.putBytes(base + addr, src, srcIndex, count);
+    }
+
+    public void getChars(int addr, char[] dst, int dstIndex, int count) {
+        checkAccess(addr, count * 2);
+        store.getChars(base + addr, dst, dstIndex, count);
+    }
+
+    public void putChars(int addr, char[] src, int srcIndex, int count) {
+        checkAccess(addr, count * 2);
+        store.putChars(base + addr, src, srcIndex, count);
+    }
+
+    public void getInts(int addr, int[] dst, int dstIndex, int count) {
+        checkAccess(addr, count * 4);
+        store.getInts(base + addr, dst, dstIndex, count);
+    }
+
+    public void putInts(int addr, int[] src, int srcIndex, int count) {
+        checkAccess(addr, count * 4);
+        store.putInts(base + addr, src, srcIndex, count);
+    }
+
+    public void getLongs(int addr, long[] dst, int dstIndex, int count) {
+        checkAccess(addr, count * 8);
+        store.getLongs(base + addr, dst, dstIndex, count);
+    }
+
+    public void putLongs(int addr, long[] src, int srcIndex, int count) {
+        checkAccess(addr, count * 8);
+        store.putLongs(base + addr, src, srcIndex, count);
+    }
+
+    void checkAccess(int addr, int bytesNeeded) {
+        if (checked) {
+            if (addr < 0 || bytesNeeded > offset - addr) {
+                throw new InvalidAddressException(addr, bytesNeeded, offset, capacity());
+            }
+        } else if (windowed && (addr < 0 || bytesNeeded > capacity - addr)) {
+            throw new InvalidAddressException(addr, bytesNeeded, capacity, capacity());
+        }
+    }
+
+    public boolean checkAddr(int addr, int bytesNeeded) {
+        if (addr >= 0 && bytesNeeded <= offset - addr) {
+            return true;
+        }
+        throw new InvalidAddressException(addr, bytesNeeded, offset, capacity());
+    }
+
+    public int getAlignmentWaste() {
+        if (tlabSize > 0) {
+            int waste = sharedAlignmentWaste.get();
+            for (Tlab tlab : activeTlabs) {
+                waste += tlab.alignmentWaste;
+            }
+            return waste;
+        }
+        return alignmentWaste;
+    }
+
+    public void resetAlignmentWaste() {
+        alignmentWaste = 0;
+        if (tlabSize > 0) {
+            sharedAlignmentWaste.set(0);
+            for (Tlab tlab : activeTlabs) {
+                tlab.alignmentWaste = 0;
+            }
+        }
+    }
+
+    public MemoryRegion createRegion(int startAddr, int size, String name) {
+        if (startAddr < 0 || size < 0 || size > capacity - startAddr) {
+            throw new InvalidAddressException(startAddr, size, offset, capacity());
+        }
+        
+        MemoryRegion region = new MemoryRegion(this, startAddr, startAddr + size, name);
+        
+        if (tlabSize > 0) {
+            synchronized (regions) {
+                checkRegionOverlap(region);
+                reserveShared(startAddr, size);
+                addRegion(region);
+            }
+            return region;
+        }
+        checkRegionOverlap(region);
+        reserveRange(startAddr, size);
+        addRegion(region);
+        return region;
+    }
+
+    private void reserveRange(int start, int size) {
+        if (size == 0) {
+            return;
+        }
+        if (placeInChunk(start, size) != start) {
+            throw new IllegalArgumentException(
+                "Range [" + start + ", " + (start + size) + ") crosses a chunk boundary"
+            );
+        }
+        int end = start + size;
+        carveFreeRange(start, Math.min(end, offset));
+        if (end <= offset) {
+            return;
+        }
+        int gapStart = offset;
+        commitChunk(start, size);
+        offset = end;
+        if (start > gapStart) {
+            if (chunks == null) {
+                releaseBlock(gapStart, start - gapStart);
+            } else {
+                alignmentWaste += start - gapStart;
+            }
+        }
+        if (stats != null) {
+            stats.recordPeak(offset);
+        }
+    }
+
+    private void reserveShared(int start, int size) {
+        if (size == 0) {
+            return;
+        }
+        int end = start + size;
+        while (true) {
+            int current = (int) OFFSET.getVolatile(this);
+            if (end <= current) {
+                return;
+            }
+            if (OFFSET.compareAndSet(this, current, end)) {
+                sharedAlignmentWaste.addAndGet(Math.max(start - current, 0));
+                if (stats != null) {
+                    stats.recordPeak(end);
+                }
+                return;
+            }
+        }
+    }
+
+    private void carveFreeRange(int start, int end) {
+        boolean carved = true;
+        while (carved && freeBytes > 0 && start < end) {
+            carved = carveFreeBlock(start, end);
+        }
+    }
+
+    private boolean carveFreeBlock(int start, int end) {
+        for (int size = MIN_FREE_BLOCK; size <= SMALL_BLOCK_LIMIT; size++) {
+            int prev = NULL_BLOCK;
+            int current = smallFreeHeads[size];
+            while (current != NULL_BLOCK) {
+                int next = readLink(current);
+                if (current < end && current + size > start) {
+                    if (prev == NULL_BLOCK) {
+                        smallFreeHeads[size] = next;
+                    } else {
+                        writeLink(prev, next);
+                    }
+                    freeBytes -= size;
+                    releaseRemainders(current, size, start, end);
+                    return true;
+                }
+                prev = current;
+                current = next;
+            }
+        }
+        int prev = NULL_BLOCK;
+        int current = largeFreeHead;
+        while (current != NULL_BLOCK && current < end) {
+            int blockSize = readLink(current + LARGE_SIZE_OFFSET);
+            int next = readLink(current + LARGE_NEXT_OFFSET);
+            if (current + blockSize > start) {
+                setLargeNext(prev, next);
+                freeBytes -= blockSize;
+                releaseRemainders(current, blockSize, start, end);
+                return true;
+            }
+            prev = current;
+            current = next;
+        }
+        return false;
+    }
+
+    private void releaseRemainders(int blockAddr, int blockSize, int start, int end) {
+        if (blockAddr < start) {
+            releaseBlock(blockAddr, start - blockAddr);
+        }
+        if (blockAddr + blockSize > end) {
+            releaseBlock(end, blockAddr + blockSize - end);
+        }
+    }
+
+    public MemoryRegion createRegionAtOffset(int size, String name) {
+        if (tlabSize > 0) {
+            int startAddr = allocShared(size, 1);
+            MemoryRegion region = new MemoryRegion(this, startAddr, startAddr + size, name);
+            synchronized (regions) {
+                checkRegionOverlap(region);
+                addRegion(region);
+            }
+            return region;
+        }
+        int startAddr = placeInChunk(offset, size);
+        int endAddr = startAddr + size;
+        
+        if (endAddr > capacity) {
+            throw outOfMemory(size, remaining(), offset);
+        }
+        
+        MemoryRegion region = new MemoryRegion(this, startAddr, endAddr, name);
+        checkRegionOverlap(region);
+        addRegion(region);
+        commitChunk(startAddr, size);
+        alignmentWaste += startAddr - offset;
+        offset = endAddr;
+        if (stats != null) {
+            stats.recordAlloc(size);
+            stats.recordPeak(offset);
+        }
+        return region;
+    }
+
+    public MemoryRegion findRegion(int addr) {
+        Map.Entry<Integer, MemoryRegion> candidate = regionIndex.floorEntry(addr);
+        if (candidate != null && candidate.getValue().contains(addr)) {
+            return candidate.getValue();
+        }
+        return null;
+    }
+
+    public MemoryRegion findRegionForRange(int addr, int size) {
+        Map.Entry<Integer, MemoryRegion> candidate = regionIndex.floorEntry(addr);
+        if (candidate != null && candidate.getValue().containsRange(addr, size)) {
+            return candidate.getValue();
+        }
+        return null;
+    }
+
+    public MemoryRegion getRegion(String name) {
+        return regionsByName.get(name);
+    }
+
+    public int regionCount() {
+        synchronized (regions) {
+            return regions.size();
+        }
+    }
+
+    public List<MemoryRegion> getAllRegions() {
+        synchronized (regions) {
+            return new ArrayList<>(regions);
+        }
+    }
+
+    public void clearRegions() {
+        synchronized (regions) {
+            regions.clear();
+            regionIndex.clear();
+            regionsByName.clear();
+        }
+    }
+
+    private void addRegion(MemoryRegion region) {
+        synchronized (regions) {
+            regions.add(region);
+        }
+        if (region.getSize() > 0) {
+            regionIndex.put(region.getStartAddr(), region);
+        }
+        regionsByName.putIfAbsent(region.getName(), region);
+    }
+
+    private void checkNotInRegion(int addr, int size) {
+        if (regionIndex.isEmpty()) {
+            return;
+        }
+        Map.Entry<Integer, MemoryRegion> candidate = regionIndex.floorEntry(addr + size - 1);
+        if (candidate != null && candidate.getValue().getEndAddr() > addr) {
+            throw new IllegalArgumentException(
+                "Block at " + addr + " (" + size + " bytes) overlaps region " + candidate.getValue().getName()
+            );
+        }
+    }
+
+    private void checkRegionOverlap(MemoryRegion region) {
+        Map.Entry<Integer, MemoryRegion> below = regionIndex.floorEntry(region.getStartAddr());
+        if (below != null && region.overlaps(below.getValue())) {
+            throw new RuntimeException("Region overlaps with existing region: " + below.getValue());
+        }
+        Map.Entry<Integer, MemoryRegion> above = regionIndex.higherEntry(region.getStartAddr());
+        if (above != null && region.overlaps(above.getValue())) {
+            throw new RuntimeException("Region overlaps with existing region: " + above.getValue());
+        }
+    }
+
+    public boolean validateAddressInRegion(int addr, String regionName) {
+        MemoryRegion region = findRegion(addr);
+        if (region == null) {
+            return false;
+        }
+        return regionName == null || region.getName().equals(regionName);
+    }
+
+    private OutOfMemoryException outOfMemory(int size, int available, int currentOffset) {
+        if (stats != null) {
+            stats.recordOutOfMemory(size, available, capacity);
+        }
+        return new OutOfMemoryException(size, available, capacity(), currentOffset);
+    }
+
+    public void enableStats() {
+        if (stats == null) {
+            AllocationStats fresh = new AllocationStats();
+            fresh.recordPeak(allocatedBoundary());
+            stats = fresh;
+        }
+    }
+
+    public void disableStats() {
+        stats = null;
+    }
+
+    public boolean isStatsEnabled() {
+        return stats != null;
+    }
+
+    public void resetStats() {
+        AllocationStats current = stats;
+        if (current != null) {
+            current.clear(allocatedBoundary());
+        }
+    }
+
+    public ArenaStats getStats() {
+        Map<String, Integer> regionUsage = new LinkedHashMap<>();
+        for (MemoryRegion region : getAllRegions()) {
+            regionUsage.merge(region.getName(), regionUsage(region), Integer::sum);
+        }
+        return new ArenaStats(this, stats, regionUsage);
+    }
+
+    public int regionUsage(MemoryRegion region) {
+        return region.used() - region.freeBytes();
+    }
+
+    private static final class Tlab {
+        private final int generation;
+        private int top;
+        private int end;
+        private int alignmentWaste;
+
+        private Tlab(int generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package arena;
+
 public class MemoryException extends RuntimeException {
     public MemoryException(String message) {
         super(message);
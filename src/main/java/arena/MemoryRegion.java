@@ -0,0 +1,149 @@
+package arena;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class MemoryRegion {
+    private final int startAddr;
+    private final int endAddr;
+    private final String name;
+    private final MemoryArena owner;
+    private MemoryArena subArena;
+    private final TreeMap<Integer, MemoryRegion> subRegions = new TreeMap<>();
+
+    public MemoryRegion(int startAddr, int endAddr, String name) {
+        this(null, startAddr, endAddr, name);
+    }
+
+    MemoryRegion(MemoryArena owner, int startAddr, int endAddr, String name) {
+        if (startAddr < 0 || endAddr < startAddr) {
+            throw new IllegalArgumentException("Invalid region boundaries");
+        }
+        this.startAddr = startAddr;
+        this.endAddr = endAddr;
+        this.name = name != null ? name : "Unnamed";
+        this.owner = owner;
+    }
+
+    public boolean contains(int addr) {
+        return addr >= startAddr && addr < endAddr;
+    }
+
+    public boolean containsRange(int addr, int size) {
+        return addr >= startAddr && (addr + size) <= endAddr;
+    }
+
+    public int getStartAddr() {
+        return startAddr;
+    }
+
+    public int getEndAddr() {
+        return endAddr;
+    }
+
+    public int getSize() {
+        return endAddr - startAddr;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean overlaps(MemoryRegion other) {
+        return !(endAddr <= other.startAddr || startAddr >= other.endAddr);
+    }
+
+    public MemoryArena getOwner() {
+        return owner;
+    }
+
+    public MemoryArena subArena() {
+        if (subArena == null) {
+            if (owner == null) {
+                throw new IllegalStateException("Region " + name + " is not backed by an arena");
+            }
+            subArena = owner.window(startAddr, getSize());
+        }
+        return subArena;
+    }
+
+    public int alloc(int size) {
+        return startAddr + subArena().alloc(size);
+    }
+
+    public int allocAligned(int size, int alignment) {
+        return startAddr + subArena().allocAligned(size, alignment);
+    }
+
+    public void free(int addr, int size) {
+        subArena().free(toRegionAddr(addr), size);
+    }
+
+    public void reset() {
+        if (subArena != null) {
+            subArena.reset();
+        }
+        subRegions.clear();
+    }
+
+    public int used() {
+        return subArena == null ? 0 : subArena.used();
+    }
+
+    void restoreUsed(int used) {
+        if (used > 0) {
+            subArena().restoreBoundary(used);
+        }
+    }
+
+    public int freeBytes() {
+        return subArena == null ? 0 : subArena.freeBytes();
+    }
+
+    public int remaining() {
+        return getSize() - used();
+    }
+
+    public MemoryRegion createSubRegion(int size, String name) {
+        int start = alloc(size);
+        MemoryRegion region = new MemoryRegion(owner, start, start + size, name);
+        if (size > 0) {
+            subRegions.put(start, region);
+        }
+        return region;
+    }
+
+    public MemoryRegion findSubRegion(int addr) {
+        Map.Entry<Integer, MemoryRegion> candidate = subRegions.floorEntry(addr);
+        if (candidate == null || !candidate.getValue().contains(addr)) {
+            return null;
+        }
+        MemoryRegion nested = candidate.getValue().findSubRegion(addr);
+        return nested != null ? nested : candidate.getValue();
+    }
+
+    public List<MemoryRegion> getSubRegions() {
+        return new ArrayList<>(subRegions.values());
+    }
+
+    public int toOwnerAddr(int regionAddr) {
+        if (regionAddr < 0 || regionAddr > getSize()) {
+            throw new IllegalArgumentException("Offset " + regionAddr + " is outside region " + name);
+        }
+        return startAddr + regionAddr;
+    }
+
+    public int toRegionAddr(int ownerAddr) {
+        if (ownerAddr < startAddr || ownerAddr > endAddr) {
+            throw new IllegalArgumentException("Address " + ownerAddr + " is outside region " + name);
+        }
+        return ownerAddr - startAddr;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: [0x%X - 0x%X] (%d bytes)", name, startAddr, endAddr, getSize());
+    }
+}
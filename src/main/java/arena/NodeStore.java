@@ -1,11 +1,15 @@
+package arena;
+
 public class NodeStore {
     private final MemoryArena arena;
+    private final boolean checked;
     private static final int NODE_SIZE = 8;
     private static final int VALUE_OFFSET = 0;
     private static final int NEXT_OFFSET = 4;
 
     public NodeStore(MemoryArena arena) {
         this.arena = arena;
+        this.checked = arena.isChecked();
     }
 
     public int createNode(int val) {
@@ -43,6 +47,13 @@ public class NodeStore {
         return arena.getInt(nodeAddr + NEXT_OFFSET);
     }
 
+    public void freeNode(int nodeAddr) {
+        checkNodePtr(nodeAddr);
+        if (nodeAddr != -1) {
+            arena.free(nodeAddr, NODE_SIZE);
+        }
+    }
+
     public void printList(int headAddr) {
         if (headAddr == -1) {
             return;
@@ -59,13 +70,13 @@ public class NodeStore {
     }
 
     public boolean checkNodePtr(int ptr) {
-        if (ptr == -1) {
+        if (ptr == -1 || !checked) {
             return true;
         }
-        if (ptr >= 0 && ptr + NODE_SIZE <= arena.used()) {
+        if (ptr >= 0 && ptr + NODE_SIZE <= arena.allocatedBoundary()) {
             return true;
         }
-        throw new InvalidPointerException(ptr, NODE_SIZE, arena.used(), arena.capacity());
+        throw new InvalidPointerException(ptr, NODE_SIZE, arena.allocatedBoundary(), arena.capacity());
     }
 
     public int getNodeSize() {
@@ -0,0 +1,31 @@
+package arena;
+
+final class OpenAddressing {
+    static final int SLOT_SIZE = 8;
+
+    private OpenAddressing() {
+    }
+
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static void deleteSlot(MemoryArena arena, int slotsPtr, int mask, int hole,
+                           int hashOffset, int occupancyOffset, int emptyValue) {
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            int currentAddr = slotsPtr + (index * SLOT_SIZE);
+            if (arena.getInt(currentAddr + occupancyOffset) == emptyValue) {
+                break;
+            }
+            int ideal = mix(arena.getInt(currentAddr + hashOffset)) & mask;
+            if (((index - ideal) & mask) >= ((index - hole) & mask)) {
+                arena.putLong(slotsPtr + (hole * SLOT_SIZE), arena.getLong(currentAddr));
+                hole = index;
+            }
+        }
+        arena.putInt(slotsPtr + (hole * SLOT_SIZE) + occupancyOffset, emptyValue);
+    }
+}
@@ -1,3 +1,5 @@
+package arena;
+
 public class OutOfMemoryException extends MemoryException {
     private final int requestedSize;
     private final int available;
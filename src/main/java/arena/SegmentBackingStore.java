@@ -0,0 +1,174 @@
+package arena;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+public class SegmentBackingStore implements BackingStore {
+    private final Arena scope;
+    private final MemorySegment segment;
+    private final ByteOrder order;
+    private final ValueLayout.OfShort shortLayout;
+    private final ValueLayout.OfChar charLayout;
+    private final ValueLayout.OfInt intLayout;
+    private final ValueLayout.OfLong longLayout;
+
+    public SegmentBackingStore(long size, ByteOrder order) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        this.scope = Arena.ofShared();
+        this.segment = scope.allocate(size, Long.BYTES);
+        this.order = order;
+        this.shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(order);
+        this.charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(order);
+        this.intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(order);
+        this.longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(order);
+    }
+
+    protected SegmentBackingStore(Arena scope, MemorySegment segment, ByteOrder order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Byte order cannot be null");
+        }
+        this.scope = scope;
+        this.segment = segment;
+        this.order = order;
+        this.shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(order);
+        this.charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(order);
+        this.intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(order);
+        this.longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(order);
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return segment;
+    }
+
+    @Override
+    public long size() {
+        return segment.byteSize();
+    }
+
+    @Override
+    public ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public byte getByte(long offset) {
+        return segment.get(ValueLayout.JAVA_BYTE, offset);
+    }
+
+    @Override
+    public void putByte(long offset, byte x) {
+        segment.set(ValueLayout.JAVA_BYTE, offset, x);
+    }
+
+    @Override
+    public short getShort(long offset) {
+        return segment.get(shortLayout, offset);
+    }
+
+    @Override
+    public void putShort(long offset, short x) {
+        segment.set(shortLayout, offset, x);
+    }
+
+    @Override
+    public char getChar(long offset) {
+        return segment.get(charLayout, offset);
+    }
+
+    @Override
+    public void putChar(long offset, char x) {
+        segment.set(charLayout, offset, x);
+    }
+
+    @Override
+    public int getInt(long offset) {
+        return segment.get(intLayout, offset);
+    }
+
+    @Override
+    public void putInt(long offset, int x) {
+        segment.set(intLayout, offset, x);
+    }
+
+    @Override
+    public long getLong(long offset) {
+        return segment.get(longLayout, offset);
+    }
+
+    @Override
+    public void putLong(long offset, long x) {
+        segment.set(longLayout, offset, x);
+    }
+
+    @Override
+    public void copy(long srcOffset, long dstOffset, long length) {
+        MemorySegment.copy(segment, srcOffset, segment, dstOffset, length);
+    }
+
+    @Override
+    public void fill(long offset, long length, byte value) {
+        segment.asSlice(offset, length).fill(value);
+    }
+
+    @Override
+    public long mismatch(long offsetA, long offsetB, long length) {
+        return segment.asSlice(offsetA, length).mismatch(segment.asSlice(offsetB, length));
+    }
+
+    @Override
+    public void getBytes(long offset, byte[] dst, int dstIndex, int count) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putBytes(long offset, byte[] src, int srcIndex, int count) {
+        MemorySegment.copy(src, srcIndex, segment, ValueLayout.JAVA_BYTE, offset, count);
+    }
+
+    @Override
+    public void getChars(long offset, char[] dst, int dstIndex, int count) {
+        MemorySegment.copy(segment, charLayout, offset, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putChars(long offset, char[] src, int srcIndex, int count) {
+        MemorySegment.copy(src, srcIndex, segment, charLayout, offset, count);
+    }
+
+    @Override
+    public void getInts(long offset, int[] dst, int dstIndex, int count) {
+        MemorySegment.copy(segment, intLayout, offset, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putInts(long offset, int[] src, int srcIndex, int count) {
+        MemorySegment.copy(src, srcIndex, segment, intLayout, offset, count);
+    }
+
+    @Override
+    public void getLongs(long offset, long[] dst, int dstIndex, int count) {
+        MemorySegment.copy(segment, longLayout, offset, dst, dstIndex, count);
+    }
+
+    @Override
+    public void putLongs(long offset, long[] src, int srcIndex, int count) {
+        MemorySegment.copy(src, srcIndex, segment, longLayout, offset, count);
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
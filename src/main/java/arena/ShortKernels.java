@@ -0,0 +1,148 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class ShortKernels {
+    private static final ValueLayout.OfShort SHORT_BE = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfShort SHORT_LE = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private ShortKernels() {
+    }
+
+    static long sum(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ShortVectorKernels.sum(segment, offset, count, order)
+            : sumScalar(segment, offset, count, order);
+    }
+
+    static short min(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ShortVectorKernels.min(segment, offset, count, order)
+            : minScalar(segment, offset, count, order);
+    }
+
+    static short max(MemorySegment segment, long offset, int count, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ShortVectorKernels.max(segment, offset, count, order)
+            : maxScalar(segment, offset, count, order);
+    }
+
+    static int indexOf(MemorySegment segment, long offset, int count, short value, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ShortVectorKernels.indexOf(segment, offset, count, value, order)
+            : indexOfScalar(segment, offset, count, value, order);
+    }
+
+    static void fill(MemorySegment segment, long offset, int count, short value, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            ShortVectorKernels.fill(segment, offset, count, value, order);
+        } else {
+            fillScalar(segment, offset, count, value, order);
+        }
+    }
+
+    static void map(MemorySegment segment, long offset, int count, ElementOp op, short operand, ByteOrder order) {
+        if (Kernels.VECTORIZED) {
+            ShortVectorKernels.map(segment, offset, count, op, operand, order);
+        } else {
+            mapScalar(segment, offset, count, op, operand, order);
+        }
+    }
+
+    static int count(MemorySegment segment, long offset, int count, Comparison comparison, short operand, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ShortVectorKernels.count(segment, offset, count, comparison, operand, order)
+            : countScalar(segment, offset, count, comparison, operand, order);
+    }
+
+    static int filter(MemorySegment segment, long offset, int count, Comparison comparison, short operand,
+                      MemorySegment dst, long dstOffset, ByteOrder order) {
+        return Kernels.VECTORIZED
+            ? ShortVectorKernels.filter(segment, offset, count, comparison, operand, dst, dstOffset, order)
+            : filterScalar(segment, offset, count, comparison, operand, dst, dstOffset, order);
+    }
+
+    static long sumScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += segment.get(layout, offset + ((long) i * Short.BYTES));
+        }
+        return sum;
+    }
+
+    static short minScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        short min = Short.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = (short) Math.min(min, segment.get(layout, offset + ((long) i * Short.BYTES)));
+        }
+        return min;
+    }
+
+    static short maxScalar(MemorySegment segment, long offset, int count, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        short max = Short.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = (short) Math.max(max, segment.get(layout, offset + ((long) i * Short.BYTES)));
+        }
+        return max;
+    }
+
+    static int indexOfScalar(MemorySegment segment, long offset, int count, short value, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            if (segment.get(layout, offset + ((long) i * Short.BYTES)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void fillScalar(MemorySegment segment, long offset, int count, short value, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            segment.set(layout, offset + ((long) i * Short.BYTES), value);
+        }
+    }
+
+    static void mapScalar(MemorySegment segment, long offset, int count, ElementOp op, short operand, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        for (int i = 0; i < count; i++) {
+            long address = offset + ((long) i * Short.BYTES);
+            segment.set(layout, address, (short) op.apply(segment.get(layout, address), operand));
+        }
+    }
+
+    static int countScalar(MemorySegment segment, long offset, int count, Comparison comparison, short operand,
+                           ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (comparison.test(segment.get(layout, offset + ((long) i * Short.BYTES)), operand)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    static int filterScalar(MemorySegment segment, long offset, int count, Comparison comparison, short operand,
+                            MemorySegment dst, long dstOffset, ByteOrder order) {
+        ValueLayout.OfShort layout = layout(order);
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            short value = segment.get(layout, offset + ((long) i * Short.BYTES));
+            if (comparison.test(value, operand)) {
+                dst.set(layout, dstOffset + ((long) written * Short.BYTES), value);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static ValueLayout.OfShort layout(ByteOrder order) {
+        return order == ByteOrder.BIG_ENDIAN ? SHORT_BE : SHORT_LE;
+    }
+}
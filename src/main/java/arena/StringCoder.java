@@ -0,0 +1,39 @@
+package arena;
+
+public enum StringCoder {
+    LATIN1(1),
+    UTF16(2),
+    UTF8(0);
+
+    private static final StringCoder[] VALUES = values();
+
+    private final int bytesPerChar;
+
+    StringCoder(int bytesPerChar) {
+        this.bytesPerChar = bytesPerChar;
+    }
+
+    public boolean isFixedWidth() {
+        return bytesPerChar > 0;
+    }
+
+    public int bytesPerChar() {
+        return bytesPerChar;
+    }
+
+    public static StringCoder fromId(int id) {
+        if (id < 0 || id >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown string coder id: " + id);
+        }
+        return VALUES[id];
+    }
+
+    public static boolean canEncodeLatin1(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
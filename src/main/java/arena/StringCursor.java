@@ -0,0 +1,57 @@
+package arena;
+
+final class StringCursor {
+    private final MemoryArena arena;
+    private StringCoder coder;
+    private int pos;
+    private char pendingLow;
+
+    StringCursor(MemoryArena arena) {
+        this.arena = arena;
+    }
+
+    void reset(StringCoder coder, int pos) {
+        this.coder = coder;
+        this.pos = pos;
+        this.pendingLow = 0;
+    }
+
+    char next() {
+        switch (coder) {
+            case LATIN1:
+                return (char) (arena.getByte(pos++) & 0xFF);
+            case UTF16:
+                char c = arena.getChar(pos);
+                pos += 2;
+                return c;
+            default:
+                return nextUtf8();
+        }
+    }
+
+    private char nextUtf8() {
+        if (pendingLow != 0) {
+            char low = pendingLow;
+            pendingLow = 0;
+            return low;
+        }
+        int b0 = arena.getByte(pos++) & 0xFF;
+        if (b0 < 0x80) {
+            return (char) b0;
+        }
+        if (b0 < 0xE0) {
+            return (char) (((b0 & 0x1F) << 6) | (arena.getByte(pos++) & 0x3F));
+        }
+        if (b0 < 0xF0) {
+            int b1 = arena.getByte(pos++) & 0x3F;
+            int b2 = arena.getByte(pos++) & 0x3F;
+            return (char) (((b0 & 0x0F) << 12) | (b1 << 6) | b2);
+        }
+        int b1 = arena.getByte(pos++) & 0x3F;
+        int b2 = arena.getByte(pos++) & 0x3F;
+        int b3 = arena.getByte(pos++) & 0x3F;
+        int codePoint = ((b0 & 0x07) << 18) | (b1 << 12) | (b2 << 6) | b3;
+        pendingLow = Character.lowSurrogate(codePoint);
+        return Character.highSurrogate(codePoint);
+    }
+}
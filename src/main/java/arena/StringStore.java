@@ -0,0 +1,414 @@
+package arena;
+
+import java.nio.charset.StandardCharsets;
+
+public class StringStore {
+    private final MemoryArena arena;
+    private final boolean checked;
+    private static final int LENGTH_OFFSET = 0;
+    private static final int BYTE_LENGTH_OFFSET = 4;
+    private static final int CODER_OFFSET = 8;
+    private static final int DATA_OFFSET = 9;
+    private static final int INTERN_CAPACITY_OFFSET = 0;
+    private static final int INTERN_SIZE_OFFSET = 4;
+    private static final int INTERN_SLOTS_PTR_OFFSET = 8;
+    private static final int INTERN_HEADER_SIZE = 12;
+    private static final int SLOT_HASH_OFFSET = 0;
+    private static final int SLOT_ADDR_OFFSET = 4;
+    private static final int SLOT_SIZE = OpenAddressing.SLOT_SIZE;
+    private static final int EMPTY_SLOT = -1;
+    private static final int MIN_INTERN_CAPACITY = 16;
+    private static final double MAX_INTERN_LOAD_FACTOR = 0.75;
+    private static final String INTERN_ROOT = "StringStore.internTable";
+
+    public StringStore(MemoryArena arena) {
+        this.arena = arena;
+        this.checked = arena.isChecked();
+    }
+
+    public int createString(String s) {
+        if (s == null) {
+            throw new IllegalArgumentException("String cannot be null");
+        }
+        return createString(s, StringCoder.canEncodeLatin1(s) ? StringCoder.LATIN1 : StringCoder.UTF16);
+    }
+
+    public int createString(String s, StringCoder coder) {
+        if (s == null) {
+            throw new IllegalArgumentException("String cannot be null");
+        }
+        if (coder == null) {
+            throw new IllegalArgumentException("Coder cannot be null");
+        }
+        if (coder == StringCoder.LATIN1 && !StringCoder.canEncodeLatin1(s)) {
+            throw new IllegalArgumentException("String contains characters outside Latin-1");
+        }
+        
+        int length = s.length();
+        byte[] encoded = null;
+        int byteLength;
+        if (coder == StringCoder.UTF16) {
+            byteLength = length * 2;
+        } else {
+            encoded = s.getBytes(coder == StringCoder.LATIN1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            byteLength = encoded.length;
+        }
+        
+        int stringAddr = arena.alloc(DATA_OFFSET + byteLength);
+        arena.putInt(stringAddr + LENGTH_OFFSET, length);
+        arena.putInt(stringAddr + BYTE_LENGTH_OFFSET, byteLength);
+        arena.putByte(stringAddr + CODER_OFFSET, (byte) coder.ordinal());
+        if (encoded != null) {
+            arena.putBytes(stringAddr + DATA_OFFSET, encoded, 0, byteLength);
+        } else {
+            arena.putChars(stringAddr + DATA_OFFSET, s.toCharArray(), 0, length);
+        }
+        
+        return stringAddr;
+    }
+
+    public int copyTo(int stringAddr, StringStore target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target store cannot be null");
+        }
+        checkStringPtr(stringAddr);
+        int size = DATA_OFFSET + byteLengthAt(stringAddr);
+        
+        int copyAddr = target.arena.alloc(size);
+        arena.copyTo(stringAddr, target.arena, copyAddr, size);
+        
+        return copyAddr;
+    }
+
+    public String getString(int stringAddr) {
+        checkStringPtr(stringAddr);
+        int length = lengthAt(stringAddr);
+        
+        if (length == 0) {
+            return "";
+        }
+        
+        StringCoder coder = coderAt(stringAddr);
+        if (coder == StringCoder.UTF16) {
+            char[] chars = new char[length];
+            arena.getChars(stringAddr + DATA_OFFSET, chars, 0, length);
+            return new String(chars);
+        }
+        
+        byte[] bytes = new byte[byteLengthAt(stringAddr)];
+        arena.getBytes(stringAddr + DATA_OFFSET, bytes, 0, bytes.length);
+        return new String(bytes, coder == StringCoder.LATIN1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    public int getStringLength(int stringAddr) {
+        checkStringPtr(stringAddr);
+        return arena.getInt(stringAddr + LENGTH_OFFSET);
+    }
+
+    public int getByteLength(int stringAddr) {
+        checkStringPtr(stringAddr);
+        return arena.getInt(stringAddr + BYTE_LENGTH_OFFSET);
+    }
+
+    public StringCoder getCoder(int stringAddr) {
+        checkStringPtr(stringAddr);
+        return StringCoder.fromId(arena.getByte(stringAddr + CODER_OFFSET));
+    }
+
+    public char getCharAt(int stringAddr, int index) {
+        checkStringPtr(stringAddr);
+        int length = lengthAt(stringAddr);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for string of length " + length
+            );
+        }
+        
+        switch (coderAt(stringAddr)) {
+            case LATIN1:
+                return (char) (arena.getByte(stringAddr + DATA_OFFSET + index) & 0xFF);
+            case UTF16:
+                return arena.getChar(stringAddr + DATA_OFFSET + (index * 2));
+            default:
+                StringCursor cursor = cursor(stringAddr);
+                for (int i = 0; i < index; i++) {
+                    cursor.next();
+                }
+                return cursor.next();
+        }
+    }
+
+    public void setCharAt(int stringAddr, int index, char c) {
+        checkStringPtr(stringAddr);
+        int length = lengthAt(stringAddr);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for string of length " + length
+            );
+        }
+        
+        switch (coderAt(stringAddr)) {
+            case LATIN1:
+                if (c > 0xFF) {
+                    throw new IllegalArgumentException("Character '" + c + "' cannot be stored in a Latin-1 string");
+                }
+                arena.putByte(stringAddr + DATA_OFFSET + index, (byte) c);
+                break;
+            case UTF16:
+                arena.putChar(stringAddr + DATA_OFFSET + (index * 2), c);
+                break;
+            default:
+                throw new UnsupportedOperationException("Cannot modify characters of a UTF-8 string in place");
+        }
+    }
+
+    public boolean contentEquals(int stringAddrA, int stringAddrB) {
+        checkStringPtr(stringAddrA);
+        checkStringPtr(stringAddrB);
+        int length = lengthAt(stringAddrA);
+        if (length != lengthAt(stringAddrB)) {
+            return false;
+        }
+        if (coderAt(stringAddrA) == coderAt(stringAddrB)) {
+            int byteLength = byteLengthAt(stringAddrA);
+            return byteLength == byteLengthAt(stringAddrB)
+                && arena.mismatch(stringAddrA + DATA_OFFSET, stringAddrB + DATA_OFFSET, byteLength) == -1;
+        }
+        StringCursor cursorA = cursor(stringAddrA);
+        StringCursor cursorB = cursor(stringAddrB);
+        for (int i = 0; i < length; i++) {
+            if (cursorA.next() != cursorB.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean contentEquals(int stringAddr, CharSequence s) {
+        checkStringPtr(stringAddr);
+        int length = lengthAt(stringAddr);
+        if (s == null || length != s.length()) {
+            return false;
+        }
+        StringCursor cursor = cursor(stringAddr);
+        for (int i = 0; i < length; i++) {
+            if (cursor.next() != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int contentHash(int stringAddr) {
+        checkStringPtr(stringAddr);
+        int length = lengthAt(stringAddr);
+        StringCursor cursor = cursor(stringAddr);
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + cursor.next();
+        }
+        return hash;
+    }
+
+    public int intern(String s) {
+        if (s == null) {
+            throw new IllegalArgumentException("String cannot be null");
+        }
+        int tableAddr = ensureInternTable();
+        int hash = s.hashCode();
+        int slotAddr = probeIntern(tableAddr, hash, s, -1);
+        int existing = arena.getInt(slotAddr + SLOT_ADDR_OFFSET);
+        if (existing != EMPTY_SLOT) {
+            return existing;
+        }
+        int stringAddr = createString(s);
+        insertInterned(tableAddr, slotAddr, hash, stringAddr);
+        return stringAddr;
+    }
+
+    public int intern(int stringAddr) {
+        checkStringPtr(stringAddr);
+        int tableAddr = ensureInternTable();
+        int hash = contentHash(stringAddr);
+        int slotAddr = probeIntern(tableAddr, hash, null, stringAddr);
+        int existing = arena.getInt(slotAddr + SLOT_ADDR_OFFSET);
+        if (existing != EMPTY_SLOT) {
+            return existing;
+        }
+        insertInterned(tableAddr, slotAddr, hash, stringAddr);
+        return stringAddr;
+    }
+
+    public int findInterned(String s) {
+        int tableAddr = arena.getRoot(INTERN_ROOT);
+        if (s == null || tableAddr == -1) {
+            return -1;
+        }
+        int existing = arena.getInt(probeIntern(tableAddr, s.hashCode(), s, -1) + SLOT_ADDR_OFFSET);
+        return existing == EMPTY_SLOT ? -1 : existing;
+    }
+
+    public int internedCount() {
+        int tableAddr = arena.getRoot(INTERN_ROOT);
+        return tableAddr == -1 ? 0 : arena.getInt(tableAddr + INTERN_SIZE_OFFSET);
+    }
+
+    public void freeString(int stringAddr) {
+        checkStringPtr(stringAddr);
+        int tableAddr = arena.getRoot(INTERN_ROOT);
+        if (tableAddr != -1) {
+            removeInterned(tableAddr, stringAddr);
+        }
+        arena.free(stringAddr, DATA_OFFSET + byteLengthAt(stringAddr));
+    }
+
+    public void printString(int stringAddr) {
+        checkStringPtr(stringAddr);
+        String s = getString(stringAddr);
+        System.out.println("\"" + s + "\" (length: " + lengthAt(stringAddr) + ", " + coderAt(stringAddr) + ")");
+    }
+
+    public StringView view(int stringAddr) {
+        return new StringView(this, stringAddr);
+    }
+
+    private int lengthAt(int stringAddr) {
+        return arena.getInt(stringAddr + LENGTH_OFFSET);
+    }
+
+    private int byteLengthAt(int stringAddr) {
+        return arena.getInt(stringAddr + BYTE_LENGTH_OFFSET);
+    }
+
+    private StringCoder coderAt(int stringAddr) {
+        return StringCoder.fromId(arena.getByte(stringAddr + CODER_OFFSET));
+    }
+
+    int dataAddr(int stringAddr) {
+        return stringAddr + DATA_OFFSET;
+    }
+
+    MemoryArena arena() {
+        return arena;
+    }
+
+    private StringCursor cursor(int stringAddr) {
+        StringCursor cursor = new StringCursor(arena);
+        cursor.reset(coderAt(stringAddr), stringAddr + DATA_OFFSET);
+        return cursor;
+    }
+
+    private int ensureInternTable() {
+        int existing = arena.getRoot(INTERN_ROOT);
+        if (existing != -1) {
+            return existing;
+        }
+        int tableAddr = arena.alloc(INTERN_HEADER_SIZE);
+        arena.putInt(tableAddr + INTERN_CAPACITY_OFFSET, MIN_INTERN_CAPACITY);
+        arena.putInt(tableAddr + INTERN_SIZE_OFFSET, 0);
+        arena.putInt(tableAddr + INTERN_SLOTS_PTR_OFFSET, allocInternSlots(MIN_INTERN_CAPACITY));
+        arena.setRoot(INTERN_ROOT, tableAddr);
+        return tableAddr;
+    }
+
+    private int probeIntern(int tableAddr, int hash, CharSequence content, int contentAddr) {
+        int capacity = arena.getInt(tableAddr + INTERN_CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + INTERN_SLOTS_PTR_OFFSET);
+        int mask = capacity - 1;
+        
+        int index = OpenAddressing.mix(hash) & mask;
+        while (true) {
+            int slotAddr = slotsPtr + (index * SLOT_SIZE);
+            int stringAddr = arena.getInt(slotAddr + SLOT_ADDR_OFFSET);
+            if (stringAddr == EMPTY_SLOT) {
+                return slotAddr;
+            }
+            if (arena.getInt(slotAddr + SLOT_HASH_OFFSET) == hash) {
+                boolean equal = content != null
+                    ? contentEquals(stringAddr, content)
+                    : contentEquals(stringAddr, contentAddr);
+                if (equal) {
+                    return slotAddr;
+                }
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void insertInterned(int tableAddr, int slotAddr, int hash, int stringAddr) {
+        arena.putInt(slotAddr + SLOT_HASH_OFFSET, hash);
+        arena.putInt(slotAddr + SLOT_ADDR_OFFSET, stringAddr);
+        int size = arena.getInt(tableAddr + INTERN_SIZE_OFFSET) + 1;
+        arena.putInt(tableAddr + INTERN_SIZE_OFFSET, size);
+        int capacity = arena.getInt(tableAddr + INTERN_CAPACITY_OFFSET);
+        if (size > capacity * MAX_INTERN_LOAD_FACTOR) {
+            rehashInterned(tableAddr, capacity * 2);
+        }
+    }
+
+    private void removeInterned(int tableAddr, int stringAddr) {
+        int capacity = arena.getInt(tableAddr + INTERN_CAPACITY_OFFSET);
+        int slotsPtr = arena.getInt(tableAddr + INTERN_SLOTS_PTR_OFFSET);
+        int mask = capacity - 1;
+        
+        int hole = OpenAddressing.mix(contentHash(stringAddr)) & mask;
+        while (true) {
+            int slotString = arena.getInt(slotsPtr + (hole * SLOT_SIZE) + SLOT_ADDR_OFFSET);
+            if (slotString == EMPTY_SLOT) {
+                return;
+            }
+            if (slotString == stringAddr) {
+                break;
+            }
+            hole = (hole + 1) & mask;
+        }
+        
+        OpenAddressing.deleteSlot(arena, slotsPtr, mask, hole, SLOT_HASH_OFFSET, SLOT_ADDR_OFFSET, EMPTY_SLOT);
+        arena.putInt(tableAddr + INTERN_SIZE_OFFSET, arena.getInt(tableAddr + INTERN_SIZE_OFFSET) - 1);
+    }
+
+    private void rehashInterned(int tableAddr, int newCapacity) {
+        int oldCapacity = arena.getInt(tableAddr + INTERN_CAPACITY_OFFSET);
+        int oldSlotsPtr = arena.getInt(tableAddr + INTERN_SLOTS_PTR_OFFSET);
+        int newSlotsPtr = allocInternSlots(newCapacity);
+        int mask = newCapacity - 1;
+        
+        for (int i = 0; i < oldCapacity; i++) {
+            int oldAddr = oldSlotsPtr + (i * SLOT_SIZE);
+            int stringAddr = arena.getInt(oldAddr + SLOT_ADDR_OFFSET);
+            if (stringAddr == EMPTY_SLOT) {
+                continue;
+            }
+            int hash = arena.getInt(oldAddr + SLOT_HASH_OFFSET);
+            int index = OpenAddressing.mix(hash) & mask;
+            while (arena.getInt(newSlotsPtr + (index * SLOT_SIZE) + SLOT_ADDR_OFFSET) != EMPTY_SLOT) {
+                index = (index + 1) & mask;
+            }
+            int newAddr = newSlotsPtr + (index * SLOT_SIZE);
+            arena.putInt(newAddr + SLOT_HASH_OFFSET, hash);
+            arena.putInt(newAddr + SLOT_ADDR_OFFSET, stringAddr);
+        }
+        
+        arena.free(oldSlotsPtr, oldCapacity * SLOT_SIZE);
+        arena.putInt(tableAddr + INTERN_CAPACITY_OFFSET, newCapacity);
+        arena.putInt(tableAddr + INTERN_SLOTS_PTR_OFFSET, newSlotsPtr);
+    }
+
+    private int allocInternSlots(int capacity) {
+        int slotsPtr = arena.alloc(capacity * SLOT_SIZE);
+        arena.fill(slotsPtr, capacity * SLOT_SIZE, (byte) 0xFF);
+        return slotsPtr;
+    }
+
+    private void checkStringPtr(int ptr) {
+        if (!checked) {
+            return;
+        }
+        if (ptr < 0) {
+            throw new InvalidPointerException(ptr, DATA_OFFSET, arena.allocatedBoundary(), arena.capacity());
+        }
+        if (ptr + DATA_OFFSET > arena.allocatedBoundary()) {
+            throw new InvalidPointerException(ptr, DATA_OFFSET, arena.allocatedBoundary(), arena.capacity());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package arena;
+
+import java.nio.charset.StandardCharsets;
+
+public final class StringView implements CharSequence {
+    private final StringStore store;
+    private final MemoryArena arena;
+    private final StringCursor cursor;
+    private StringCoder coder;
+    private int dataAddr;
+    private int start;
+    private int length;
+    private int cursorIndex;
+    private char cursorChar;
+
+    StringView(StringStore store, int stringAddr) {
+        this.store = store;
+        this.arena = store.arena();
+        this.cursor = new StringCursor(arena);
+        bind(stringAddr);
+    }
+
+    private StringView(StringView parent, int start, int length) {
+        this.store = parent.store;
+        this.arena = parent.arena;
+        this.cursor = new StringCursor(arena);
+        this.coder = parent.coder;
+        this.dataAddr = parent.dataAddr;
+        this.start = start;
+        this.length = length;
+        this.cursorIndex = -1;
+    }
+
+    public StringView bind(int stringAddr) {
+        this.coder = store.getCoder(stringAddr);
+        this.dataAddr = store.dataAddr(stringAddr);
+        this.start = 0;
+        this.length = store.getStringLength(stringAddr);
+        this.cursorIndex = -1;
+        return this;
+    }
+
+    public StringCoder coder() {
+        return coder;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for string of length " + length
+            );
+        }
+        switch (coder) {
+            case LATIN1:
+                return (char) (arena.getByte(dataAddr + start + index) & 0xFF);
+            case UTF16:
+                return arena.getChar(dataAddr + ((start + index) * 2));
+            default:
+                return utf8CharAt(index);
+        }
+    }
+
+    private char utf8CharAt(int index) {
+        if (index == cursorIndex) {
+            return cursorChar;
+        }
+        if (cursorIndex < 0 || index < cursorIndex) {
+            cursor.reset(coder, dataAddr);
+            cursorIndex = -1;
+        }
+        char c = 0;
+        while (cursorIndex < index) {
+            c = cursor.next();
+            cursorIndex++;
+        }
+        cursorChar = c;
+        return c;
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + from + ", " + to + ") out of bounds for string of length " + length
+            );
+        }
+        if (!coder.isFixedWidth()) {
+            return toString().substring(from, to);
+        }
+        return new StringView(this, start + from, to - from);
+    }
+
+    public boolean contentEquals(CharSequence other) {
+        if (other == null || other.length() != length) {
+            return false;
+        }
+        if (other instanceof StringView) {
+            StringView view = (StringView) other;
+            if (view.coder == coder && coder.isFixedWidth() && view.arena == arena) {
+                int width = coder.bytesPerChar();
+                return arena.mismatch(dataAddr + (start * width), view.dataAddr + (view.start * width), length * width) == -1;
+            }
+        }
+        return regionMatches(0, other, 0, length);
+    }
+
+    public boolean startsWith(CharSequence prefix) {
+        return prefix.length() <= length && regionMatches(0, prefix, 0, prefix.length());
+    }
+
+    public boolean endsWith(CharSequence suffix) {
+        return suffix.length() <= length && regionMatches(length - suffix.length(), suffix, 0, suffix.length());
+    }
+
+    public int indexOf(char c) {
+        return indexOf(c, 0);
+    }
+
+    public int indexOf(char c, int fromIndex) {
+        if (coder == StringCoder.LATIN1 && c > 0xFF) {
+            return -1;
+        }
+        for (int i = Math.max(fromIndex, 0); i < length; i++) {
+            if (charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int indexOf(CharSequence target) {
+        return indexOf(target, 0);
+    }
+
+    public int indexOf(CharSequence target, int fromIndex) {
+        int targetLength = target.length();
+        if (targetLength == 0) {
+            return Math.min(Math.max(fromIndex, 0), length);
+        }
+        char first = target.charAt(0);
+        int last = length - targetLength;
+        for (int i = Math.max(fromIndex, 0); i <= last; i++) {
+            if (charAt(i) == first && regionMatches(i + 1, target, 1, targetLength - 1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean regionMatches(int offset, CharSequence other, int otherOffset, int count) {
+        if (offset < 0 || otherOffset < 0 || offset + count > length || otherOffset + count > other.length()) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (charAt(offset + i) != other.charAt(otherOffset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + charAt(i);
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof StringView && contentEquals((StringView) o);
+    }
+
+    @Override
+    public String toString() {
+        if (coder == StringCoder.LATIN1) {
+            byte[] bytes = new byte[length];
+            arena.getBytes(dataAddr + start, bytes, 0, length);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[length];
+        if (coder == StringCoder.UTF16) {
+            arena.getChars(dataAddr + (start * 2), chars, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[i] = charAt(i);
+            }
+        }
+        return new String(chars);
+    }
+}
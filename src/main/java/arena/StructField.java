@@ -0,0 +1,104 @@
+package arena;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+public final class StructField {
+    private static final MethodHandle ADD_OFFSET;
+
+    static {
+        try {
+            ADD_OFFSET = MethodHandles.lookup().findStatic(StructField.class, "addOffset",
+                MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String name;
+    private final ElementType type;
+    private final int index;
+    private final int offset;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    StructField(String name, ElementType type, int index, int offset) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+        this.offset = offset;
+        MethodHandle addOffset = MethodHandles.insertArguments(ADD_OFFSET, 1, offset);
+        this.getter = MethodHandles.filterArguments(arenaAccessor("get", type), 1, addOffset);
+        this.setter = MethodHandles.filterArguments(arenaAccessor("put", type), 1, addOffset);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public ElementType type() {
+        return type;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public MethodHandle getter() {
+        return getter;
+    }
+
+    public MethodHandle setter() {
+        return setter;
+    }
+
+    void requireType(ElementType expected) {
+        if (type != expected) {
+            throw new IllegalArgumentException("Field " + name + " holds " + type + " values, not " + expected);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + ":" + type + "@" + offset;
+    }
+
+    private static int addOffset(int structAddr, int offset) {
+        return structAddr + offset;
+    }
+
+    private static MethodHandle arenaAccessor(String prefix, ElementType type) {
+        Class<?> javaType = javaType(type);
+        String typeName = type.name().charAt(0) + type.name().substring(1).toLowerCase();
+        MethodType methodType = prefix.equals("get")
+            ? MethodType.methodType(javaType, int.class)
+            : MethodType.methodType(void.class, int.class, javaType);
+        try {
+            return MethodHandles.publicLookup().findVirtual(MemoryArena.class, prefix + typeName, methodType);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No arena accessor for " + type, e);
+        }
+    }
+
+    private static Class<?> javaType(ElementType type) {
+        switch (type) {
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            default:
+                return double.class;
+        }
+    }
+}
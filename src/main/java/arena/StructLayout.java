@@ -0,0 +1,118 @@
+package arena;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class StructLayout {
+    private final List<StructField> fields;
+    private final Map<String, StructField> byName;
+    private final int size;
+    private final int alignment;
+
+    private StructLayout(List<StructField> fields, int size, int alignment) {
+        this.fields = Collections.unmodifiableList(fields);
+        this.byName = new HashMap<>();
+        for (StructField field : fields) {
+            byName.put(field.name(), field);
+        }
+        this.size = size;
+        this.alignment = alignment;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int alignment() {
+        return alignment;
+    }
+
+    public int fieldCount() {
+        return fields.size();
+    }
+
+    public List<StructField> fields() {
+        return fields;
+    }
+
+    public StructField field(int index) {
+        if (index < 0 || index >= fields.size()) {
+            throw new IndexOutOfBoundsException(
+                "Field " + index + " out of bounds for layout with " + fields.size() + " fields"
+            );
+        }
+        return fields.get(index);
+    }
+
+    public StructField field(String name) {
+        StructField field = byName.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        }
+        return field;
+    }
+
+    public int offsetOf(String name) {
+        return field(name).offset();
+    }
+
+    @Override
+    public String toString() {
+        return "StructLayout" + fields + " size=" + size + " align=" + alignment;
+    }
+
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<ElementType> types = new ArrayList<>();
+        private boolean packed;
+
+        private Builder() {
+        }
+
+        public Builder field(String name, ElementType type) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Field name cannot be null or empty");
+            }
+            if (type == null) {
+                throw new IllegalArgumentException("Field type cannot be null");
+            }
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Duplicate field name: " + name);
+            }
+            names.add(name);
+            types.add(type);
+            return this;
+        }
+
+        public Builder packed() {
+            this.packed = true;
+            return this;
+        }
+
+        public StructLayout build() {
+            if (names.isEmpty()) {
+                throw new IllegalStateException("Struct layout needs at least one field");
+            }
+            List<StructField> fields = new ArrayList<>(names.size());
+            int offset = 0;
+            int alignment = 1;
+            for (int i = 0; i < names.size(); i++) {
+                ElementType type = types.get(i);
+                int fieldAlignment = packed ? 1 : type.size();
+                offset = (offset + fieldAlignment - 1) & -fieldAlignment;
+                fields.add(new StructField(names.get(i), type, i, offset));
+                offset += type.size();
+                alignment = Math.max(alignment, fieldAlignment);
+            }
+            int size = (offset + alignment - 1) & -alignment;
+            return new StructLayout(fields, size, alignment);
+        }
+    }
+}
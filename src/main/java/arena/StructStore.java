@@ -0,0 +1,181 @@
+package arena;
+
+public class StructStore {
+    private final MemoryArena arena;
+    private final StructLayout layout;
+    private final boolean checked;
+    private static final int ARRAY_LENGTH_OFFSET = 0;
+    private static final int ARRAY_DATA_OFFSET = 8;
+
+    public StructStore(MemoryArena arena, StructLayout layout) {
+        if (layout == null) {
+            throw new IllegalArgumentException("Struct layout cannot be null");
+        }
+        this.arena = arena;
+        this.layout = layout;
+        this.checked = arena.isChecked();
+    }
+
+    public StructLayout layout() {
+        return layout;
+    }
+
+    public int create() {
+        int structAddr = arena.allocAligned(layout.size(), layout.alignment());
+        
+        arena.fill(structAddr, layout.size(), (byte) 0);
+        
+        return structAddr;
+    }
+
+    public int createArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Array length cannot be negative");
+        }
+        
+        long dataBytes = (long) length * layout.size();
+        if (dataBytes > Integer.MAX_VALUE - ARRAY_DATA_OFFSET) {
+            throw new MemoryException(
+                "An array of " + length + " structs of " + layout.size() + " bytes does not fit in an arena"
+            );
+        }
+        int arrayAddr = arena.allocAligned(ARRAY_DATA_OFFSET + (int) dataBytes, Math.max(layout.alignment(), ARRAY_DATA_OFFSET));
+        
+        arena.putInt(arrayAddr + ARRAY_LENGTH_OFFSET, length);
+        arena.fill(arrayAddr + ARRAY_DATA_OFFSET, (int) dataBytes, (byte) 0);
+        
+        return arrayAddr;
+    }
+
+    public int getLength(int arrayAddr) {
+        checkStructPtr(arrayAddr, ARRAY_DATA_OFFSET);
+        return arena.getInt(arrayAddr + ARRAY_LENGTH_OFFSET);
+    }
+
+    public int elementAddr(int arrayAddr, int index) {
+        int length = getLength(arrayAddr);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for array of length " + length
+            );
+        }
+        return arrayAddr + ARRAY_DATA_OFFSET + (index * layout.size());
+    }
+
+    public void copy(int srcStructAddr, int dstStructAddr) {
+        checkStructPtr(srcStructAddr, layout.size());
+        checkStructPtr(dstStructAddr, layout.size());
+        arena.copy(srcStructAddr, dstStructAddr, layout.size());
+    }
+
+    public void free(int structAddr) {
+        checkStructPtr(structAddr, layout.size());
+        arena.free(structAddr, layout.size());
+    }
+
+    public void freeArray(int arrayAddr) {
+        int length = getLength(arrayAddr);
+        arena.free(arrayAddr, ARRAY_DATA_OFFSET + (length * layout.size()));
+    }
+
+    public byte getByte(int structAddr, StructField field) {
+        return arena.getByte(fieldAddr(structAddr, field, ElementType.BYTE));
+    }
+
+    public void setByte(int structAddr, StructField field, byte value) {
+        arena.putByte(fieldAddr(structAddr, field, ElementType.BYTE), value);
+    }
+
+    public short getShort(int structAddr, StructField field) {
+        return arena.getShort(fieldAddr(structAddr, field, ElementType.SHORT));
+    }
+
+    public void setShort(int structAddr, StructField field, short value) {
+        arena.putShort(fieldAddr(structAddr, field, ElementType.SHORT), value);
+    }
+
+    public int getInt(int structAddr, StructField field) {
+        return arena.getInt(fieldAddr(structAddr, field, ElementType.INT));
+    }
+
+    public void setInt(int structAddr, StructField field, int value) {
+        arena.putInt(fieldAddr(structAddr, field, ElementType.INT), value);
+    }
+
+    public long getLong(int structAddr, StructField field) {
+        return arena.getLong(fieldAddr(structAddr, field, ElementType.LONG));
+    }
+
+    public void setLong(int structAddr, StructField field, long value) {
+        arena.putLong(fieldAddr(structAddr, field, ElementType.LONG), value);
+    }
+
+    public float getFloat(int structAddr, StructField field) {
+        return arena.getFloat(fieldAddr(structAddr, field, ElementType.FLOAT));
+    }
+
+    public void setFloat(int structAddr, StructField field, float value) {
+        arena.putFloat(fieldAddr(structAddr, field, ElementType.FLOAT), value);
+    }
+
+    public double getDouble(int structAddr, StructField field) {
+        return arena.getDouble(fieldAddr(structAddr, field, ElementType.DOUBLE));
+    }
+
+    public void setDouble(int structAddr, StructField field, double value) {
+        arena.putDouble(fieldAddr(structAddr, field, ElementType.DOUBLE), value);
+    }
+
+    public void printStruct(int structAddr) {
+        checkStructPtr(structAddr, layout.size());
+        System.out.print("{");
+        for (int i = 0; i < layout.fieldCount(); i++) {
+            StructField field = layout.field(i);
+            System.out.print(field.name() + "=" + fieldString(structAddr + field.offset(), field.type()));
+            if (i < layout.fieldCount() - 1) {
+                System.out.print(", ");
+            }
+        }
+        System.out.println("}");
+    }
+
+    private int fieldAddr(int structAddr, StructField field, ElementType expected) {
+        if (field == null) {
+            throw new IllegalArgumentException("Field cannot be null");
+        }
+        if (checked) {
+            if (field.index() >= layout.fieldCount() || layout.field(field.index()) != field) {
+                throw new IllegalArgumentException("Field " + field.name() + " does not belong to this layout");
+            }
+            field.requireType(expected);
+            checkStructPtr(structAddr, layout.size());
+        }
+        return structAddr + field.offset();
+    }
+
+    private String fieldString(int addr, ElementType type) {
+        switch (type) {
+            case BYTE:
+                return Byte.toString(arena.getByte(addr));
+            case SHORT:
+                return Short.toString(arena.getShort(addr));
+            case INT:
+                return Integer.toString(arena.getInt(addr));
+            case LONG:
+                return Long.toString(arena.getLong(addr));
+            case FLOAT:
+                return Float.toString(arena.getFloat(addr));
+            default:
+                return Double.toString(arena.getDouble(addr));
+        }
+    }
+
+    private void checkStructPtr(int ptr, int size) {
+        if (!checked) {
+            return;
+        }
+        if (ptr < 0 || ptr + size > arena.allocatedBoundary()) {
+            throw new InvalidPointerException(ptr, size, arena.allocatedBoundary(), arena.capacity());
+        }
+    }
+}
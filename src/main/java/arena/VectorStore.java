@@ -0,0 +1,799 @@
+package arena;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+public class VectorStore {
+    private final MemoryArena arena;
+    private final boolean checked;
+    private static final int LENGTH_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int DATA_PTR_OFFSET = 8;
+    private static final int ELEMENT_TYPE_OFFSET = 12;
+    private static final int HEADER_SIZE = 16;
+    private static final double GROWTH_FACTOR = 1.5;
+
+    public VectorStore(MemoryArena arena) {
+        this.arena = arena;
+        this.checked = arena.isChecked();
+    }
+
+    public int createVector(int initialCapacity) {
+        return createVector(ElementType.INT, initialCapacity);
+    }
+
+    public int createVector(ElementType type, int initialCapacity) {
+        if (type == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        
+        int vectorAddr = arena.alloc(HEADER_SIZE);
+        arena.putInt(vectorAddr + LENGTH_OFFSET, 0);
+        arena.putInt(vectorAddr + CAPACITY_OFFSET, initialCapacity);
+        arena.putInt(vectorAddr + ELEMENT_TYPE_OFFSET, type.ordinal());
+        
+        int dataAddr = -1;
+        if (initialCapacity > 0) {
+            dataAddr = arena.alloc(byteSize(initialCapacity, type));
+        }
+        arena.putInt(vectorAddr + DATA_PTR_OFFSET, dataAddr);
+        
+        return vectorAddr;
+    }
+
+    public int copyTo(int vectorAddr, VectorStore target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target store cannot be null");
+        }
+        checkVectorPtr(vectorAddr);
+        ElementType type = typeOf(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        
+        int copyAddr = target.createVector(type, length);
+        if (length > 0) {
+            int dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+            arena.copyTo(dataPtr, target.arena, target.arena.getInt(copyAddr + DATA_PTR_OFFSET), length * type.size());
+        }
+        target.arena.putInt(copyAddr + LENGTH_OFFSET, length);
+        
+        return copyAddr;
+    }
+
+    public int getLength(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        return arena.getInt(vectorAddr + LENGTH_OFFSET);
+    }
+
+    public int getCapacity(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        return arena.getInt(vectorAddr + CAPACITY_OFFSET);
+    }
+
+    public int getDataPtr(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        return arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+    }
+
+    public ElementType getElementType(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        return typeOf(vectorAddr);
+    }
+
+    public void append(int vectorAddr, int value) {
+        arena.putInt(appendAddr(vectorAddr, ElementType.INT), value);
+    }
+
+    public int get(int vectorAddr, int index) {
+        return arena.getInt(elementAddr(vectorAddr, index, ElementType.INT));
+    }
+
+    public void set(int vectorAddr, int index, int value) {
+        arena.putInt(elementAddr(vectorAddr, index, ElementType.INT), value);
+    }
+
+    public void appendByte(int vectorAddr, byte value) {
+        arena.putByte(appendAddr(vectorAddr, ElementType.BYTE), value);
+    }
+
+    public byte getByte(int vectorAddr, int index) {
+        return arena.getByte(elementAddr(vectorAddr, index, ElementType.BYTE));
+    }
+
+    public void setByte(int vectorAddr, int index, byte value) {
+        arena.putByte(elementAddr(vectorAddr, index, ElementType.BYTE), value);
+    }
+
+    public void appendShort(int vectorAddr, short value) {
+        arena.putShort(appendAddr(vectorAddr, ElementType.SHORT), value);
+    }
+
+    public short getShort(int vectorAddr, int index) {
+        return arena.getShort(elementAddr(vectorAddr, index, ElementType.SHORT));
+    }
+
+    public void setShort(int vectorAddr, int index, short value) {
+        arena.putShort(elementAddr(vectorAddr, index, ElementType.SHORT), value);
+    }
+
+    public void appendLong(int vectorAddr, long value) {
+        arena.putLong(appendAddr(vectorAddr, ElementType.LONG), value);
+    }
+
+    public long getLong(int vectorAddr, int index) {
+        return arena.getLong(elementAddr(vectorAddr, index, ElementType.LONG));
+    }
+
+    public void setLong(int vectorAddr, int index, long value) {
+        arena.putLong(elementAddr(vectorAddr, index, ElementType.LONG), value);
+    }
+
+    public void appendFloat(int vectorAddr, float value) {
+        arena.putFloat(appendAddr(vectorAddr, ElementType.FLOAT), value);
+    }
+
+    public float getFloat(int vectorAddr, int index) {
+        return arena.getFloat(elementAddr(vectorAddr, index, ElementType.FLOAT));
+    }
+
+    public void setFloat(int vectorAddr, int index, float value) {
+        arena.putFloat(elementAddr(vectorAddr, index, ElementType.FLOAT), value);
+    }
+
+    public void appendDouble(int vectorAddr, double value) {
+        arena.putDouble(appendAddr(vectorAddr, ElementType.DOUBLE), value);
+    }
+
+    public double getDouble(int vectorAddr, int index) {
+        return arena.getDouble(elementAddr(vectorAddr, index, ElementType.DOUBLE));
+    }
+
+    public void setDouble(int vectorAddr, int index, double value) {
+        arena.putDouble(elementAddr(vectorAddr, index, ElementType.DOUBLE), value);
+    }
+
+    private int appendAddr(int vectorAddr, ElementType type) {
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, type);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        int capacity = arena.getInt(vectorAddr + CAPACITY_OFFSET);
+        
+        int dataPtr;
+        if (length >= capacity) {
+            dataPtr = grow(vectorAddr, type, length, capacity);
+        } else {
+            dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        }
+        if (dataPtr == -1) {
+            throw new RuntimeException("Vector data pointer is null");
+        }
+        
+        arena.putInt(vectorAddr + LENGTH_OFFSET, length + 1);
+        return dataPtr + (length * type.size());
+    }
+
+    private int elementAddr(int vectorAddr, int index, ElementType type) {
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, type);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of bounds for vector of length " + length
+            );
+        }
+        
+        int dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        if (dataPtr == -1) {
+            throw new RuntimeException("Vector data pointer is null");
+        }
+        return dataPtr + (index * type.size());
+    }
+
+    private int grow(int vectorAddr, ElementType type, int oldLength, int oldCapacity) {
+        int newCapacity = oldCapacity == 0 ? 1 : Math.min((int)(oldCapacity * GROWTH_FACTOR), maxCapacity(type));
+        if (newCapacity == oldCapacity) {
+            newCapacity = oldCapacity + 1;
+        }
+        return resize(vectorAddr, type, oldLength, oldCapacity, newCapacity);
+    }
+
+    private int ensureCapacity(int vectorAddr, ElementType type, int length, int minCapacity) {
+        int capacity = arena.getInt(vectorAddr + CAPACITY_OFFSET);
+        if (capacity >= minCapacity) {
+            return arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        }
+        int grown = capacity == 0 ? 1 : Math.min((int)(capacity * GROWTH_FACTOR), maxCapacity(type));
+        return resize(vectorAddr, type, length, capacity, Math.max(minCapacity, grown));
+    }
+
+    private int resize(int vectorAddr, ElementType type, int oldLength, int oldCapacity, int newCapacity) {
+        int elementSize = type.size();
+        int oldDataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        
+        int newBytes = byteSize(newCapacity, type);
+        
+        if (oldDataPtr != -1 && oldCapacity > 0
+                && arena.tryExtend(oldDataPtr, oldCapacity * elementSize, newBytes)) {
+            arena.putInt(vectorAddr + CAPACITY_OFFSET, newCapacity);
+            return oldDataPtr;
+        }
+        
+        int newDataPtr = arena.alloc(newBytes);
+        
+        if (oldDataPtr != -1 && oldLength > 0) {
+            arena.copy(oldDataPtr, newDataPtr, oldLength * elementSize);
+        }
+        if (oldDataPtr != -1 && oldCapacity > 0) {
+            arena.free(oldDataPtr, oldCapacity * elementSize);
+        }
+        
+        arena.putInt(vectorAddr + CAPACITY_OFFSET, newCapacity);
+        arena.putInt(vectorAddr + DATA_PTR_OFFSET, newDataPtr);
+        return newDataPtr;
+    }
+
+    private static int maxCapacity(ElementType type) {
+        return Integer.MAX_VALUE / type.size();
+    }
+
+    private static int byteSize(int count, ElementType type) {
+        if (count > maxCapacity(type)) {
+            throw new MemoryException(
+                "A vector of " + count + " " + type + " elements needs more than " + Integer.MAX_VALUE + " bytes"
+            );
+        }
+        return count * type.size();
+    }
+
+    private static int grownLength(int length, int added) {
+        if (added > Integer.MAX_VALUE - length) {
+            throw new MemoryException(
+                "Appending " + added + " elements to a vector of length " + length + " overflows its length"
+            );
+        }
+        return length + added;
+    }
+
+    public void reserve(int vectorAddr, int minCapacity) {
+        checkVectorPtr(vectorAddr);
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        int capacity = arena.getInt(vectorAddr + CAPACITY_OFFSET);
+        if (minCapacity > capacity) {
+            resize(vectorAddr, typeOf(vectorAddr), arena.getInt(vectorAddr + LENGTH_OFFSET), capacity, minCapacity);
+        }
+    }
+
+    public void shrinkToFit(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        int capacity = arena.getInt(vectorAddr + CAPACITY_OFFSET);
+        if (length == capacity) {
+            return;
+        }
+        int elementSize = typeOf(vectorAddr).size();
+        int dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        if (length == 0) {
+            arena.free(dataPtr, capacity * elementSize);
+            arena.putInt(vectorAddr + DATA_PTR_OFFSET, -1);
+        } else {
+            arena.free(dataPtr + (length * elementSize), (capacity - length) * elementSize);
+        }
+        arena.putInt(vectorAddr + CAPACITY_OFFSET, length);
+    }
+
+    public void appendAll(int vectorAddr, int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.INT);
+        if (values.length == 0) {
+            return;
+        }
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        int newLength = grownLength(length, values.length);
+        int dataPtr = ensureCapacity(vectorAddr, ElementType.INT, length, newLength);
+        arena.putInts(dataPtr + (length * ElementType.INT.size()), values, 0, values.length);
+        arena.putInt(vectorAddr + LENGTH_OFFSET, newLength);
+    }
+
+    public void appendAll(int vectorAddr, long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.LONG);
+        if (values.length == 0) {
+            return;
+        }
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        int newLength = grownLength(length, values.length);
+        int dataPtr = ensureCapacity(vectorAddr, ElementType.LONG, length, newLength);
+        arena.putLongs(dataPtr + (length * ElementType.LONG.size()), values, 0, values.length);
+        arena.putInt(vectorAddr + LENGTH_OFFSET, newLength);
+    }
+
+    public long sum(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = integralType(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        MemorySegment segment = dataRange(vectorAddr, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                return ByteKernels.sum(segment, 0, length, order);
+            case SHORT:
+                return ShortKernels.sum(segment, 0, length, order);
+            case INT:
+                return IntKernels.sum(segment, 0, length, order);
+            default:
+                return LongKernels.sum(segment, 0, length, order);
+        }
+    }
+
+    public double sumDouble(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = floatingType(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        MemorySegment data = dataRange(vectorAddr, type, length);
+        return type == ElementType.FLOAT
+            ? FloatKernels.sum(data, 0, length, arena.order())
+            : DoubleKernels.sum(data, 0, length, arena.order());
+    }
+
+    public int min(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.INT);
+        int length = requireElements(vectorAddr, "min");
+        return IntKernels.min(dataRange(vectorAddr, ElementType.INT, length), 0, length, arena.order());
+    }
+
+    public int max(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.INT);
+        int length = requireElements(vectorAddr, "max");
+        return IntKernels.max(dataRange(vectorAddr, ElementType.INT, length), 0, length, arena.order());
+    }
+
+    public long minLong(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = integralType(vectorAddr);
+        int length = requireElements(vectorAddr, "min");
+        MemorySegment segment = dataRange(vectorAddr, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                return ByteKernels.min(segment, 0, length, order);
+            case SHORT:
+                return ShortKernels.min(segment, 0, length, order);
+            case INT:
+                return IntKernels.min(segment, 0, length, order);
+            default:
+                return LongKernels.min(segment, 0, length, order);
+        }
+    }
+
+    public long maxLong(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = integralType(vectorAddr);
+        int length = requireElements(vectorAddr, "max");
+        MemorySegment segment = dataRange(vectorAddr, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                return ByteKernels.max(segment, 0, length, order);
+            case SHORT:
+                return ShortKernels.max(segment, 0, length, order);
+            case INT:
+                return IntKernels.max(segment, 0, length, order);
+            default:
+                return LongKernels.max(segment, 0, length, order);
+        }
+    }
+
+    public double minDouble(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = floatingType(vectorAddr);
+        int length = requireElements(vectorAddr, "min");
+        MemorySegment data = dataRange(vectorAddr, type, length);
+        return type == ElementType.FLOAT
+            ? FloatKernels.min(data, 0, length, arena.order())
+            : DoubleKernels.min(data, 0, length, arena.order());
+    }
+
+    public double maxDouble(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = floatingType(vectorAddr);
+        int length = requireElements(vectorAddr, "max");
+        MemorySegment data = dataRange(vectorAddr, type, length);
+        return type == ElementType.FLOAT
+            ? FloatKernels.max(data, 0, length, arena.order())
+            : DoubleKernels.max(data, 0, length, arena.order());
+    }
+
+    public int indexOf(int vectorAddr, int value) {
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.INT);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return -1;
+        }
+        return IntKernels.indexOf(dataRange(vectorAddr, ElementType.INT, length), 0, length, value, arena.order());
+    }
+
+    public int indexOfLong(int vectorAddr, long value) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = integralType(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0 || !type.fits(value)) {
+            return -1;
+        }
+        MemorySegment segment = dataRange(vectorAddr, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                return ByteKernels.indexOf(segment, 0, length, (byte) value, order);
+            case SHORT:
+                return ShortKernels.indexOf(segment, 0, length, (short) value, order);
+            case INT:
+                return IntKernels.indexOf(segment, 0, length, (int) value, order);
+            default:
+                return LongKernels.indexOf(segment, 0, length, value, order);
+        }
+    }
+
+    public int indexOfDouble(int vectorAddr, double value) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = floatingType(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return -1;
+        }
+        MemorySegment data = dataRange(vectorAddr, type, length);
+        if (type == ElementType.FLOAT) {
+            return (float) value == value
+                ? FloatKernels.indexOf(data, 0, length, (float) value, arena.order())
+                : -1;
+        }
+        return DoubleKernels.indexOf(data, 0, length, value, arena.order());
+    }
+
+    public void fill(int vectorAddr, int value) {
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.INT);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length > 0) {
+            IntKernels.fill(dataRange(vectorAddr, ElementType.INT, length), 0, length, value, arena.order());
+        }
+    }
+
+    public void fillLong(int vectorAddr, long value) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = integralType(vectorAddr);
+        requireFits(type, value);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return;
+        }
+        MemorySegment segment = dataRange(vectorAddr, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                ByteKernels.fill(segment, 0, length, (byte) value, order);
+                break;
+            case SHORT:
+                ShortKernels.fill(segment, 0, length, (short) value, order);
+                break;
+            case INT:
+                IntKernels.fill(segment, 0, length, (int) value, order);
+                break;
+            default:
+                LongKernels.fill(segment, 0, length, value, order);
+        }
+    }
+
+    public void fillDouble(int vectorAddr, double value) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = floatingType(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return;
+        }
+        MemorySegment data = dataRange(vectorAddr, type, length);
+        if (type == ElementType.FLOAT) {
+            FloatKernels.fill(data, 0, length, (float) value, arena.order());
+        } else {
+            DoubleKernels.fill(data, 0, length, value, arena.order());
+        }
+    }
+
+    public void map(int vectorAddr, ElementOp op, int operand) {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        checkVectorPtr(vectorAddr);
+        requireType(vectorAddr, ElementType.INT);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length > 0) {
+            IntKernels.map(dataRange(vectorAddr, ElementType.INT, length), 0, length, op, operand, arena.order());
+        }
+    }
+
+    public void mapLong(int vectorAddr, ElementOp op, long operand) {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        checkVectorPtr(vectorAddr);
+        ElementType type = integralType(vectorAddr);
+        requireFits(type, operand);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return;
+        }
+        MemorySegment segment = dataRange(vectorAddr, type, length);
+        ByteOrder order = arena.order();
+        switch (type) {
+            case BYTE:
+                ByteKernels.map(segment, 0, length, op, (byte) operand, order);
+                break;
+            case SHORT:
+                ShortKernels.map(segment, 0, length, op, (short) operand, order);
+                break;
+            case INT:
+                IntKernels.map(segment, 0, length, op, (int) operand, order);
+                break;
+            default:
+                LongKernels.map(segment, 0, length, op, operand, order);
+        }
+    }
+
+    public void mapDouble(int vectorAddr, ElementOp op, double operand) {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        if (op.isBitwise()) {
+            throw new IllegalArgumentException(op + " is not defined for floating-point elements");
+        }
+        checkVectorPtr(vectorAddr);
+        ElementType type = floatingType(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return;
+        }
+        MemorySegment data = dataRange(vectorAddr, type, length);
+        if (type == ElementType.FLOAT) {
+            FloatKernels.map(data, 0, length, op, (float) operand, arena.order());
+        } else {
+            DoubleKernels.map(data, 0, length, op, operand, arena.order());
+        }
+    }
+
+    public int filterInto(int srcVectorAddr, Comparison comparison, int operand, int dstVectorAddr) {
+        checkFilter(srcVectorAddr, comparison, dstVectorAddr);
+        requireType(srcVectorAddr, ElementType.INT);
+        requireType(dstVectorAddr, ElementType.INT);
+        int length = arena.getInt(srcVectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        int matches = IntKernels.count(dataRange(srcVectorAddr, ElementType.INT, length), 0, length,
+            comparison, operand, arena.order());
+        if (matches == 0) {
+            return 0;
+        }
+        
+        int dstLength = arena.getInt(dstVectorAddr + LENGTH_OFFSET);
+        int dstData = ensureCapacity(dstVectorAddr, ElementType.INT, dstLength, dstLength + matches);
+        MemorySegment dst = arena.slice(dstData + (dstLength * ElementType.INT.size()), matches * ElementType.INT.size());
+        IntKernels.filter(dataRange(srcVectorAddr, ElementType.INT, length), 0, length, comparison, operand,
+            dst, 0, arena.order());
+        arena.putInt(dstVectorAddr + LENGTH_OFFSET, dstLength + matches);
+        return matches;
+    }
+
+    public int filterIntoLong(int srcVectorAddr, Comparison comparison, long operand, int dstVectorAddr) {
+        checkFilter(srcVectorAddr, comparison, dstVectorAddr);
+        ElementType type = integralType(srcVectorAddr);
+        requireType(dstVectorAddr, type);
+        requireFits(type, operand);
+        int length = arena.getInt(srcVectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        ByteOrder order = arena.order();
+        MemorySegment srcData = dataRange(srcVectorAddr, type, length);
+        int matches;
+        switch (type) {
+            case BYTE:
+                matches = ByteKernels.count(srcData, 0, length, comparison, (byte) operand, order);
+                break;
+            case SHORT:
+                matches = ShortKernels.count(srcData, 0, length, comparison, (short) operand, order);
+                break;
+            case INT:
+                matches = IntKernels.count(srcData, 0, length, comparison, (int) operand, order);
+                break;
+            default:
+                matches = LongKernels.count(srcData, 0, length, comparison, operand, order);
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        
+        int dstLength = arena.getInt(dstVectorAddr + LENGTH_OFFSET);
+        int dstData = ensureCapacity(dstVectorAddr, type, dstLength, dstLength + matches);
+        srcData = dataRange(srcVectorAddr, type, length);
+        MemorySegment dst = arena.slice(dstData + (dstLength * type.size()), matches * type.size());
+        switch (type) {
+            case BYTE:
+                ByteKernels.filter(srcData, 0, length, comparison, (byte) operand, dst, 0, order);
+                break;
+            case SHORT:
+                ShortKernels.filter(srcData, 0, length, comparison, (short) operand, dst, 0, order);
+                break;
+            case INT:
+                IntKernels.filter(srcData, 0, length, comparison, (int) operand, dst, 0, order);
+                break;
+            default:
+                LongKernels.filter(srcData, 0, length, comparison, operand, dst, 0, order);
+        }
+        arena.putInt(dstVectorAddr + LENGTH_OFFSET, dstLength + matches);
+        return matches;
+    }
+
+    public int filterIntoDouble(int srcVectorAddr, Comparison comparison, double operand, int dstVectorAddr) {
+        checkFilter(srcVectorAddr, comparison, dstVectorAddr);
+        ElementType type = floatingType(srcVectorAddr);
+        requireType(dstVectorAddr, type);
+        int length = arena.getInt(srcVectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            return 0;
+        }
+        ByteOrder order = arena.order();
+        MemorySegment srcData = dataRange(srcVectorAddr, type, length);
+        int matches = type == ElementType.FLOAT
+            ? FloatKernels.count(srcData, 0, length, comparison, (float) operand, order)
+            : DoubleKernels.count(srcData, 0, length, comparison, operand, order);
+        if (matches == 0) {
+            return 0;
+        }
+        
+        int dstLength = arena.getInt(dstVectorAddr + LENGTH_OFFSET);
+        int dstData = ensureCapacity(dstVectorAddr, type, dstLength, dstLength + matches);
+        srcData = dataRange(srcVectorAddr, type, length);
+        MemorySegment dst = arena.slice(dstData + (dstLength * type.size()), matches * type.size());
+        if (type == ElementType.FLOAT) {
+            FloatKernels.filter(srcData, 0, length, comparison, (float) operand, dst, 0, order);
+        } else {
+            DoubleKernels.filter(srcData, 0, length, comparison, operand, dst, 0, order);
+        }
+        arena.putInt(dstVectorAddr + LENGTH_OFFSET, dstLength + matches);
+        return matches;
+    }
+
+    private void checkFilter(int srcVectorAddr, Comparison comparison, int dstVectorAddr) {
+        if (comparison == null) {
+            throw new IllegalArgumentException("Comparison cannot be null");
+        }
+        checkVectorPtr(srcVectorAddr);
+        checkVectorPtr(dstVectorAddr);
+    }
+
+    private ElementType typeOf(int vectorAddr) {
+        return ElementType.fromId(arena.getInt(vectorAddr + ELEMENT_TYPE_OFFSET));
+    }
+
+    private void requireType(int vectorAddr, ElementType expected) {
+        ElementType type = typeOf(vectorAddr);
+        if (type != expected) {
+            throw new IllegalArgumentException("Vector holds " + type + " elements, not " + expected);
+        }
+    }
+
+    private ElementType integralType(int vectorAddr) {
+        ElementType type = typeOf(vectorAddr);
+        if (!type.isIntegral()) {
+            throw new IllegalArgumentException("Vector holds " + type + " elements, not an integral type");
+        }
+        return type;
+    }
+
+    private ElementType floatingType(int vectorAddr) {
+        ElementType type = typeOf(vectorAddr);
+        if (type.isIntegral()) {
+            throw new IllegalArgumentException("Vector holds " + type + " elements, not a floating-point type");
+        }
+        return type;
+    }
+
+    private static void requireFits(ElementType type, long value) {
+        if (!type.fits(value)) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in a " + type + " element");
+        }
+    }
+
+    private int requireElements(int vectorAddr, String operation) {
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        if (length == 0) {
+            throw new IllegalStateException("Cannot compute " + operation + " of an empty vector");
+        }
+        return length;
+    }
+
+    private MemorySegment dataRange(int vectorAddr, ElementType type, int length) {
+        int dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        if (dataPtr == -1) {
+            throw new RuntimeException("Vector data pointer is null");
+        }
+        return arena.slice(dataPtr, length * type.size());
+    }
+
+    public void clear(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        arena.putInt(vectorAddr + LENGTH_OFFSET, 0);
+    }
+
+    public void freeVector(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        int capacity = arena.getInt(vectorAddr + CAPACITY_OFFSET);
+        int dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        if (dataPtr != -1 && capacity > 0) {
+            arena.free(dataPtr, capacity * typeOf(vectorAddr).size());
+        }
+        arena.free(vectorAddr, HEADER_SIZE);
+    }
+
+    public void printVector(int vectorAddr) {
+        checkVectorPtr(vectorAddr);
+        ElementType type = typeOf(vectorAddr);
+        int length = arena.getInt(vectorAddr + LENGTH_OFFSET);
+        int dataPtr = arena.getInt(vectorAddr + DATA_PTR_OFFSET);
+        System.out.print("[");
+        for (int i = 0; i < length; i++) {
+            System.out.print(elementString(type, dataPtr + (i * type.size())));
+            if (i < length - 1) {
+                System.out.print(", ");
+            }
+        }
+        System.out.println("] (capacity: " + getCapacity(vectorAddr) + ")");
+    }
+
+    private String elementString(ElementType type, int addr) {
+        switch (type) {
+            case BYTE:
+                return Byte.toString(arena.getByte(addr));
+            case SHORT:
+                return Short.toString(arena.getShort(addr));
+            case INT:
+                return Integer.toString(arena.getInt(addr));
+            case LONG:
+                return Long.toString(arena.getLong(addr));
+            case FLOAT:
+                return Float.toString(arena.getFloat(addr));
+            default:
+                return Double.toString(arena.getDouble(addr));
+        }
+    }
+
+    private void checkVectorPtr(int ptr) {
+        if (!checked) {
+            return;
+        }
+        if (ptr < 0) {
+            throw new InvalidPointerException(ptr, HEADER_SIZE, arena.allocatedBoundary(), arena.capacity());
+        }
+        if (ptr + HEADER_SIZE > arena.allocatedBoundary()) {
+            throw new InvalidPointerException(ptr, HEADER_SIZE, arena.allocatedBoundary(), arena.capacity());
+        }
+    }
+}